@@ -0,0 +1,65 @@
+package com.dajham.bankcore.benchmark;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.infrastructure.persistence.mapper.AccountMapper;
+import com.dajham.bankcore.infrastructure.persistence.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de los objetos que atraviesan cada transferencia: construir una
+ * {@link Transaction} (incluye generar su código de referencia) y convertir
+ * cuentas y transacciones de dominio a entidad JPA y de vuelta. Usar con
+ * {@code -prof gc} para ver la asignación por operación.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainMappingBenchmark {
+
+    private final AccountMapper accountMapper = new AccountMapper();
+    private final TransactionMapper transactionMapper = new TransactionMapper();
+
+    private Account account;
+    private Transaction transaction;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        account = new Account(1L, "ACC-12345678-ABCDEF", Money.of("1500.25"), 7L);
+        account.setVersion(3L);
+        amount = Money.of("12.34");
+        transaction = new Transaction(1L, 2L, amount);
+        transaction.setId(99L);
+    }
+
+    @Benchmark
+    public Transaction newTransaction() {
+        return new Transaction(1L, 2L, amount);
+    }
+
+    @Benchmark
+    public Account accountRoundTrip() {
+        return accountMapper.toDomain(accountMapper.toEntity(account));
+    }
+
+    @Benchmark
+    public Transaction transactionRoundTrip() {
+        return transactionMapper.toDomain(transactionMapper.toEntity(transaction));
+    }
+}
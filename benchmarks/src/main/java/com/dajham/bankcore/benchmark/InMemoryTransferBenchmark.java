@@ -0,0 +1,86 @@
+package com.dajham.bankcore.benchmark;
+
+import com.dajham.bankcore.application.dto.TransferRequest;
+import com.dajham.bankcore.application.service.TransferService;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryAccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryJournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionManager;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendimiento de {@link TransferService} sobre los adaptadores en memoria, sin
+ * Spring ni base de datos. Cada operación es una transferencia completa dentro
+ * de una transacción, reintentada si pierde la carrera de versiones; con pocas
+ * cuentas domina la contención y con muchas el coste del propio servicio.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+// Cada transferencia confirmada queda en memoria: heap fijo para que el
+// crecimiento no se confunda con el coste de la operación
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Threads(8)
+@State(Scope.Benchmark)
+public class InMemoryTransferBenchmark {
+
+    @Param({ "16", "100000" })
+    private int accounts;
+
+    @Param({ "64" })
+    private int stripes;
+
+    private TransferService transferService;
+    private TransactionTemplate transactionTemplate;
+    private long[] accountIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryAccountRepositoryAdapter accountRepository = new InMemoryAccountRepositoryAdapter(stripes);
+        transferService = new TransferService(accountRepository, new InMemoryTransactionRepositoryAdapter(stripes),
+                new InMemoryJournalRepositoryAdapter());
+        transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+        accountIds = new long[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountIds[i] = accountRepository.save(
+                    new Account("ACC-" + i, Money.of("1000000000.00"), 1L)).getId();
+        }
+    }
+
+    @Benchmark
+    public void transfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(accounts);
+        int target = (source + 1 + random.nextInt(accounts - 1)) % accounts;
+        TransferRequest request = new TransferRequest(accountIds[source], accountIds[target], BigDecimal.ONE);
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> transferService.transfer(request));
+                return;
+            } catch (OptimisticLockingFailureException ex) {
+                // Reintento con las versiones actuales
+            }
+        }
+    }
+}
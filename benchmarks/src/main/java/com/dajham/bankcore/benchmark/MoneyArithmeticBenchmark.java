@@ -0,0 +1,68 @@
+package com.dajham.bankcore.benchmark;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de las operaciones de saldo del dominio: un depósito, una comprobación
+ * de saldo y un retiro por operación. Compara {@link Account} sobre
+ * {@link Money} con la misma lógica sobre {@link BigDecimal}, como estaba antes
+ * el dominio. Usar con {@code -prof gc} para ver la asignación por operación.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyArithmeticBenchmark {
+
+    private Account account;
+    private Money amount;
+
+    private BigDecimal decimalBalance;
+    private BigDecimal decimalAmount;
+
+    @Setup
+    public void setUp() {
+        account = new Account(1L, "ACC-BENCH", Money.of("1000000.00"), 1L);
+        amount = Money.of("12.34");
+        decimalBalance = new BigDecimal("1000000.00");
+        decimalAmount = new BigDecimal("12.34");
+    }
+
+    @Benchmark
+    public boolean money() {
+        account.deposit(amount);
+        boolean sufficient = account.hasSufficientBalance(amount);
+        account.withdraw(amount);
+        return sufficient;
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        if (decimalAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException();
+        }
+        decimalBalance = decimalBalance.add(decimalAmount);
+        boolean sufficient = decimalBalance.compareTo(decimalAmount) >= 0;
+        if (decimalAmount.compareTo(BigDecimal.ZERO) <= 0 || decimalBalance.compareTo(decimalAmount) < 0) {
+            throw new IllegalArgumentException();
+        }
+        decimalBalance = decimalBalance.subtract(decimalAmount);
+        return sufficient;
+    }
+}
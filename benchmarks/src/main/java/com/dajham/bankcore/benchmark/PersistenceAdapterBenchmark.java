@@ -0,0 +1,96 @@
+package com.dajham.bankcore.benchmark;
+
+import com.dajham.bankcore.BankCoreApplication;
+import com.dajham.bankcore.application.dto.AccountResponse;
+import com.dajham.bankcore.application.dto.CreateAccountRequest;
+import com.dajham.bankcore.application.dto.TransferRequest;
+import com.dajham.bankcore.application.dto.TransferResponse;
+import com.dajham.bankcore.application.service.AccountService;
+import com.dajham.bankcore.application.service.TransferService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara los adaptadores Spring Data JPA, JDBC y en memoria ejecutando
+ * transferencias reales a través de {@link TransferService}: dos lecturas, dos
+ * actualizaciones con versión y una inserción por operación.
+ *
+ * Arranca la aplicación completa sin servidor web sobre H2 en memoria, de modo
+ * que el resultado incluye transacciones, control de admisión y mapeo, pero no
+ * la latencia de red de PostgreSQL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceAdapterBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @Param({ "jpa", "jdbc", "memory" })
+    private String adapter;
+
+    private ConfigurableApplicationContext context;
+    private TransferService transferService;
+    private TransferRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                // Argumentos de línea de comandos: prevalecen sobre application.yml
+                .run(
+                        "--bankcore.persistence.adapter=" + adapter,
+                        "--bankcore.rate-limit.enabled=false",
+                        "--bankcore.db-limiter.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.dajham.bankcore=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        transferService = context.getBean(TransferService.class);
+
+        AccountService accountService = context.getBean(AccountService.class);
+        AccountResponse source = accountService.createAccount(
+                new CreateAccountRequest(1L, new BigDecimal("1000000000.00")));
+        AccountResponse target = accountService.createAccount(
+                new CreateAccountRequest(1L, BigDecimal.ZERO));
+        request = new TransferRequest(source.id(), target.id(), AMOUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransferResponse transfer() {
+        return transferService.transfer(request);
+    }
+}
@@ -0,0 +1,132 @@
+package com.dajham.bankcore.benchmark;
+
+import com.dajham.bankcore.domain.model.ReferenceCodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Códigos de referencia de transacciones: {@code UUID.randomUUID()} en texto
+ * frente a {@link ReferenceCodes} (UUID v7) en {@code uuid} binario.
+ *
+ * <p>
+ * {@code generate*} mide solo la generación con 8 hilos, donde
+ * {@code randomUUID()} compite por el {@code SecureRandom} compartido.
+ * {@code insert} mide la inserción de una fila en una tabla con la forma de
+ * {@code transactions} y su índice único sobre {@code reference_code},
+ * precargada con {@code rows} filas. Por defecto usa H2 en memoria; con
+ * {@code -p url=jdbc:postgresql://... -p user=... -p password=...} se ejecuta
+ * contra PostgreSQL, donde la localidad del índice pesa más en cuanto deja de
+ * caber en memoria.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReferenceCodeBenchmark {
+
+    /**
+     * Tabla de inserción con el tipo de código a comparar.
+     */
+    @State(Scope.Thread)
+    public static class Table {
+
+        @Param({ "random-text", "v7-uuid" })
+        private String codes;
+
+        @Param({ "100000" })
+        private int rows;
+
+        @Param({ "jdbc:h2:mem:codes;DB_CLOSE_DELAY=-1" })
+        private String url;
+
+        @Param({ "sa" })
+        private String user;
+
+        @Param({ "" })
+        private String password;
+
+        private Connection connection;
+        private PreparedStatement insert;
+        private boolean binary;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            binary = "v7-uuid".equals(codes);
+            connection = DriverManager.getConnection(url, user, password);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS bench_transactions");
+                statement.execute("CREATE TABLE bench_transactions ("
+                        + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                        + "source_account_id BIGINT NOT NULL, target_account_id BIGINT NOT NULL, "
+                        + "amount NUMERIC(19,2) NOT NULL, "
+                        + "reference_code " + (binary ? "UUID" : "VARCHAR(36)") + " NOT NULL)");
+                statement.execute("CREATE UNIQUE INDEX bench_reference_code ON bench_transactions (reference_code)");
+            }
+            insert = connection.prepareStatement("INSERT INTO bench_transactions"
+                    + " (source_account_id, target_account_id, amount, reference_code) VALUES (1, 2, 1.00, ?)");
+            for (int i = 0; i < rows; i++) {
+                bind();
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        void bind() throws SQLException {
+            if (binary) {
+                insert.setObject(1, ReferenceCodes.nextUuid());
+            } else {
+                insert.setString(1, UUID.randomUUID().toString());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE bench_transactions");
+            }
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateRandom() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateTimeOrdered() {
+        return ReferenceCodes.next();
+    }
+
+    @Benchmark
+    public int insert(Table table) throws SQLException {
+        table.bind();
+        return table.insert.executeUpdate();
+    }
+}
@@ -0,0 +1,102 @@
+package com.dajham.bankcore.benchmark;
+
+import com.dajham.bankcore.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.dajham.bankcore.infrastructure.resilience.ConcurrencyLimitProperties;
+import com.dajham.bankcore.infrastructure.resilience.DatabaseAdmissionControl;
+import com.dajham.bankcore.infrastructure.resilience.DatabaseGate;
+import com.dajham.bankcore.infrastructure.resilience.DatabaseGateProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compara hilos de plataforma y virtuales atendiendo ráfagas de 1k-10k
+ * clientes concurrentes.
+ *
+ * Cada cliente simula una petición: {@code ioMillis} de espera ajena a la base
+ * de datos (red, serialización) y {@code dbMillis} de trabajo con conexión,
+ * detrás de la misma {@link DatabaseGate} que usa la aplicación con un pool de
+ * 10 conexiones. El modo PLATFORM usa 200 hilos, el máximo por defecto de
+ * Tomcat. El resultado es el tiempo en atender la ráfaga completa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadGateBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({ "1000", "5000", "10000" })
+    private int clients;
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    private String threads;
+
+    @Param({ "20" })
+    private int ioMillis;
+
+    @Param({ "1" })
+    private int dbMillis;
+
+    private ExecutorService executor;
+    private DatabaseAdmissionControl admissionControl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "VIRTUAL".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        DatabaseGate gate = new DatabaseGate(
+                new DatabaseGateProperties(true, POOL_SIZE, Duration.ofMinutes(1)));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(false, POOL_SIZE, 1, POOL_SIZE, 0.2, 1.5, 600));
+        admissionControl = new DatabaseAdmissionControl(limiter, gate, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(clients);
+        long ioNanos = TimeUnit.MILLISECONDS.toNanos(ioMillis);
+        long dbNanos = TimeUnit.MILLISECONDS.toNanos(dbMillis);
+        for (int i = 0; i < clients; i++) {
+            executor.execute(() -> {
+                try {
+                    LockSupport.parkNanos(ioNanos);
+                    admissionControl.execute(() -> {
+                        LockSupport.parkNanos(dbNanos);
+                        return null;
+                    });
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,139 @@
+package com.dajham.bankcore.loadtest;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+import com.dajham.bankcore.application.dto.LoginRequest;
+import com.dajham.bankcore.application.dto.LoginResponse;
+import com.dajham.bankcore.application.dto.RegisterRequest;
+import com.dajham.bankcore.application.dto.TransferRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP mínimo de la API de BankCore, con los DTOs de la propia
+ * aplicación. Las llamadas son bloqueantes: el generador las ejecuta en hilos
+ * virtuales.
+ */
+public class BankCoreClient {
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+
+    public BankCoreClient(URI baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Registra un usuario; un 400 por usuario existente se ignora para poder
+     * repetir la preparación.
+     */
+    public void register(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/v1/auth/register", null,
+                new RegisterRequest(username, password, username + "@loadtest.local", "Load Test")));
+        if (response.statusCode() != 201 && response.statusCode() != 400) {
+            throw failure("registro de " + username, response);
+        }
+    }
+
+    /**
+     * Inicia sesión y devuelve el token JWT.
+     */
+    public String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/v1/auth/login", null,
+                new LoginRequest(username, password)));
+        if (response.statusCode() != 200) {
+            throw failure("login de " + username, response);
+        }
+        return json.readValue(response.body(), LoginResponse.class).token();
+    }
+
+    /**
+     * Crea una cuenta del usuario autenticado con el saldo indicado.
+     */
+    public AccountResponse createAccount(String token, String initialBalance)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(
+                baseUrl.resolve("/api/v1/accounts?initialBalance=" + initialBalance))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        if (response.statusCode() != 201) {
+            throw failure("creación de cuenta", response);
+        }
+        return json.readValue(response.body(), AccountResponse.class);
+    }
+
+    public HttpRequest transfer(String token, long sourceAccountId, long targetAccountId, BigDecimal amount) {
+        return post("/api/v1/transfers", token, new TransferRequest(sourceAccountId, targetAccountId, amount));
+    }
+
+    public HttpRequest balance(String token, long accountId) {
+        return get("/api/v1/accounts/" + accountId, token);
+    }
+
+    public HttpRequest search(String token, String accountNumber) {
+        return get("/api/v1/accounts/search?accountNumber="
+                + URLEncoder.encode(accountNumber, StandardCharsets.UTF_8), token);
+    }
+
+    /**
+     * Envía la petición y descarta el cuerpo de la respuesta.
+     *
+     * @return El código de estado HTTP
+     */
+    public int execute(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body))).build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar " + body, ex);
+        }
+    }
+
+    private static IOException failure(String action, HttpResponse<String> response) {
+        String hint = response.statusCode() == 429
+                ? " (arranque la aplicación con bankcore.rate-limit.enabled=false)"
+                : "";
+        return new IOException("Falló " + action + ": HTTP " + response.statusCode() + " " + response.body() + hint);
+    }
+}
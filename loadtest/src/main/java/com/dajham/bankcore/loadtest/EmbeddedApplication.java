@@ -0,0 +1,89 @@
+package com.dajham.bankcore.loadtest;
+
+import com.dajham.bankcore.BankCoreApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Aplicación completa arrancada en el mismo proceso, sobre H2 en memoria en
+ * modo PostgreSQL y en un puerto libre. Sustituye a la pila de docker-compose
+ * cuando solo interesa la aplicación; la latencia de red y el comportamiento
+ * de PostgreSQL quedan fuera.
+ *
+ * <p>
+ * Los límites de peticiones se desactivan porque la preparación registra
+ * muchos usuarios desde la misma IP; cualquier argumento puede sobrescribirse
+ * con {@code --app.<propiedad>=<valor>}.
+ */
+public class EmbeddedApplication implements AutoCloseable {
+
+    /**
+     * Argumentos de arranque sobre H2; también los usa
+     * {@link StartupBenchmark} para la aplicación en un proceso aparte.
+     */
+    static final List<String> DEFAULT_ARGS = List.of(
+            "--server.port=0",
+            "--bankcore.rate-limit.enabled=false",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.devtools.restart.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.dajham.bankcore=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+    private final ConfigurableApplicationContext context;
+
+    public EmbeddedApplication(List<String> extraArgs) {
+        this.context = new SpringApplicationBuilder(BankCoreApplication.class)
+                .run(args(extraArgs).toArray(String[]::new));
+    }
+
+    /**
+     * {@link #DEFAULT_ARGS} con los argumentos indicados. Spring Boot une con
+     * comas los valores de una propiedad repetida en la línea de comandos, así
+     * que se quitan los valores por defecto de las propiedades que se
+     * sobrescriben.
+     */
+    static List<String> args(List<String> overrides) {
+        Set<String> overridden = overrides.stream().map(EmbeddedApplication::key).collect(Collectors.toSet());
+        List<String> args = new ArrayList<>();
+        for (String arg : DEFAULT_ARGS) {
+            if (!overridden.contains(key(arg))) {
+                args.add(arg);
+            }
+        }
+        args.addAll(overrides);
+        return args;
+    }
+
+    private static String key(String arg) {
+        int eq = arg.indexOf('=');
+        return eq < 0 ? arg : arg.substring(0, eq);
+    }
+
+    /**
+     * URL base del servidor embebido.
+     */
+    public URI baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,192 @@
+package com.dajham.bankcore.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y resultados por operación.
+ *
+ * <p>
+ * Cada operación tiene un {@link Recorder} que se vacía en cada informe
+ * parcial; el intervalo se acumula en un histograma total. La latencia se
+ * mide desde el instante en que la petición debía salir según la tasa, no
+ * desde que salió: si el generador o el servidor se atascan, la espera cuenta
+ * (corrección de la omisión coordinada).
+ */
+public class LatencyReport implements AutoCloseable {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * Estado de una operación.
+     */
+    private static final class Stats {
+        final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final LongAdder ok = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        Histogram interval;
+    }
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+    private final PrintStream out;
+    private final HistogramLogWriter logWriter;
+
+    /**
+     * @param out          Salida del informe
+     * @param histogramLog Fichero de log HdrHistogram por intervalo, o
+     *                     {@code null}
+     */
+    public LatencyReport(PrintStream out, String histogramLog) throws FileNotFoundException {
+        this.out = out;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+        if (histogramLog != null) {
+            logWriter = new HistogramLogWriter(histogramLog);
+            logWriter.outputLogFormatVersion();
+            logWriter.outputLegend();
+        } else {
+            logWriter = null;
+        }
+    }
+
+    /**
+     * Registra una respuesta. Los códigos 2xx cuentan como correctos.
+     */
+    public void record(Operation operation, int status, long latencyNanos) {
+        Stats s = stats.get(operation);
+        s.recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (status >= 200 && status < 300) {
+            s.ok.increment();
+        } else {
+            s.errors.increment();
+        }
+        s.statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Registra una petición fallida sin respuesta (timeout, conexión).
+     * El código 0 la identifica en el desglose.
+     */
+    public void recordFailure(Operation operation, long latencyNanos) {
+        record(operation, 0, latencyNanos);
+    }
+
+    /**
+     * Registra una llegada descartada por superar el límite de peticiones
+     * simultáneas.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Descarta todo lo registrado hasta ahora (fin del calentamiento).
+     */
+    public void reset() {
+        for (Stats s : stats.values()) {
+            s.interval = s.recorder.getIntervalHistogram(s.interval);
+            s.total.reset();
+            s.ok.reset();
+            s.errors.reset();
+            s.statuses.clear();
+        }
+        dropped.reset();
+        if (logWriter != null) {
+            long startMillis = System.currentTimeMillis();
+            logWriter.outputStartTime(startMillis);
+            logWriter.setBaseTime(startMillis);
+        }
+    }
+
+    /**
+     * Imprime el intervalo desde el informe anterior y lo acumula al total.
+     */
+    public void printInterval(long elapsedSeconds, int inFlight) {
+        StringBuilder line = new StringBuilder(String.format("[%4ds] en vuelo=%-5d", elapsedSeconds, inFlight));
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            s.interval = s.recorder.getIntervalHistogram(s.interval);
+            s.total.add(s.interval);
+            if (s.interval.getTotalCount() == 0) {
+                continue;
+            }
+            if (logWriter != null) {
+                s.interval.setTag(entry.getKey().label());
+                logWriter.outputIntervalHistogram(s.interval);
+            }
+            line.append(String.format(" | %s n=%d p50=%.1fms p99=%.1fms",
+                    entry.getKey().label(),
+                    s.interval.getTotalCount(),
+                    millis(s.interval.getValueAtPercentile(50)),
+                    millis(s.interval.getValueAtPercentile(99))));
+        }
+        out.println(line);
+    }
+
+    /**
+     * Imprime el resumen final por operación.
+     */
+    public void printSummary(double seconds) {
+        out.println();
+        out.printf("%-9s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operación", "ok", "errores", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            if (s.total.getTotalCount() == 0) {
+                continue;
+            }
+            all.add(s.total);
+            printRow(entry.getKey().label(), s.total, s.ok.sum(), s.errors.sum(), seconds);
+        }
+        if (all.getTotalCount() > 0) {
+            long ok = stats.values().stream().mapToLong(s -> s.ok.sum()).sum();
+            long errors = stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+            printRow("total", all, ok, errors, seconds);
+        }
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            if (entry.getValue().errors.sum() > 0) {
+                out.printf("%s por código (0 = sin respuesta): %s%n", entry.getKey().label(),
+                        new TreeMap<>(entry.getValue().statuses));
+            }
+        }
+        if (dropped.sum() > 0) {
+            out.printf("Llegadas descartadas por límite de peticiones en vuelo: %d%n", dropped.sum());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (logWriter != null) {
+            logWriter.close();
+        }
+    }
+
+    private void printRow(String label, Histogram histogram, long ok, long errors, double seconds) {
+        out.printf("%-9s %9d %8d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, ok, errors, (ok + errors) / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.dajham.bankcore.loadtest;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Prueba de carga de extremo a extremo de la API REST: filtro JWT,
+ * controladores, servicios y base de datos.
+ *
+ * <ol>
+ * <li>Registra e inicia sesión con los usuarios sintéticos y les crea
+ * cuentas, contra {@code --setup-url} si se indica. Así se puede medir una
+ * instancia que solo expone lecturas, como el perfil {@code reactive}.</li>
+ * <li>Calienta la aplicación a la tasa objetivo sin registrar
+ * resultados.</li>
+ * <li>Mide durante el tiempo indicado e imprime las latencias por
+ * operación.</li>
+ * </ol>
+ *
+ * <pre>
+ * mvn -f loadtest/pom.xml compile exec:exec -Dloadtest.args="--rate=500 --duration=120"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final String PASSWORD = "loadtest-secret";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        EmbeddedApplication embedded = null;
+        URI baseUrl = options.baseUrl();
+        URI setupUrl = options.setupUrl() != null ? options.setupUrl() : baseUrl;
+        if (options.embedded()) {
+            System.out.println("Arrancando la aplicación embebida sobre H2...");
+            embedded = new EmbeddedApplication(options.appArgs());
+            baseUrl = embedded.baseUrl();
+            setupUrl = baseUrl;
+        }
+
+        try (LatencyReport report = new LatencyReport(System.out, options.histogramLog())) {
+            BankCoreClient client = new BankCoreClient(baseUrl, options.requestTimeout());
+            System.out.printf("Preparando %d usuarios con %d cuentas en %s...%n",
+                    options.users(), options.accountsPerUser(), setupUrl);
+            List<SyntheticUser> users = prepare(new BankCoreClient(setupUrl, options.requestTimeout()), options);
+
+            OpenLoopDriver driver = new OpenLoopDriver(client, users, options.mix(), report, options.maxInFlight());
+            if (!options.warmup().isZero()) {
+                System.out.printf("Calentamiento: %.0f llegadas/s durante %ds%n",
+                        options.rate(), options.warmup().toSeconds());
+                driver.run(options.rate(), options.warmup(), null);
+            }
+            report.reset();
+            System.out.printf("Medición: %.0f llegadas/s durante %ds, mezcla %s%n",
+                    options.rate(), options.duration().toSeconds(), options.mix());
+            long start = System.nanoTime();
+            driver.run(options.rate(), options.duration(), options.reportInterval());
+            report.printSummary((System.nanoTime() - start) / 1e9);
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    /**
+     * Crea los usuarios en paralelo. Los nombres llevan un sufijo por
+     * ejecución para poder repetir la prueba sobre la misma base de datos.
+     */
+    private static List<SyntheticUser> prepare(BankCoreClient client, LoadTestOptions options) throws Exception {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<Future<SyntheticUser>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                String username = "lt-" + run + "-" + i;
+                futures.add(executor.submit(() -> {
+                    client.register(username, PASSWORD);
+                    String token = client.login(username, PASSWORD);
+                    List<AccountResponse> accounts = new ArrayList<>();
+                    for (int a = 0; a < options.accountsPerUser(); a++) {
+                        accounts.add(client.createAccount(token, options.initialBalance()));
+                    }
+                    return new SyntheticUser(username, token, List.copyOf(accounts));
+                }));
+            }
+        }
+        List<SyntheticUser> users = new ArrayList<>();
+        for (Future<SyntheticUser> future : futures) {
+            users.add(future.get());
+        }
+        return users;
+    }
+}
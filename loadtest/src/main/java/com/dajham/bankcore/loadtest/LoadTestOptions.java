@@ -0,0 +1,137 @@
+package com.dajham.bankcore.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opciones del generador de carga, leídas de argumentos {@code --clave=valor}.
+ *
+ * <p>
+ * Los argumentos con prefijo {@code --app.} se pasan sin el prefijo a la
+ * aplicación embebida, p. ej. {@code --app.bankcore.persistence.adapter=jdbc}.
+ *
+ * @param baseUrl         URL base de la API (se ignora en modo embebido)
+ * @param setupUrl        URL base para registrar usuarios y crear cuentas;
+ *                        {@code null} usa {@code baseUrl}
+ * @param embedded        Arranca la aplicación en este proceso sobre H2
+ * @param appArgs         Argumentos adicionales para la aplicación embebida
+ * @param users           Usuarios sintéticos a registrar
+ * @param accountsPerUser Cuentas por usuario
+ * @param initialBalance  Saldo inicial de cada cuenta
+ * @param rate            Llegadas por segundo (bucle abierto)
+ * @param warmup          Duración del calentamiento, no se reporta
+ * @param duration        Duración de la medición
+ * @param mix             Reparto de operaciones
+ * @param maxInFlight     Peticiones simultáneas a partir de las cuales las
+ *                        llegadas se descartan
+ * @param requestTimeout  Tiempo máximo de cada petición
+ * @param reportInterval  Cada cuánto se imprime el intervalo en curso
+ * @param histogramLog    Fichero de log HdrHistogram (opcional)
+ */
+public record LoadTestOptions(
+        URI baseUrl,
+        URI setupUrl,
+        boolean embedded,
+        List<String> appArgs,
+        int users,
+        int accountsPerUser,
+        String initialBalance,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        OperationMix mix,
+        int maxInFlight,
+        Duration requestTimeout,
+        Duration reportInterval,
+        String histogramLog) {
+
+    static final String USAGE = """
+            Uso: LoadTest [opciones]
+              --url=http://localhost:8080        URL base de la API
+              --setup-url=<url>                  URL base para la preparación (por defecto --url)
+              --embedded                         Arranca la aplicación en este proceso sobre H2
+              --app.<propiedad>=<valor>          Propiedad para la aplicación embebida
+              --users=20                         Usuarios sintéticos
+              --accounts-per-user=2              Cuentas por usuario
+              --initial-balance=1000000          Saldo inicial de cada cuenta
+              --rate=200                         Llegadas por segundo
+              --warmup=10                        Segundos de calentamiento
+              --duration=60                      Segundos de medición
+              --mix=transfer=70,balance=20,search=10
+              --max-in-flight=10000              Límite de peticiones simultáneas
+              --timeout=5                        Segundos por petición
+              --report-interval=5                Segundos entre informes parciales
+              --hdr-log=<fichero>                Guarda los histogramas por intervalo
+            """;
+
+    /**
+     * Interpreta los argumentos de línea de comandos.
+     *
+     * @throws IllegalArgumentException si un argumento no es reconocido o
+     *                                  tiene un valor inválido
+     */
+    public static LoadTestOptions parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        URI setupUrl = null;
+        boolean embedded = false;
+        List<String> appArgs = new ArrayList<>();
+        int users = 20;
+        int accountsPerUser = 2;
+        String initialBalance = "1000000";
+        double rate = 200;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(60);
+        OperationMix mix = OperationMix.parse("transfer=70,balance=20,search=10");
+        int maxInFlight = 10_000;
+        Duration timeout = Duration.ofSeconds(5);
+        Duration reportInterval = Duration.ofSeconds(5);
+        String histogramLog = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--app.")) {
+                appArgs.add("--" + arg.substring("--app.".length()));
+                continue;
+            }
+            if (arg.equals("--embedded")) {
+                embedded = true;
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "url" -> baseUrl = URI.create(value);
+                case "setup-url" -> setupUrl = URI.create(value);
+                case "users" -> users = positive(key, Integer.parseInt(value));
+                case "accounts-per-user" -> accountsPerUser = positive(key, Integer.parseInt(value));
+                case "initial-balance" -> initialBalance = value;
+                case "rate" -> rate = positive(key, Double.parseDouble(value));
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> duration = Duration.ofSeconds(positive(key, Long.parseLong(value)));
+                case "mix" -> mix = OperationMix.parse(value);
+                case "max-in-flight" -> maxInFlight = positive(key, Integer.parseInt(value));
+                case "timeout" -> timeout = Duration.ofSeconds(positive(key, Long.parseLong(value)));
+                case "report-interval" -> reportInterval = Duration.ofSeconds(positive(key, Long.parseLong(value)));
+                case "hdr-log" -> histogramLog = value;
+                default -> throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+        }
+        if (users * accountsPerUser < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos dos cuentas para transferir");
+        }
+        return new LoadTestOptions(baseUrl, setupUrl, embedded, List.copyOf(appArgs), users, accountsPerUser,
+                initialBalance, rate, warmup, duration, mix, maxInFlight, timeout, reportInterval, histogramLog);
+    }
+
+    private static <N extends Number> N positive(String key, N value) {
+        if (value.doubleValue() <= 0) {
+            throw new IllegalArgumentException("--" + key + " debe ser mayor que cero");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,124 @@
+package com.dajham.bankcore.loadtest;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador en bucle abierto: las llegadas salen a intervalos fijos según la
+ * tasa configurada, respondan o no las anteriores, y cada una se atiende en su
+ * propio hilo virtual.
+ *
+ * <p>
+ * Un generador en bucle cerrado (N clientes que esperan su respuesta antes de
+ * enviar la siguiente) baja el ritmo cuando el servidor se atasca y oculta la
+ * cola en las latencias. Aquí el planificador no espera a nadie, y la latencia
+ * de cada petición se cuenta desde su instante de salida previsto.
+ */
+public class OpenLoopDriver {
+
+    private final BankCoreClient client;
+    private final List<SyntheticUser> users;
+    private final List<AccountResponse> accounts;
+    private final OperationMix mix;
+    private final LatencyReport report;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenLoopDriver(BankCoreClient client, List<SyntheticUser> users, OperationMix mix,
+            LatencyReport report, int maxInFlight) {
+        this.client = client;
+        this.users = users;
+        this.accounts = users.stream().flatMap(user -> user.accounts().stream()).toList();
+        this.mix = mix;
+        this.report = report;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Lanza llegadas a la tasa dada durante el tiempo indicado.
+     *
+     * @param rate           Llegadas por segundo
+     * @param duration       Duración de la fase
+     * @param reportInterval Cada cuánto se imprime un informe parcial, o
+     *                       {@code null} para no imprimir
+     */
+    public void run(double rate, Duration duration, Duration reportInterval) throws InterruptedException {
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long reportEvery = reportInterval != null ? reportInterval.toNanos() : 0;
+        long nextReport = start + reportEvery;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0;; i++) {
+                long intended = start + i * periodNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                if (reportEvery > 0 && now >= nextReport) {
+                    report.printInterval(TimeUnit.NANOSECONDS.toSeconds(now - start), inFlight.get());
+                    nextReport += reportEvery;
+                }
+                if (inFlight.get() >= maxInFlight) {
+                    report.recordDropped();
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                executor.execute(() -> fire(intended));
+            }
+            // El cierre del executor espera a las peticiones en vuelo
+        }
+        if (reportInterval != null) {
+            report.printInterval(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), 0);
+        }
+    }
+
+    private void fire(long intended) {
+        Operation operation = mix.next();
+        try {
+            int status = client.execute(request(operation));
+            report.record(operation, status, System.nanoTime() - intended);
+        } catch (IOException ex) {
+            report.recordFailure(operation, System.nanoTime() - intended);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SyntheticUser user = users.get(random.nextInt(users.size()));
+        AccountResponse own = user.accounts().get(random.nextInt(user.accounts().size()));
+        return switch (operation) {
+            case TRANSFER -> {
+                AccountResponse target;
+                do {
+                    target = accounts.get(random.nextInt(accounts.size()));
+                } while (target.id().equals(own.id()));
+                // Importes pequeños: los saldos iniciales aguantan toda la prueba
+                BigDecimal amount = BigDecimal.valueOf(random.nextInt(1, 101), 2);
+                yield client.transfer(user.token(), own.id(), target.id(), amount);
+            }
+            case BALANCE -> client.balance(user.token(), own.id());
+            case SEARCH -> client.search(user.token(),
+                    accounts.get(random.nextInt(accounts.size())).accountNumber());
+        };
+    }
+}
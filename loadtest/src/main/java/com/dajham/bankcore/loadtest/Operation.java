@@ -0,0 +1,35 @@
+package com.dajham.bankcore.loadtest;
+
+/**
+ * Operaciones que el generador lanza contra {@code /api/v1}.
+ */
+public enum Operation {
+
+    /** {@code POST /api/v1/transfers} desde una cuenta propia a otra cualquiera. */
+    TRANSFER("transfer"),
+
+    /** {@code GET /api/v1/accounts/{id}} de una cuenta propia. */
+    BALANCE("balance"),
+
+    /** {@code GET /api/v1/accounts/search?accountNumber=...} de una cuenta cualquiera. */
+    SEARCH("search");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.label.equalsIgnoreCase(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operación desconocida: " + name);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dajham.bankcore.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reparto ponderado de operaciones, p. ej. {@code transfer=70,balance=20,search=10}.
+ * Los pesos son relativos y no tienen por qué sumar 100.
+ */
+public final class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Interpreta una lista {@code operación=peso} separada por comas.
+     *
+     * @throws IllegalArgumentException si una operación no existe, un peso es
+     *                                  negativo o todos son cero
+     */
+    public static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mezcla inválida: " + spec);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo en la mezcla: " + part);
+            }
+            if (weight > 0) {
+                weights.put(Operation.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación: " + spec);
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Elige una operación según los pesos.
+     */
+    public Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(operations[i].label()).append('=').append(cumulative[i] - previous);
+            previous = cumulative[i];
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,201 @@
+package com.dajham.bankcore.loadtest;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mide cuánto tarda una instancia nueva en completar su primera
+ * transferencia, que es lo que importa cuando el autoescalado la añade bajo
+ * carga.
+ *
+ * <p>
+ * Cada arranque es un proceso nuevo sobre H2 (los argumentos de
+ * {@link EmbeddedApplication}) con el classpath de este módulo. Desde que se
+ * lanza el proceso se intenta registrar un usuario cada 10 ms; con la primera
+ * respuesta se inicia sesión, se crean dos cuentas y se transfiere entre
+ * ellas. Se informa del tiempo hasta la primera respuesta, hasta la primera
+ * transferencia correcta y del que declara Spring Boot al arrancar.
+ *
+ * <pre>
+ * mvn -f loadtest/pom.xml compile exec:exec -Dloadtest.main=com.dajham.bankcore.loadtest.StartupBenchmark \
+ *     -Dloadtest.args="--runs=5 --jvm=-Dspring.aot.enabled=true --train-cds=target/bankcore.jsa"
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final String PASSWORD = "startup-secret";
+    private static final Pattern STARTED = Pattern.compile(
+            "Started BankCoreApplication in ([0-9.]+) seconds");
+
+    private StartupBenchmark() {
+    }
+
+    /**
+     * @param firstResponse Segundos hasta la primera respuesta HTTP
+     * @param firstTransfer Segundos hasta la primera transferencia correcta
+     * @param springStarted Segundos que declara Spring Boot, o NaN si no
+     *                      aparece en la salida
+     */
+    record Run(double firstResponse, double firstTransfer, double springStarted) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupOptions options;
+        try {
+            options = StartupOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(StartupOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        Files.createDirectories(options.logDir());
+
+        List<String> jvmArgs = new ArrayList<>(options.jvmArgs());
+        if (options.trainCds() != null) {
+            train(options);
+            jvmArgs.add("-XX:SharedArchiveFile=" + options.trainCds());
+        }
+        System.out.println("Opciones de la JVM: " + (jvmArgs.isEmpty() ? "(ninguna)" : String.join(" ", jvmArgs)));
+
+        List<Run> runs = new ArrayList<>();
+        for (int i = 1; i <= options.runs(); i++) {
+            Run run = measure(options, jvmArgs, i);
+            runs.add(run);
+            System.out.printf("Arranque %d: primera respuesta %.2f s, primera transferencia %.2f s"
+                    + " (Spring Boot: %.2f s)%n", i, run.firstResponse(), run.firstTransfer(), run.springStarted());
+        }
+
+        double[] transfers = runs.stream().mapToDouble(Run::firstTransfer).sorted().toArray();
+        double[] responses = runs.stream().mapToDouble(Run::firstResponse).sorted().toArray();
+        System.out.printf("%nHasta la primera transferencia: mediana %.2f s, mínimo %.2f s, máximo %.2f s%n",
+                median(transfers), transfers[0], transfers[transfers.length - 1]);
+        System.out.printf("Hasta la primera respuesta:     mediana %.2f s, mínimo %.2f s, máximo %.2f s%n",
+                median(responses), responses[0], responses[responses.length - 1]);
+    }
+
+    /**
+     * Arranque de entrenamiento: la aplicación se detiene tras refrescar el
+     * contexto y la JVM vuelca al salir las clases cargadas.
+     */
+    private static void train(StartupOptions options) throws IOException, InterruptedException {
+        Files.deleteIfExists(options.trainCds());
+        List<String> jvmArgs = new ArrayList<>(options.jvmArgs());
+        jvmArgs.add("-XX:ArchiveClassesAtExit=" + options.trainCds());
+        jvmArgs.add("-Dspring.context.exit=onRefresh");
+        System.out.println("Generando el archivo AppCDS " + options.trainCds() + "...");
+
+        Process process = start(options, jvmArgs, freePort(), options.logDir().resolve("cds-training.log"));
+        if (!process.waitFor(options.timeout().toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("El arranque de entrenamiento no terminó a tiempo");
+        }
+        if (!Files.exists(options.trainCds())) {
+            throw new IllegalStateException("No se generó " + options.trainCds() + "; ver "
+                    + options.logDir().resolve("cds-training.log"));
+        }
+    }
+
+    private static Run measure(StartupOptions options, List<String> jvmArgs, int index) throws Exception {
+        int port = freePort();
+        Path log = options.logDir().resolve("run-" + index + ".log");
+        BankCoreClient client = new BankCoreClient(URI.create("http://localhost:" + port), Duration.ofSeconds(10));
+        String username = "startup-" + index;
+
+        long start = System.nanoTime();
+        long deadline = start + options.timeout().toNanos();
+        Process process = start(options, jvmArgs, port, log);
+        try {
+            while (true) {
+                try {
+                    client.register(username, PASSWORD);
+                    break;
+                } catch (ConnectException ex) {
+                    if (!process.isAlive()) {
+                        throw new IllegalStateException("La aplicación terminó al arrancar; ver " + log);
+                    }
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException("La aplicación no respondió a tiempo; ver " + log);
+                    }
+                    Thread.sleep(10);
+                }
+            }
+            double firstResponse = (System.nanoTime() - start) / 1e9;
+
+            String token = client.login(username, PASSWORD);
+            AccountResponse source = client.createAccount(token, "100");
+            AccountResponse target = client.createAccount(token, "0");
+            int status = client.execute(client.transfer(token, source.id(), target.id(), BigDecimal.ONE));
+            if (status != 201) {
+                throw new IllegalStateException("La primera transferencia respondió HTTP " + status + "; ver " + log);
+            }
+            double firstTransfer = (System.nanoTime() - start) / 1e9;
+            return new Run(firstResponse, firstTransfer, springStarted(log));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Lanza la aplicación con el classpath de este proceso. Solo se pasan los
+     * JAR: AppCDS no admite directorios con clases en el classpath.
+     */
+    private static Process start(StartupOptions options, List<String> jvmArgs, int port, Path log)
+            throws IOException {
+        String classpath = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> entry.endsWith(".jar"))
+                .reduce((a, b) -> a + File.pathSeparator + b)
+                .orElseThrow();
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add("com.dajham.bankcore.BankCoreApplication");
+        List<String> appArgs = new ArrayList<>();
+        appArgs.add("--server.port=" + port);
+        appArgs.add("--logging.level.com.dajham.bankcore.BankCoreApplication=INFO");
+        appArgs.addAll(options.appArgs());
+        command.addAll(EmbeddedApplication.args(appArgs));
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private static double springStarted(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(double[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
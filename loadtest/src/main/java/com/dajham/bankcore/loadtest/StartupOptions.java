@@ -0,0 +1,84 @@
+package com.dajham.bankcore.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opciones de {@link StartupBenchmark}, leídas de argumentos
+ * {@code --clave=valor}.
+ *
+ * <p>
+ * Como en {@link LoadTestOptions}, los argumentos con prefijo {@code --app.} se
+ * pasan sin el prefijo a la aplicación; los de prefijo {@code --jvm=} son
+ * opciones de su JVM, p. ej. {@code --jvm=-Dspring.aot.enabled=true}.
+ *
+ * @param runs      Arranques medidos
+ * @param jvmArgs   Opciones de la JVM de la aplicación
+ * @param appArgs   Argumentos adicionales para la aplicación
+ * @param trainCds  Archivo AppCDS que se genera con un arranque de
+ *                  entrenamiento antes de medir, y que usan los arranques
+ *                  medidos (opcional)
+ * @param timeout   Tiempo máximo de cada arranque hasta la primera
+ *                  transferencia
+ * @param logDir    Directorio donde se guarda la salida de cada arranque
+ */
+public record StartupOptions(
+        int runs,
+        List<String> jvmArgs,
+        List<String> appArgs,
+        Path trainCds,
+        Duration timeout,
+        Path logDir) {
+
+    static final String USAGE = """
+            Uso: StartupBenchmark [opciones]
+              --runs=5                           Arranques medidos
+              --jvm=<opción>                     Opción de la JVM de la aplicación (repetible)
+              --app.<propiedad>=<valor>          Propiedad para la aplicación
+              --train-cds=<fichero>              Genera un archivo AppCDS antes de medir y lo usa
+              --timeout=120                      Segundos por arranque
+              --log-dir=target/startup           Salida de cada arranque
+            """;
+
+    /**
+     * Interpreta los argumentos de línea de comandos.
+     *
+     * @throws IllegalArgumentException si un argumento no es reconocido o
+     *                                  tiene un valor inválido
+     */
+    public static StartupOptions parse(String[] args) {
+        int runs = 5;
+        List<String> jvmArgs = new ArrayList<>();
+        List<String> appArgs = new ArrayList<>();
+        Path trainCds = null;
+        Duration timeout = Duration.ofSeconds(120);
+        Path logDir = Path.of("target", "startup");
+
+        for (String arg : args) {
+            if (arg.startsWith("--app.")) {
+                appArgs.add("--" + arg.substring("--app.".length()));
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "runs" -> runs = Integer.parseInt(value);
+                case "jvm" -> jvmArgs.add(value);
+                case "train-cds" -> trainCds = Path.of(value);
+                case "timeout" -> timeout = Duration.ofSeconds(Long.parseLong(value));
+                case "log-dir" -> logDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+        }
+        if (runs <= 0 || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("--runs y --timeout deben ser mayores que cero");
+        }
+        return new StartupOptions(runs, List.copyOf(jvmArgs), List.copyOf(appArgs), trainCds, timeout, logDir);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dajham.bankcore.loadtest;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+
+import java.util.List;
+
+/**
+ * Usuario sintético ya autenticado, con sus cuentas.
+ *
+ * @param username Nombre de usuario
+ * @param token    Token JWT obtenido en el login
+ * @param accounts Cuentas creadas para el usuario
+ */
+public record SyntheticUser(String username, String token, List<AccountResponse> accounts) {
+}
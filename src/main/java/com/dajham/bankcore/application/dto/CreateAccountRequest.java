@@ -1,6 +1,7 @@
 package com.dajham.bankcore.application.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
@@ -16,5 +17,5 @@ public record CreateAccountRequest(
 
         @NotNull(message = "El ID de usuario es obligatorio") Long userId,
 
-        @NotNull(message = "El saldo inicial es obligatorio") @DecimalMin(value = "0.0", inclusive = true, message = "El saldo inicial debe ser mayor o igual a cero") BigDecimal initialBalance) {
+        @NotNull(message = "El saldo inicial es obligatorio") @DecimalMin(value = "0.0", inclusive = true, message = "El saldo inicial debe ser mayor o igual a cero") @Digits(integer = 16, fraction = 2, message = "Máximo 16 enteros y 2 decimales") BigDecimal initialBalance) {
 }
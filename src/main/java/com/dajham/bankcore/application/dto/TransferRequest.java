@@ -1,6 +1,7 @@
 package com.dajham.bankcore.application.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
@@ -17,5 +18,5 @@ public record TransferRequest(
 
         @NotNull(message = "El ID de la cuenta destino es obligatorio") Long targetAccountId,
 
-        @NotNull(message = "El monto es obligatorio") @DecimalMin(value = "0.01", message = "El monto debe ser mayor a cero") BigDecimal amount) {
+        @NotNull(message = "El monto es obligatorio") @DecimalMin(value = "0.01", message = "El monto debe ser mayor a cero") @Digits(integer = 16, fraction = 2, message = "Máximo 16 enteros y 2 decimales") BigDecimal amount) {
 }
@@ -3,7 +3,12 @@ package com.dajham.bankcore.application.service;
 import com.dajham.bankcore.application.dto.CreateAccountRequest;
 import com.dajham.bankcore.application.dto.AccountResponse;
 import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.ReferenceCodes;
 import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,19 +22,24 @@ import java.util.UUID;
  * Implementa casos de uso específicos de la aplicación.
  */
 @Service
+@Profile("!reactive")
 @Transactional
 public class AccountService {
 
     private final AccountRepositoryPort accountRepositoryPort;
+    private final JournalRepositoryPort journalRepositoryPort;
 
     /**
      * Constructor con inyección de dependencias.
      * 
      * @param accountRepositoryPort Puerto de salida para operaciones de
      *                              persistencia
+     * @param journalRepositoryPort Puerto del diario contable
      */
-    public AccountService(AccountRepositoryPort accountRepositoryPort) {
+    public AccountService(AccountRepositoryPort accountRepositoryPort,
+            JournalRepositoryPort journalRepositoryPort) {
         this.accountRepositoryPort = accountRepositoryPort;
+        this.journalRepositoryPort = journalRepositoryPort;
     }
 
     /**
@@ -52,12 +62,17 @@ public class AccountService {
         // Crear la entidad de dominio
         Account account = new Account(
                 accountNumber,
-                request.initialBalance(),
+                Money.of(request.initialBalance()),
                 request.userId());
 
         // Guardar la cuenta a través del puerto
         Account savedAccount = accountRepositoryPort.save(account);
 
+        // Asentar el saldo inicial contra la cuenta externa
+        if (savedAccount.getBalance().isPositive()) {
+            journalRepositoryPort.append(JournalEntry.opening(ReferenceCodes.next(), savedAccount));
+        }
+
         // Mapear a DTO de respuesta
         return mapToResponse(savedAccount);
     }
@@ -130,7 +145,7 @@ public class AccountService {
         return new AccountResponse(
                 account.getId(),
                 account.getAccountNumber(),
-                account.getBalance(),
+                account.getBalance().toBigDecimal(),
                 account.getUserId(),
                 LocalDateTime.now() // Timestamp de respuesta
         );
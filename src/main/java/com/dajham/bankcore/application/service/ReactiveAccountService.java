@@ -0,0 +1,79 @@
+package com.dajham.bankcore.application.service;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.port.ReactiveAccountRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consultas de cuentas no bloqueantes para la API de solo lectura del perfil
+ * {@code reactive}. Devuelven lo mismo que las de {@link AccountService}.
+ */
+@Service
+@Profile("reactive")
+@Transactional(readOnly = true)
+public class ReactiveAccountService {
+
+    private final ReactiveAccountRepositoryPort accountRepositoryPort;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param accountRepositoryPort Puerto reactivo de cuentas
+     */
+    public ReactiveAccountService(ReactiveAccountRepositoryPort accountRepositoryPort) {
+        this.accountRepositoryPort = accountRepositoryPort;
+    }
+
+    /**
+     * Obtiene todas las cuentas de un usuario.
+     *
+     * @param userId El ID del usuario
+     * @return Flujo con las cuentas del usuario
+     */
+    public Flux<AccountResponse> getAccountsByUserId(Long userId) {
+        return accountRepositoryPort.findByUserId(userId).map(this::mapToResponse);
+    }
+
+    /**
+     * Obtiene una cuenta por su número de cuenta.
+     *
+     * @param accountNumber El número de cuenta
+     * @return Los datos de la cuenta; error con IllegalArgumentException si no
+     *         existe
+     */
+    public Mono<AccountResponse> getAccountByNumber(String accountNumber) {
+        String normalized = accountNumber.trim().toUpperCase();
+        return accountRepositoryPort.findByAccountNumber(normalized)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Cuenta no encontrada: " + accountNumber)))
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Obtiene una cuenta por su ID.
+     *
+     * @param accountId El ID de la cuenta
+     * @return Los datos de la cuenta; error con IllegalArgumentException si no
+     *         existe
+     */
+    public Mono<AccountResponse> getAccountById(Long accountId) {
+        return accountRepositoryPort.findById(accountId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Cuenta no encontrada: " + accountId)))
+                .map(this::mapToResponse);
+    }
+
+    private AccountResponse mapToResponse(Account account) {
+        return new AccountResponse(
+                account.getId(),
+                account.getAccountNumber(),
+                account.getBalance().toBigDecimal(),
+                account.getUserId(),
+                LocalDateTime.now());
+    }
+}
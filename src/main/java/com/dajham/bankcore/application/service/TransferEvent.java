@@ -0,0 +1,91 @@
+package com.dajham.bankcore.application.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+
+/**
+ * Evento JFR de una transferencia, medido por {@link TransferService} hasta
+ * que termina su transacción, así que incluye el commit. Sin una grabación
+ * activa el evento no llega a registrarse y el JIT elimina su coste.
+ */
+@Name("bankcore.Transfer")
+@Label("Transfer")
+@Category({ "BankCore", "Transfers" })
+@Description("Transferencia entre cuentas, incluido el commit")
+@StackTrace(false)
+class TransferEvent extends Event {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    @Label("Source Account")
+    long sourceAccountId;
+
+    @Label("Target Account")
+    long targetAccountId;
+
+    @Label("Amount")
+    String amount;
+
+    @Label("Reference Code")
+    String referenceCode;
+
+    @Label("Outcome")
+    @Description("SUCCESS, la excepción que la interrumpió o ROLLED_BACK si falló el commit")
+    String outcome;
+
+    /**
+     * Crea el evento y empieza a medir.
+     */
+    static TransferEvent start(Long sourceAccountId, Long targetAccountId, BigDecimal amount) {
+        TransferEvent event = new TransferEvent();
+        event.begin();
+        if (event.isEnabled()) {
+            event.sourceAccountId = sourceAccountId != null ? sourceAccountId : 0;
+            event.targetAccountId = targetAccountId != null ? targetAccountId : 0;
+            event.amount = amount != null ? amount.toPlainString() : null;
+        }
+        return event;
+    }
+
+    /**
+     * Termina la medición al completarse la transacción en curso, o en el
+     * acto si no hay ninguna. Si la transferencia terminó bien pero la
+     * transacción no se confirma, el resultado registrado es el del commit.
+     *
+     * @param outcome       Resultado de la transferencia
+     * @param referenceCode Código de referencia, si se aplicó
+     */
+    void completeAfterTransaction(String outcome, String referenceCode) {
+        if (!isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(outcome, referenceCode);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED || !SUCCESS.equals(outcome)) {
+                    complete(outcome, referenceCode);
+                } else {
+                    complete(status == STATUS_ROLLED_BACK ? "ROLLED_BACK" : "UNKNOWN", null);
+                }
+            }
+        });
+    }
+
+    private void complete(String outcome, String referenceCode) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            this.referenceCode = referenceCode;
+            commit();
+        }
+    }
+}
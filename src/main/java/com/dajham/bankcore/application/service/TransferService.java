@@ -3,35 +3,89 @@ package com.dajham.bankcore.application.service;
 import com.dajham.bankcore.application.dto.TransferRequest;
 import com.dajham.bankcore.application.dto.TransferResponse;
 import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.JournalEntry;
 import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.model.TransferCompleted;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountContentionPort;
 import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.OutboxPort;
 import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import com.dajham.bankcore.domain.port.TransferAuditPort;
+import com.dajham.bankcore.domain.port.TransferMetricsPort;
+import com.dajham.bankcore.domain.port.TransferMetricsPort.Phase;
+import com.dajham.bankcore.domain.port.TransferMetricsPort.Rejection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 /**
  * Servicio de aplicación para operaciones de transferencia de fondos.
  * Orquesta las operaciones entre cuentas y transacciones garantizando la
  * integridad de datos.
  */
 @Service
+@Profile("!reactive")
 @Transactional
 public class TransferService {
 
     private final AccountRepositoryPort accountRepositoryPort;
     private final TransactionRepositoryPort transactionRepositoryPort;
+    private final JournalRepositoryPort journalRepositoryPort;
+    private final OutboxPort outboxPort;
+    private final TransferMetricsPort metrics;
+    private final TransferAuditPort auditPort;
+    private final AccountContentionPort contention;
 
     /**
-     * Constructor con inyección de dependencias.
+     * Constructor sin componentes opcionales.
      * 
      * @param accountRepositoryPort     Puerto para operaciones de cuentas
      * @param transactionRepositoryPort Puerto para operaciones de transacciones
+     * @param journalRepositoryPort     Puerto del diario contable
      */
     public TransferService(
             AccountRepositoryPort accountRepositoryPort,
-            TransactionRepositoryPort transactionRepositoryPort) {
+            TransactionRepositoryPort transactionRepositoryPort,
+            JournalRepositoryPort journalRepositoryPort) {
+        this(accountRepositoryPort, transactionRepositoryPort, journalRepositoryPort,
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Constructor con inyección de dependencias. Los componentes opcionales
+     * existen solo si su funcionalidad está activada.
+     * 
+     * @param accountRepositoryPort     Puerto para operaciones de cuentas
+     * @param transactionRepositoryPort Puerto para operaciones de transacciones
+     * @param journalRepositoryPort     Puerto del diario contable
+     * @param outboxPort                Outbox de eventos para sistemas externos
+     * @param metrics                   Métricas por fase
+     * @param auditPort                 Registro de auditoría
+     * @param contention                Detección de cuentas calientes
+     */
+    @Autowired
+    public TransferService(
+            AccountRepositoryPort accountRepositoryPort,
+            TransactionRepositoryPort transactionRepositoryPort,
+            JournalRepositoryPort journalRepositoryPort,
+            Optional<OutboxPort> outboxPort,
+            Optional<TransferMetricsPort> metrics,
+            Optional<TransferAuditPort> auditPort,
+            Optional<AccountContentionPort> contention) {
         this.accountRepositoryPort = accountRepositoryPort;
         this.transactionRepositoryPort = transactionRepositoryPort;
+        this.journalRepositoryPort = journalRepositoryPort;
+        this.outboxPort = outboxPort.orElse(null);
+        this.metrics = metrics.orElse(TransferMetricsPort.NONE);
+        this.auditPort = auditPort.orElse(null);
+        this.contention = contention.orElse(AccountContentionPort.NONE);
     }
 
     /**
@@ -44,45 +98,110 @@ public class TransferService {
      *                                  no hay fondos suficientes
      */
     public TransferResponse transfer(TransferRequest request) {
+        TransferEvent event = TransferEvent.start(
+                request.sourceAccountId(), request.targetAccountId(), request.amount());
+        try {
+            TransferResponse response = execute(request);
+            event.completeAfterTransaction(response.status(), response.referenceCode());
+            return response;
+        } catch (RuntimeException ex) {
+            event.completeAfterTransaction(ex.getClass().getSimpleName(), null);
+            throw ex;
+        }
+    }
+
+    private TransferResponse execute(TransferRequest request) {
+        long start = System.nanoTime();
+
         // 1. Validar que origen y destino sean diferentes
         if (request.sourceAccountId().equals(request.targetAccountId())) {
+            metrics.recordRejection(Rejection.SAME_ACCOUNT);
             throw new IllegalArgumentException(
                     "La cuenta origen y destino no pueden ser la misma");
         }
+        contention.recordTransfer(request.sourceAccountId(), request.targetAccountId());
+        Money amount = Money.of(request.amount());
 
         // 2. Cargar cuenta origen
-        Account sourceAccount = accountRepositoryPort.findById(request.sourceAccountId())
-                .orElseThrow(() -> new IllegalArgumentException(
+        Account sourceAccount = timed(Phase.SOURCE_LOAD,
+                () -> accountRepositoryPort.findById(request.sourceAccountId()))
+                .orElseThrow(() -> missingAccount(
                         "La cuenta origen con ID " + request.sourceAccountId() + " no existe"));
 
         // 3. Cargar cuenta destino
-        Account targetAccount = accountRepositoryPort.findById(request.targetAccountId())
-                .orElseThrow(() -> new IllegalArgumentException(
+        Account targetAccount = timed(Phase.TARGET_LOAD,
+                () -> accountRepositoryPort.findById(request.targetAccountId()))
+                .orElseThrow(() -> missingAccount(
                         "La cuenta destino con ID " + request.targetAccountId() + " no existe"));
 
         // 4. Realizar retiro de la cuenta origen (incluye validación de saldo en el
         // dominio)
-        sourceAccount.withdraw(request.amount());
+        if (!sourceAccount.hasSufficientBalance(amount)) {
+            metrics.recordRejection(Rejection.INSUFFICIENT_FUNDS);
+        }
+        sourceAccount.withdraw(amount);
 
         // 5. Realizar depósito en la cuenta destino
-        targetAccount.deposit(request.amount());
+        targetAccount.deposit(amount);
 
-        // 6. Guardar ambas cuentas actualizadas
-        accountRepositoryPort.save(sourceAccount);
-        accountRepositoryPort.save(targetAccount);
+        // 6. Guardar ambas cuentas actualizadas y enviar sus UPDATE, para que
+        // un conflicto de versión se detecte aquí y no en el commit
+        try {
+            timed(Phase.SOURCE_SAVE, () -> accountRepositoryPort.save(sourceAccount));
+            timed(Phase.TARGET_SAVE, () -> accountRepositoryPort.save(targetAccount));
+            timed(Phase.ACCOUNTS_FLUSH, () -> {
+                accountRepositoryPort.flush();
+                return null;
+            });
+        } catch (OptimisticLockingFailureException ex) {
+            metrics.recordConflict();
+            contention.recordConflict(request.sourceAccountId(), request.targetAccountId());
+            throw ex;
+        }
 
         // 7. Crear y guardar registro de transacción
         Transaction transaction = new Transaction(
                 sourceAccount.getId(),
                 targetAccount.getId(),
-                request.amount());
-        Transaction savedTransaction = transactionRepositoryPort.save(transaction);
+                amount);
+        Transaction savedTransaction = timed(Phase.TRANSACTION_INSERT,
+                () -> transactionRepositoryPort.save(transaction));
+        metrics.recordAmount(amount);
+
+        // 8. Registrar el asiento en el diario; el saldo de las cuentas es una
+        // instantánea que se puede reconstruir a partir de él
+        journalRepositoryPort.append(JournalEntry.transfer(savedTransaction));
 
-        // 8. Retornar respuesta exitosa
+        // 9. Publicar el evento en el outbox, dentro de la misma transacción
+        if (outboxPort != null) {
+            outboxPort.publish(TransferCompleted.of(savedTransaction));
+        }
+
+        // 10. Auditar la transferencia; la entrada se escribe al terminar la
+        // transacción
+        if (auditPort != null) {
+            auditPort.recordTransfer(savedTransaction, start);
+        }
+
+        // 11. Retornar respuesta exitosa
         return new TransferResponse(
                 savedTransaction.getId(),
                 savedTransaction.getReferenceCode(),
                 "SUCCESS",
-                String.format("Transferencia de %.2f completada exitosamente", request.amount()));
+                String.format("Transferencia de %.2f completada exitosamente", amount.toBigDecimal()));
+    }
+
+    private <T> T timed(Phase phase, Supplier<T> step) {
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            metrics.recordPhase(phase, System.nanoTime() - start);
+        }
+    }
+
+    private IllegalArgumentException missingAccount(String message) {
+        metrics.recordRejection(Rejection.MISSING_ACCOUNT);
+        return new IllegalArgumentException(message);
     }
 }
@@ -1,6 +1,5 @@
 package com.dajham.bankcore.domain.model;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 
 /**
@@ -13,7 +12,10 @@ public class Account {
 
     private Long id;
     private String accountNumber;
-    private BigDecimal balance;
+    /**
+     * Saldo en unidades mínimas: depósitos y retiros no crean objetos.
+     */
+    private long balance;
     private Long userId;
     /**
      * Campo de control de concurrencia optimista.
@@ -25,23 +27,22 @@ public class Account {
      * Constructor vacío para frameworks de persistencia y deserialización.
      */
     public Account() {
-        this.balance = BigDecimal.ZERO;
     }
 
     /**
      * Constructor con parámetros para crear una cuenta.
      */
-    public Account(Long id, String accountNumber, BigDecimal balance, Long userId) {
+    public Account(Long id, String accountNumber, Money balance, Long userId) {
         this.id = id;
         this.accountNumber = accountNumber;
-        this.balance = balance != null ? balance : BigDecimal.ZERO;
+        this.balance = balance != null ? balance.minorUnits() : 0L;
         this.userId = userId;
     }
 
     /**
      * Constructor sin ID para nuevas cuentas.
      */
-    public Account(String accountNumber, BigDecimal balance, Long userId) {
+    public Account(String accountNumber, Money balance, Long userId) {
         this(null, accountNumber, balance, userId);
     }
 
@@ -54,8 +55,8 @@ public class Account {
         return accountNumber;
     }
 
-    public BigDecimal getBalance() {
-        return balance;
+    public Money getBalance() {
+        return Money.ofMinor(balance);
     }
 
     public Long getUserId() {
@@ -75,8 +76,8 @@ public class Account {
         this.accountNumber = accountNumber;
     }
 
-    public void setBalance(BigDecimal balance) {
-        this.balance = balance != null ? balance : BigDecimal.ZERO;
+    public void setBalance(Money balance) {
+        this.balance = balance != null ? balance.minorUnits() : 0L;
     }
 
     public void setUserId(Long userId) {
@@ -94,12 +95,13 @@ public class Account {
      * 
      * @param amount Cantidad a depositar
      * @throws IllegalArgumentException si el monto es negativo o cero
+     * @throws ArithmeticException      si el saldo resultante desborda
      */
-    public void deposit(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public void deposit(Money amount) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("El monto a depositar debe ser mayor a cero");
         }
-        this.balance = this.balance.add(amount);
+        this.balance = Math.addExact(this.balance, amount.minorUnits());
     }
 
     /**
@@ -108,14 +110,14 @@ public class Account {
      * @param amount Cantidad a retirar
      * @throws IllegalArgumentException si el monto es negativo, cero o insuficiente
      */
-    public void withdraw(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public void withdraw(Money amount) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("El monto a retirar debe ser mayor a cero");
         }
-        if (this.balance.compareTo(amount) < 0) {
+        if (this.balance < amount.minorUnits()) {
             throw new IllegalArgumentException("Saldo insuficiente para realizar el retiro");
         }
-        this.balance = this.balance.subtract(amount);
+        this.balance -= amount.minorUnits();
     }
 
     /**
@@ -124,8 +126,8 @@ public class Account {
      * @param amount Cantidad a verificar
      * @return true si hay saldo suficiente, false en caso contrario
      */
-    public boolean hasSufficientBalance(BigDecimal amount) {
-        return this.balance.compareTo(amount) >= 0;
+    public boolean hasSufficientBalance(Money amount) {
+        return this.balance >= amount.minorUnits();
     }
 
     @Override
@@ -149,7 +151,7 @@ public class Account {
         return "Account{" +
                 "id=" + id +
                 ", accountNumber='" + accountNumber + '\'' +
-                ", balance=" + balance +
+                ", balance=" + getBalance() +
                 ", userId=" + userId +
                 '}';
     }
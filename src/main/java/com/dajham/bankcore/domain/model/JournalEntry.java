@@ -0,0 +1,84 @@
+package com.dajham.bankcore.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Asiento del diario de partida doble.
+ * Agrupa los apuntes de una operación bajo una referencia; la suma de sus
+ * importes es siempre cero, de modo que el dinero ni se crea ni se destruye.
+ * El diario solo admite inserciones: un asiento nunca se modifica.
+ */
+public final class JournalEntry {
+
+    /**
+     * Cuenta de contrapartida para el dinero que entra o sale del banco
+     * (saldos iniciales). No existe en la tabla de cuentas.
+     */
+    public static final long EXTERNAL_ACCOUNT = 0L;
+
+    private final String reference;
+    private final LocalDateTime timestamp;
+    private final List<Posting> postings;
+
+    /**
+     * Constructor completo.
+     *
+     * @throws IllegalArgumentException si el asiento no cuadra
+     */
+    public JournalEntry(String reference, LocalDateTime timestamp, List<Posting> postings) {
+        this.reference = Objects.requireNonNull(reference, "reference");
+        this.timestamp = Objects.requireNonNull(timestamp, "timestamp");
+        this.postings = List.copyOf(postings);
+
+        long total = 0L;
+        for (Posting posting : this.postings) {
+            total = Math.addExact(total, posting.amount().minorUnits());
+        }
+        if (this.postings.size() < 2 || total != 0L) {
+            throw new IllegalArgumentException("El asiento " + reference + " no cuadra");
+        }
+    }
+
+    /**
+     * Asiento de una transferencia: cargo en origen y abono en destino.
+     */
+    public static JournalEntry transfer(Transaction transaction) {
+        Money amount = transaction.getAmount();
+        return new JournalEntry(transaction.getReferenceCode(), transaction.getTimestamp(), List.of(
+                new Posting(transaction.getSourceAccountId(), Money.ZERO.minus(amount)),
+                new Posting(transaction.getTargetAccountId(), amount)));
+    }
+
+    /**
+     * Asiento del saldo inicial de una cuenta, contra la cuenta externa.
+     */
+    public static JournalEntry opening(String reference, Account account) {
+        Money balance = account.getBalance();
+        return new JournalEntry(reference, LocalDateTime.now(), List.of(
+                new Posting(EXTERNAL_ACCOUNT, Money.ZERO.minus(balance)),
+                new Posting(account.getId(), balance)));
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public List<Posting> getPostings() {
+        return postings;
+    }
+
+    @Override
+    public String toString() {
+        return "JournalEntry{" +
+                "reference='" + reference + '\'' +
+                ", timestamp=" + timestamp +
+                ", postings=" + postings +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.dajham.bankcore.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Importe monetario de coma fija con dos decimales, guardado como un
+ * {@code long} de unidades mínimas (céntimos).
+ * Inmutable y sin dependencias de frameworks. La aritmética comprueba el
+ * desbordamiento y lanza {@link ArithmeticException} en vez de dar la vuelta.
+ * La conversión a y desde {@link BigDecimal} solo ocurre en los bordes (DTOs y
+ * persistencia). El rango (unos ±9,2·10^16 con dos decimales) cubre casi toda
+ * la columna {@code NUMERIC(19, 2)}; los DTOs limitan la entrada a 16 enteros.
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Número de decimales de todos los importes.
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Crea un importe a partir de unidades mínimas.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Convierte un {@link BigDecimal} sin redondear.
+     *
+     * @throws IllegalArgumentException si tiene más de dos decimales o no cabe
+     *                                  en el rango
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("El monto es obligatorio");
+        }
+        try {
+            return ofMinor(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("El monto " + amount.toPlainString()
+                    + " debe tener como máximo " + SCALE + " decimales y caber en el rango permitido");
+        }
+    }
+
+    /**
+     * Convierte un texto como {@code "12.50"}.
+     */
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.dajham.bankcore.domain.model;
+
+/**
+ * Apunte de un asiento contable sobre una cuenta.
+ * Un importe positivo es un abono (aumenta el saldo) y uno negativo un cargo.
+ *
+ * @param accountId La cuenta afectada, o {@link JournalEntry#EXTERNAL_ACCOUNT}
+ *                  para la contrapartida fuera del banco
+ * @param amount    Importe con signo
+ */
+public record Posting(long accountId, Money amount) {
+}
@@ -0,0 +1,70 @@
+package com.dajham.bankcore.domain.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de códigos de referencia ordenados en el tiempo (UUID versión 7,
+ * RFC 9562).
+ *
+ * <p>
+ * Los 48 bits altos son el instante en milisegundos y los 12 siguientes un
+ * contador dentro del milisegundo, de modo que los códigos generados en el
+ * proceso son estrictamente crecientes y las inserciones en el índice único
+ * caen siempre al final. El estado es un único {@link AtomicLong} que se
+ * avanza sin bloqueos; si en un milisegundo se agotan los 4096 valores del
+ * contador, el reloj lógico se adelanta al siguiente. Los 62 bits restantes
+ * son aleatorios y salen de {@link ThreadLocalRandom}, no del
+ * {@code SecureRandom} compartido: el código identifica una transferencia,
+ * no es una credencial.
+ */
+public final class ReferenceCodes {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+
+    /**
+     * Último valor emitido: milisegundos desplazados y contador.
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private ReferenceCodes() {
+    }
+
+    /**
+     * Genera un código nuevo en su forma textual canónica.
+     *
+     * @return El código de referencia
+     */
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    /**
+     * Genera un código nuevo.
+     *
+     * @return El UUID versión 7
+     */
+    public static UUID nextUuid() {
+        long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+        long stamp = LAST.accumulateAndGet(candidate, (last, now) -> now > last ? now : last + 1);
+        long millis = stamp >>> SEQUENCE_BITS;
+        long sequence = stamp & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificant = (millis << 16) | VERSION_7 | sequence;
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Instante en milisegundos desde la época codificado en un UUID versión 7.
+     *
+     * @param code El código de referencia
+     * @return Milisegundos desde 1970-01-01T00:00Z
+     */
+    public static long timestampOf(UUID code) {
+        return code.getMostSignificantBits() >>> 16;
+    }
+}
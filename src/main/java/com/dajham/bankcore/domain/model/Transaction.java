@@ -1,9 +1,7 @@
 package com.dajham.bankcore.domain.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Entidad de dominio Transaction (Transacción bancaria).
@@ -15,7 +13,7 @@ public class Transaction {
     private Long id;
     private Long sourceAccountId;
     private Long targetAccountId;
-    private BigDecimal amount;
+    private Money amount;
     private LocalDateTime timestamp;
     private String referenceCode;
 
@@ -24,27 +22,27 @@ public class Transaction {
      */
     public Transaction() {
         this.timestamp = LocalDateTime.now();
-        this.referenceCode = UUID.randomUUID().toString();
+        this.referenceCode = ReferenceCodes.next();
     }
 
     /**
      * Constructor completo.
      */
     public Transaction(Long id, Long sourceAccountId, Long targetAccountId,
-            BigDecimal amount, LocalDateTime timestamp, String referenceCode) {
+            Money amount, LocalDateTime timestamp, String referenceCode) {
         this.id = id;
         this.sourceAccountId = sourceAccountId;
         this.targetAccountId = targetAccountId;
         this.amount = amount;
         this.timestamp = timestamp != null ? timestamp : LocalDateTime.now();
-        this.referenceCode = referenceCode != null ? referenceCode : UUID.randomUUID().toString();
+        this.referenceCode = referenceCode != null ? referenceCode : ReferenceCodes.next();
     }
 
     /**
      * Constructor para crear nueva transacción.
      */
-    public Transaction(Long sourceAccountId, Long targetAccountId, BigDecimal amount) {
-        this(null, sourceAccountId, targetAccountId, amount, LocalDateTime.now(), UUID.randomUUID().toString());
+    public Transaction(Long sourceAccountId, Long targetAccountId, Money amount) {
+        this(null, sourceAccountId, targetAccountId, amount, LocalDateTime.now(), ReferenceCodes.next());
     }
 
     // Getters y Setters
@@ -72,11 +70,11 @@ public class Transaction {
         this.targetAccountId = targetAccountId;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(BigDecimal amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
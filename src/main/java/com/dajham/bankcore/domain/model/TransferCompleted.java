@@ -0,0 +1,37 @@
+package com.dajham.bankcore.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio: una transferencia se ha confirmado.
+ * Es lo que reciben los sistemas externos (notificaciones, analítica) a
+ * través del outbox, en lugar de consultar la tabla de transacciones.
+ *
+ * @param transactionId   ID de la transacción registrada
+ * @param referenceCode   Código de referencia de la transferencia
+ * @param sourceAccountId Cuenta origen
+ * @param targetAccountId Cuenta destino
+ * @param amount          Importe transferido
+ * @param occurredAt      Momento de la transferencia
+ */
+public record TransferCompleted(
+        Long transactionId,
+        String referenceCode,
+        Long sourceAccountId,
+        Long targetAccountId,
+        Money amount,
+        LocalDateTime occurredAt) {
+
+    /**
+     * Construye el evento a partir de la transacción ya guardada.
+     */
+    public static TransferCompleted of(Transaction transaction) {
+        return new TransferCompleted(
+                transaction.getId(),
+                transaction.getReferenceCode(),
+                transaction.getSourceAccountId(),
+                transaction.getTargetAccountId(),
+                transaction.getAmount(),
+                transaction.getTimestamp());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dajham.bankcore.domain.port;
+
+/**
+ * Puerto de salida para detectar cuentas calientes: las que aparecen en más
+ * transferencias y las que acumulan más conflictos de versión.
+ */
+public interface AccountContentionPort {
+
+    /**
+     * Implementación que no registra nada, para cuando no se detectan.
+     */
+    AccountContentionPort NONE = new AccountContentionPort() {
+        @Override
+        public void recordTransfer(long sourceAccountId, long targetAccountId) {
+        }
+
+        @Override
+        public void recordConflict(long sourceAccountId, long targetAccountId) {
+        }
+    };
+
+    /**
+     * Registra las cuentas de una transferencia solicitada.
+     *
+     * @param sourceAccountId Cuenta origen
+     * @param targetAccountId Cuenta destino
+     */
+    void recordTransfer(long sourceAccountId, long targetAccountId);
+
+    /**
+     * Registra una transferencia abortada por un conflicto de versión. No se
+     * sabe cuál de las dos cuentas lo causó, así que cuenta para ambas.
+     *
+     * @param sourceAccountId Cuenta origen
+     * @param targetAccountId Cuenta destino
+     */
+    void recordConflict(long sourceAccountId, long targetAccountId);
+}
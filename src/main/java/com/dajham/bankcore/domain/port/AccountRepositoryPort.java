@@ -1,7 +1,9 @@
 package com.dajham.bankcore.domain.port;
 
 import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * Puerto de salida para operaciones de persistencia de cuentas.
@@ -20,6 +22,14 @@ public interface AccountRepositoryPort {
      */
     Account save(Account account);
 
+    /**
+     * Envía las escrituras de cuentas pendientes de la transacción actual.
+     * Sin llamarlo, los adaptadores de base de datos pueden retrasar los
+     * UPDATE hasta el commit; tras llamarlo, un conflicto de versión ya se ha
+     * detectado aquí. Fuera de una transacción no hace nada.
+     */
+    void flush();
+
     /**
      * Busca una cuenta por su ID.
      * 
@@ -58,4 +68,21 @@ public interface AccountRepositoryPort {
      * @return Lista de cuentas del usuario
      */
     java.util.List<Account> findByUserId(Long userId);
+
+    /**
+     * Recorre el ID y el número de todas las cuentas sin cargarlas completas.
+     * Los adaptadores de base de datos leen por bloques con un cursor, así que
+     * debe invocarse dentro de una transacción.
+     *
+     * @param consumer Recibe el ID y el número de cada cuenta
+     */
+    void forEachAccountKey(BiConsumer<Long, String> consumer);
+
+    /**
+     * Recorre el ID y el saldo de todas las cuentas en una sola consulta. Igual
+     * que {@link #forEachAccountKey}, debe invocarse dentro de una transacción.
+     *
+     * @param consumer Recibe el ID y el saldo de cada cuenta
+     */
+    void forEachAccountBalance(BiConsumer<Long, Money> consumer);
 }
@@ -0,0 +1,39 @@
+package com.dajham.bankcore.domain.port;
+
+import com.dajham.bankcore.domain.model.Money;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para un almacén rápido de saldos confirmados.
+ * Es una fuente consultiva: el saldo autoritativo sigue siendo el de
+ * {@link AccountRepositoryPort}, y una cuenta ausente aquí no implica que no
+ * exista.
+ */
+public interface BalanceStorePort {
+
+    /**
+     * Devuelve el último saldo confirmado conocido de una cuenta.
+     *
+     * @param accountId El ID de la cuenta
+     * @return Un Optional con el saldo si el almacén lo conoce
+     */
+    Optional<Money> findBalance(Long accountId);
+
+    /**
+     * Registra el saldo de una cuenta en una versión dada. Las versiones
+     * anteriores a la ya almacenada se ignoran.
+     *
+     * @param accountId El ID de la cuenta
+     * @param balance   El saldo confirmado
+     * @param version   La versión de la cuenta con ese saldo
+     */
+    void update(Long accountId, Money balance, long version);
+
+    /**
+     * Olvida el saldo de una cuenta eliminada.
+     *
+     * @param accountId El ID de la cuenta
+     */
+    void remove(Long accountId);
+}
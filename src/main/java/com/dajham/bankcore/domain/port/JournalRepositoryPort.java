@@ -0,0 +1,46 @@
+package com.dajham.bankcore.domain.port;
+
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+
+import java.util.Map;
+
+/**
+ * Puerto de salida del diario contable de partida doble.
+ * Solo admite inserciones; los saldos de las cuentas son una instantánea que
+ * se puede reconstruir sumando sus apuntes.
+ */
+public interface JournalRepositoryPort {
+
+    /**
+     * Añade un asiento al final del diario.
+     *
+     * @param entry El asiento, ya cuadrado
+     */
+    void append(JournalEntry entry);
+
+    /**
+     * ID del último apunte escrito (0 si el diario está vacío).
+     *
+     * @return El mayor ID de apunte
+     */
+    long lastPostingId();
+
+    /**
+     * Suma los apuntes por cuenta en un rango de IDs. Rangos disjuntos se
+     * pueden sumar en paralelo y combinar después.
+     *
+     * @param fromIdExclusive Límite inferior (excluido)
+     * @param toIdInclusive   Límite superior (incluido)
+     * @return Suma de importes por ID de cuenta
+     */
+    Map<Long, Money> sumByAccount(long fromIdExclusive, long toIdInclusive);
+
+    /**
+     * Saldo de una cuenta según el diario completo.
+     *
+     * @param accountId El ID de la cuenta
+     * @return La suma de todos sus apuntes
+     */
+    Money balanceOf(long accountId);
+}
@@ -0,0 +1,18 @@
+package com.dajham.bankcore.domain.port;
+
+import com.dajham.bankcore.domain.model.TransferCompleted;
+
+/**
+ * Puerto de salida del outbox transaccional.
+ * El evento se guarda en la misma transacción que la operación que lo
+ * origina; un proceso aparte lo entrega después a los sistemas externos.
+ */
+public interface OutboxPort {
+
+    /**
+     * Registra un evento para su entrega posterior.
+     *
+     * @param event El evento de transferencia completada
+     */
+    void publish(TransferCompleted event);
+}
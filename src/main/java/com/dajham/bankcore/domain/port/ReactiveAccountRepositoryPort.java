@@ -0,0 +1,40 @@
+package com.dajham.bankcore.domain.port;
+
+import com.dajham.bankcore.domain.model.Account;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida no bloqueante para consultar cuentas desde la API de solo
+ * lectura del perfil {@code reactive}.
+ * No es una versión reactiva de {@link AccountRepositoryPort}: solo cubre las
+ * lecturas de esa API. Las escrituras (cuentas nuevas, transferencias) siguen
+ * en la pila servlet, que es la que mantiene el diario, el outbox y las
+ * métricas.
+ */
+public interface ReactiveAccountRepositoryPort {
+
+    /**
+     * Busca una cuenta por su ID.
+     *
+     * @param id El ID de la cuenta
+     * @return La cuenta, o vacío si no existe
+     */
+    Mono<Account> findById(Long id);
+
+    /**
+     * Busca una cuenta por su número de cuenta.
+     *
+     * @param accountNumber El número de cuenta
+     * @return La cuenta, o vacío si no existe
+     */
+    Mono<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * Busca todas las cuentas de un usuario.
+     *
+     * @param userId El ID del usuario
+     * @return Flujo con las cuentas del usuario
+     */
+    Flux<Account> findByUserId(Long userId);
+}
@@ -15,4 +15,12 @@ public interface TransactionRepositoryPort {
      * @return La transacción guardada con su ID asignado
      */
     Transaction save(Transaction transaction);
+
+    /**
+     * Verifica si ya existe una transacción con el código de referencia dado.
+     *
+     * @param referenceCode El código de referencia
+     * @return true si existe, false en caso contrario
+     */
+    boolean existsByReferenceCode(String referenceCode);
 }
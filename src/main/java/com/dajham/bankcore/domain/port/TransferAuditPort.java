@@ -0,0 +1,21 @@
+package com.dajham.bankcore.domain.port;
+
+import com.dajham.bankcore.domain.model.Transaction;
+
+/**
+ * Puerto de salida para el registro de auditoría de transferencias: una
+ * entrada por transferencia aplicada, con su código de referencia, cuentas,
+ * importe y latencia.
+ */
+public interface TransferAuditPort {
+
+    /**
+     * Registra una transferencia aplicada. Si hay una transacción en curso,
+     * la entrada se escribe cuando termina, con su resultado.
+     *
+     * @param transaction La transacción guardada
+     * @param startNanos  Inicio de la transferencia según
+     *                    {@link System#nanoTime()}
+     */
+    void recordTransfer(Transaction transaction, long startNanos);
+}
@@ -0,0 +1,92 @@
+package com.dajham.bankcore.domain.port;
+
+import com.dajham.bankcore.domain.model.Money;
+
+/**
+ * Puerto de salida para las métricas del camino de transferencia: duración de
+ * cada fase, rechazos por motivo, conflictos de versión e importes.
+ */
+public interface TransferMetricsPort {
+
+    /**
+     * Fases medidas de una transferencia.
+     */
+    enum Phase {
+        SOURCE_LOAD,
+        TARGET_LOAD,
+        /**
+         * Guardado de la cuenta origen. Los adaptadores de base de datos solo
+         * lo registran en la transacción; el UPDATE sale en
+         * {@link #ACCOUNTS_FLUSH}.
+         */
+        SOURCE_SAVE,
+        /** Guardado de la cuenta destino; igual que {@link #SOURCE_SAVE}. */
+        TARGET_SAVE,
+        /**
+         * Envío de los UPDATE versionados de las dos cuentas, incluida la
+         * detección de conflictos.
+         */
+        ACCOUNTS_FLUSH,
+        TRANSACTION_INSERT,
+        /** Lo mide quien gestiona la transacción, no el servicio. */
+        COMMIT
+    }
+
+    /**
+     * Motivos de rechazo de una transferencia.
+     */
+    enum Rejection {
+        SAME_ACCOUNT,
+        INSUFFICIENT_FUNDS,
+        MISSING_ACCOUNT
+    }
+
+    /**
+     * Implementación que no registra nada, para cuando no hay métricas.
+     */
+    TransferMetricsPort NONE = new TransferMetricsPort() {
+        @Override
+        public void recordPhase(Phase phase, long nanos) {
+        }
+
+        @Override
+        public void recordRejection(Rejection reason) {
+        }
+
+        @Override
+        public void recordConflict() {
+        }
+
+        @Override
+        public void recordAmount(Money amount) {
+        }
+    };
+
+    /**
+     * Registra la duración de una fase.
+     *
+     * @param phase La fase
+     * @param nanos Duración en nanosegundos
+     */
+    void recordPhase(Phase phase, long nanos);
+
+    /**
+     * Registra una transferencia rechazada.
+     *
+     * @param reason El motivo
+     */
+    void recordRejection(Rejection reason);
+
+    /**
+     * Registra una transferencia abortada porque otra transacción modificó una
+     * de sus cuentas.
+     */
+    void recordConflict();
+
+    /**
+     * Registra el importe de una transferencia aceptada para su validación.
+     *
+     * @param amount El importe
+     */
+    void recordAmount(Money amount);
+}
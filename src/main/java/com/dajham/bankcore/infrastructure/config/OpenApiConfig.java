@@ -7,8 +7,14 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
+/**
+ * Descripción OpenAPI de la API. Perezosa, como los beans de springdoc (ver
+ * {@link StartupConfig}): solo se necesita al pedir la documentación.
+ */
 @Configuration
+@Lazy
 public class OpenApiConfig {
 
         @Bean
@@ -0,0 +1,80 @@
+package com.dajham.bankcore.infrastructure.config;
+
+import com.dajham.bankcore.infrastructure.security.JwtService;
+import com.dajham.bankcore.infrastructure.security.OperatorProperties;
+import com.dajham.bankcore.infrastructure.security.ReactiveJwtAuthenticationFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/**
+ * Configuración de seguridad para la API de solo lectura de la pila WebFlux
+ * (perfil {@code reactive}): API sin estado y autenticación JWT, como en
+ * {@link SecurityConfig}.
+ *
+ * <p>
+ * Esta pila no tiene registro ni login: los tokens los emite una instancia
+ * servlet y son válidos aquí porque ambas comparten {@link JwtService} y su
+ * secreto. Solo se admiten lecturas; cualquier otro método se rechaza.
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    /**
+     * Configura la cadena de filtros de seguridad reactiva.
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            JwtService jwtService,
+            ReactiveUserDetailsService userDetailsService) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(Customizer.withDefaults())
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .pathMatchers("/actuator/jfr/**").hasRole(OperatorProperties.ROLE)
+                        .pathMatchers("/actuator/**").permitAll()
+                        // API de solo lectura
+                        .pathMatchers(HttpMethod.GET, "/api/v1/**").authenticated()
+                        .anyExchange().denyAll())
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtService, userDetailsService),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * Configuración de CORS equivalente a la de la pila servlet.
+     */
+    @Bean
+    public CorsConfigurationSource reactiveCorsConfigurationSource() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of("http://localhost:5173"));
+        config.setAllowedMethods(List.of("GET", "OPTIONS"));
+        config.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        config.setExposedHeaders(List.of("Authorization"));
+        config.setAllowCredentials(false);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return source;
+    }
+}
@@ -0,0 +1,22 @@
+package com.dajham.bankcore.infrastructure.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Servidor web del perfil {@code reactive}.
+ * Tomcat sigue en el classpath por la pila servlet y Spring Boot lo preferiría
+ * también para WebFlux; declarar la fábrica de Netty fuerza el servidor de
+ * event loop, que no dedica un hilo por conexión.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
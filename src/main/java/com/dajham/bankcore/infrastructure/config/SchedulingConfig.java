@@ -0,0 +1,13 @@
+package com.dajham.bankcore.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (@Scheduled) de mantenimiento de la
+ * infraestructura.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
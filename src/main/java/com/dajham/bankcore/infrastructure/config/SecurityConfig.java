@@ -1,8 +1,11 @@
 package com.dajham.bankcore.infrastructure.config;
 
 import com.dajham.bankcore.infrastructure.security.JwtAuthenticationFilter;
+import com.dajham.bankcore.infrastructure.security.OperatorProperties;
+import com.dajham.bankcore.infrastructure.security.ratelimit.RateLimitingFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -27,14 +30,20 @@ import java.util.List;
  * Define las reglas de autenticación y autorización para la aplicación.
  */
 @Configuration
+@Profile("!reactive")
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitingFilter rateLimitingFilter;
     private final UserDetailsService userDetailsService;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, UserDetailsService userDetailsService) {
+    public SecurityConfig(
+            JwtAuthenticationFilter jwtAuthFilter,
+            RateLimitingFilter rateLimitingFilter,
+            UserDetailsService userDetailsService) {
         this.jwtAuthFilter = jwtAuthFilter;
+        this.rateLimitingFilter = rateLimitingFilter;
         this.userDetailsService = userDetailsService;
     }
 
@@ -45,9 +54,12 @@ public class SecurityConfig {
      * - CSRF deshabilitado (API stateless)
      * - Sesiones STATELESS (sin estado en servidor)
      * - Rutas públicas: /api/v1/auth/**, /swagger-ui/**, /v3/api-docs/**,
-     * /actuator/**
+     * /actuator/** salvo /actuator/jfr/**, /actuator/hotaccounts/** y
+     * /actuator/dbpool/**, que requieren el rol OPERATOR (bankcore.operators)
      * - Todas las demás rutas requieren autenticación
      * - Filtro JWT se ejecuta antes del filtro de autenticación por defecto
+     * - El límite por IP se aplica antes del filtro JWT y el límite por usuario
+     * después, con el usuario ya verificado
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -61,13 +73,17 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/jfr/**", "/actuator/hotaccounts/**", "/actuator/dbpool/**")
+                        .hasRole(OperatorProperties.ROLE)
                         .requestMatchers("/actuator/**").permitAll()
                         // Todas las demás rutas requieren autenticación
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitingFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitingFilter.userLimitFilter(), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,56 @@
+package com.dajham.bankcore.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Inicialización perezosa de los beans que no intervienen en atender
+ * peticiones de la API, para que una instancia nueva acepte tráfico antes.
+ * Por defecto, los de springdoc: se crean con la primera petición a
+ * {@code /v3/api-docs} o a Swagger UI.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Marca como perezosos los beans declarados en los paquetes de
+     * {@code bankcore.startup.lazy-packages}, tanto los de clases de esos
+     * paquetes como los de métodos {@code @Bean} de sus configuraciones.
+     * Estático porque se ejecuta antes de crear cualquier bean; con Spring AOT
+     * se aplica en el build y queda en las definiciones generadas.
+     */
+    @Bean
+    static BeanFactoryPostProcessor lazyNonCriticalBeansPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("bankcore.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of("org.springdoc."));
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String declaringClass = declaringClass(definition);
+                if (declaringClass != null && packages.stream().anyMatch(declaringClass::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static String declaringClass(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
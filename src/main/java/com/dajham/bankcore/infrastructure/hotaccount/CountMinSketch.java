@@ -0,0 +1,72 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch sobre IDs de cuenta: estima cuántas veces se vio cada ID
+ * con memoria fija ({@code depth × width} contadores), sea cual sea el número
+ * de cuentas. La estimación nunca se queda corta; se pasa como mucho en
+ * {@code e/width} del total con probabilidad {@code 1 - e^-depth}.
+ *
+ * <p>
+ * Los incrementos son atómicos y sin cerrojos.
+ */
+final class CountMinSketch {
+
+    static final int MAX_DEPTH = 8;
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL };
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth Filas (funciones hash), como mucho {@value #MAX_DEPTH}
+     * @param width Contadores por fila; se redondea a potencia de dos
+     */
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > MAX_DEPTH || width < 1) {
+            throw new IllegalArgumentException("Dimensiones no válidas: " + depth + "x" + width);
+        }
+        this.depth = depth;
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.counters = new AtomicLongArray(depth * this.width);
+    }
+
+    void add(long key) {
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(slot(key, row));
+        }
+    }
+
+    long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(slot(key, row)));
+        }
+        return min;
+    }
+
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private int slot(long key, int row) {
+        return row * width + (int) (mix(key ^ SEEDS[row]) & (width - 1));
+    }
+
+    /** Finalizador de MurmurHash3: los IDs consecutivos se reparten bien. */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,27 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Detección de cuentas calientes. Spring Boot registra el tracker como
+ * oyente del gestor de transacciones autoconfigurado, lo que permite contar
+ * los conflictos que aparecen en el commit.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.hot-accounts.enabled:true}")
+public class HotAccountConfig {
+
+    @Bean
+    public HotAccountTracker hotAccountTracker(HotAccountProperties properties) {
+        return new HotAccountTracker(properties);
+    }
+
+    @Bean
+    public HotAccountEndpoint hotAccountEndpoint(HotAccountTracker tracker, HotAccountProperties properties) {
+        return new HotAccountEndpoint(tracker, properties);
+    }
+}
@@ -0,0 +1,92 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Endpoint de actuator {@code hotaccounts}:
+ * <ul>
+ * <li>{@code GET /actuator/hotaccounts?limit=N}: las cuentas más frecuentes
+ * en transferencias y en conflictos de versión dentro de la ventana</li>
+ * <li>{@code GET /actuator/hotaccounts/{accountId}}: frecuencia estimada de
+ * una cuenta</li>
+ * </ul>
+ * Las cifras son estimaciones. El count-min sobreestima como mucho un 0,13 %
+ * del total con probabilidad del 98 % con la configuración por defecto, pero
+ * también puede quedarse corto: un incremento concurrente con el vaciado de
+ * un tramo se pierde. El ranking puede omitir una cuenta poco repetida,
+ * porque su candidatura se descarta si el cerrojo de Space-Saving está
+ * ocupado; las cuentas calientes aparecen porque se repiten.
+ */
+@Endpoint(id = "hotaccounts")
+public class HotAccountEndpoint {
+
+    private final HotAccountTracker tracker;
+    private final int defaultLimit;
+
+    public HotAccountEndpoint(HotAccountTracker tracker, HotAccountProperties properties) {
+        this.tracker = tracker;
+        this.defaultLimit = properties.topK();
+    }
+
+    /**
+     * Cuentas calientes de la ventana.
+     *
+     * @param window    Ventana de las estadísticas
+     * @param transfers Ranking por apariciones en transferencias
+     * @param conflicts Ranking por conflictos de versión
+     */
+    public record HotAccounts(Duration window, Ranking transfers, Ranking conflicts) {
+    }
+
+    /**
+     * @param total Apariciones registradas en la ventana (dos por
+     *              transferencia)
+     * @param top   Cuentas más frecuentes, de mayor a menor
+     */
+    public record Ranking(long total, List<HotAccount> top) {
+    }
+
+    /**
+     * @param accountId ID de la cuenta
+     * @param estimate  Apariciones estimadas en la ventana
+     * @param share     Fracción del total
+     */
+    public record HotAccount(long accountId, long estimate, double share) {
+    }
+
+    /**
+     * @param accountId ID de la cuenta
+     * @param window    Ventana de las estadísticas
+     * @param transfers Transferencias estimadas en las que aparece
+     * @param conflicts Conflictos de versión estimados
+     */
+    public record AccountContention(long accountId, Duration window, long transfers, long conflicts) {
+    }
+
+    @ReadOperation
+    public HotAccounts hotAccounts(@Nullable Integer limit) {
+        int top = limit != null && limit > 0 ? limit : defaultLimit;
+        return new HotAccounts(tracker.window(),
+                ranking(tracker.totalTransfers(), tracker.topTransfers(top)),
+                ranking(tracker.totalConflicts(), tracker.topConflicts(top)));
+    }
+
+    @ReadOperation
+    public AccountContention account(@Selector long accountId) {
+        long[] estimate = tracker.estimate(accountId);
+        return new AccountContention(accountId, tracker.window(), estimate[0], estimate[1]);
+    }
+
+    private static Ranking ranking(long total, List<SlidingHeavyHitters.HeavyHitter> top) {
+        return new Ranking(total, top.stream()
+                .map(hitter -> new HotAccount(hitter.accountId(), hitter.estimate(),
+                        total > 0 ? (double) hitter.estimate() / total : 0))
+                .toList());
+    }
+}
@@ -0,0 +1,30 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Detección de cuentas calientes ({@code bankcore.hot-accounts}).
+ *
+ * @param enabled  Registra las cuentas de cada transferencia y sus conflictos
+ * @param window   Ventana deslizante de las estadísticas
+ * @param buckets  Tramos en que se divide la ventana; la ventana avanza de
+ *                 tramo en tramo
+ * @param depth    Filas de cada count-min sketch
+ * @param width    Contadores por fila del count-min sketch
+ * @param capacity Candidatos que sigue Space-Saving en cada tramo
+ * @param topK     Cuentas que devuelve el endpoint si no se indica otro
+ *                 límite
+ */
+@ConfigurationProperties(prefix = "bankcore.hot-accounts")
+public record HotAccountProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration window,
+        @DefaultValue("6") int buckets,
+        @DefaultValue("4") int depth,
+        @DefaultValue("2048") int width,
+        @DefaultValue("64") int capacity,
+        @DefaultValue("10") int topK) {
+}
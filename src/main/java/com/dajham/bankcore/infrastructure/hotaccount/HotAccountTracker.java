@@ -0,0 +1,149 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import com.dajham.bankcore.application.service.TransferService;
+import com.dajham.bankcore.domain.port.AccountContentionPort;
+import com.dajham.bankcore.infrastructure.persistence.commit.CommitFailures;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cuentas calientes: las más frecuentes en las transferencias y en los
+ * conflictos de versión, en una ventana deslizante y con memoria fija.
+ *
+ * <p>
+ * Los conflictos detectados al guardar y enviar las cuentas los comunica el
+ * servicio. Un conflicto en el commit ocurre fuera del servicio, así que esta
+ * clase también escucha al gestor de transacciones: si el commit de una
+ * transferencia falla por un conflicto de versión según
+ * {@link CommitFailures}, sus cuentas cuentan como conflicto, igual que en
+ * {@code MicrometerTransferMetrics}. Otros fallos del commit no cuentan.
+ */
+public class HotAccountTracker implements AccountContentionPort, TransactionExecutionListener {
+
+    private static final String TRANSACTION_PREFIX = TransferService.class.getName() + ".";
+
+    private final Duration window;
+    private final SlidingHeavyHitters transfers;
+    private final SlidingHeavyHitters conflicts;
+    private final ThreadLocal<Pending> pending = new ThreadLocal<>();
+
+    public HotAccountTracker(HotAccountProperties properties) {
+        this.window = properties.window();
+        this.transfers = sketch(properties);
+        this.conflicts = sketch(properties);
+    }
+
+    @Override
+    public void recordTransfer(long sourceAccountId, long targetAccountId) {
+        long now = System.nanoTime();
+        transfers.add(sourceAccountId, now);
+        transfers.add(targetAccountId, now);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            pending.set(new Pending(sourceAccountId, targetAccountId));
+        }
+    }
+
+    @Override
+    public void recordConflict(long sourceAccountId, long targetAccountId) {
+        long now = System.nanoTime();
+        conflicts.add(sourceAccountId, now);
+        conflicts.add(targetAccountId, now);
+        // Ya contado: que el rollback posterior no lo cuente otra vez
+        pending.remove();
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        Pending accounts = pending.get();
+        if (accounts != null && isTransfer(transaction)) {
+            accounts.committing = true;
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (isTransfer(transaction)) {
+            complete(commitFailure != null);
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        if (isTransfer(transaction)) {
+            complete(true);
+        }
+    }
+
+    /**
+     * Frecuencia estimada de una cuenta en la ventana.
+     *
+     * @return {@code [transferencias, conflictos]}
+     */
+    long[] estimate(long accountId) {
+        long now = System.nanoTime();
+        return new long[] { transfers.estimate(accountId, now), conflicts.estimate(accountId, now) };
+    }
+
+    Duration window() {
+        return window;
+    }
+
+    long totalTransfers() {
+        return transfers.total(System.nanoTime());
+    }
+
+    long totalConflicts() {
+        return conflicts.total(System.nanoTime());
+    }
+
+    List<SlidingHeavyHitters.HeavyHitter> topTransfers(int limit) {
+        return transfers.top(limit, System.nanoTime());
+    }
+
+    List<SlidingHeavyHitters.HeavyHitter> topConflicts(int limit) {
+        return conflicts.top(limit, System.nanoTime());
+    }
+
+    /**
+     * Un fallo tras {@code beforeCommit} significa que el commit falló; solo
+     * cuenta si fue por un conflicto de versión.
+     */
+    private void complete(boolean failed) {
+        Pending accounts = pending.get();
+        pending.remove();
+        if (failed && accounts != null && accounts.committing && CommitFailures.isOptimisticLockFailure()) {
+            long now = System.nanoTime();
+            conflicts.add(accounts.sourceAccountId, now);
+            conflicts.add(accounts.targetAccountId, now);
+        }
+    }
+
+    private static boolean isTransfer(TransactionExecution transaction) {
+        String name = transaction.getTransactionName();
+        return name != null && name.startsWith(TRANSACTION_PREFIX);
+    }
+
+    private static SlidingHeavyHitters sketch(HotAccountProperties properties) {
+        return new SlidingHeavyHitters(properties.window(), properties.buckets(), properties.depth(),
+                properties.width(), properties.capacity());
+    }
+
+    /**
+     * Cuentas de la transferencia en curso en el hilo.
+     */
+    private static final class Pending {
+
+        private final long sourceAccountId;
+        private final long targetAccountId;
+        private boolean committing;
+
+        Pending(long sourceAccountId, long targetAccountId) {
+            this.sourceAccountId = sourceAccountId;
+            this.targetAccountId = targetAccountId;
+        }
+    }
+}
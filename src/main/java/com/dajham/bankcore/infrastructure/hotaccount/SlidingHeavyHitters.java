@@ -0,0 +1,156 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cuentas más frecuentes en una ventana deslizante. La ventana se divide en
+ * {@code buckets} tramos, cada uno con su count-min sketch y su Space-Saving;
+ * el tramo más antiguo se vacía al reutilizarse. La memoria es fija: no
+ * depende del número de cuentas.
+ *
+ * <p>
+ * El count-min cuenta siempre. Space-Saving solo propone candidatos, y si su
+ * cerrojo está ocupado la actualización se omite en lugar de esperar: las
+ * cuentas calientes aparecen igualmente porque se repiten. El ranking ordena
+ * los candidatos por la estimación del count-min en toda la ventana.
+ */
+final class SlidingHeavyHitters {
+
+    /**
+     * Cuenta con su frecuencia estimada en la ventana.
+     */
+    record HeavyHitter(long accountId, long estimate) {
+    }
+
+    private final Bucket[] buckets;
+    private final long bucketNanos;
+
+    SlidingHeavyHitters(Duration window, int buckets, int depth, int width, int capacity) {
+        if (buckets < 1 || window.toNanos() < buckets) {
+            throw new IllegalArgumentException("Ventana no válida: " + window + " en " + buckets + " tramos");
+        }
+        this.buckets = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new Bucket(depth, width, capacity);
+        }
+        this.bucketNanos = window.toNanos() / buckets;
+    }
+
+    /**
+     * @param key      ID de cuenta
+     * @param nowNanos Instante actual según {@link System#nanoTime()}
+     */
+    void add(long key, long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, buckets.length)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        bucket.sketch.add(key);
+        bucket.total.increment();
+        if (bucket.lock.tryLock()) {
+            try {
+                bucket.candidates.add(key);
+            } finally {
+                bucket.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Frecuencia estimada de una cuenta en la ventana.
+     */
+    long estimate(long key, long nowNanos) {
+        long oldest = oldestLiveEpoch(nowNanos);
+        long estimate = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch >= oldest) {
+                estimate += bucket.sketch.estimate(key);
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Apariciones registradas en la ventana.
+     */
+    long total(long nowNanos) {
+        long oldest = oldestLiveEpoch(nowNanos);
+        long total = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch >= oldest) {
+                total += bucket.total.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Las {@code limit} cuentas con mayor frecuencia estimada en la ventana.
+     */
+    List<HeavyHitter> top(int limit, long nowNanos) {
+        long oldest = oldestLiveEpoch(nowNanos);
+        Set<Long> candidates = new HashSet<>();
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch >= oldest) {
+                bucket.lock.lock();
+                try {
+                    bucket.candidates.copyKeysTo(candidates);
+                } finally {
+                    bucket.lock.unlock();
+                }
+            }
+        }
+        List<HeavyHitter> ranking = new ArrayList<>(candidates.size());
+        for (Long candidate : candidates) {
+            ranking.add(new HeavyHitter(candidate, estimate(candidate, nowNanos)));
+        }
+        ranking.sort(Comparator.comparingLong(HeavyHitter::estimate).reversed()
+                .thenComparingLong(HeavyHitter::accountId));
+        return ranking.size() > limit ? List.copyOf(ranking.subList(0, limit)) : ranking;
+    }
+
+    private long oldestLiveEpoch(long nowNanos) {
+        return Math.floorDiv(nowNanos, bucketNanos) - buckets.length + 1;
+    }
+
+    private static final class Bucket {
+
+        private final CountMinSketch sketch;
+        private final SpaceSaving candidates;
+        private final LongAdder total = new LongAdder();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long epoch = Long.MIN_VALUE;
+
+        Bucket(int depth, int width, int capacity) {
+            this.sketch = new CountMinSketch(depth, width);
+            this.candidates = new SpaceSaving(capacity);
+        }
+
+        /**
+         * Vacía el tramo para reutilizarlo. Un incremento concurrente con el
+         * vaciado puede perderse; las cifras son aproximadas de todos modos.
+         */
+        void reset(long newEpoch) {
+            lock.lock();
+            try {
+                if (epoch == newEpoch) {
+                    return;
+                }
+                sketch.clear();
+                candidates.clear();
+                total.reset();
+                epoch = newEpoch;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
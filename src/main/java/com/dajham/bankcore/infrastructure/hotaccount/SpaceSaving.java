@@ -0,0 +1,63 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Algoritmo Space-Saving: sigue como mucho {@code capacity} candidatos a
+ * cuentas más frecuentes. Cuando llega un ID nuevo con la tabla llena
+ * sustituye al de menor cuenta, así que cualquier ID con frecuencia mayor que
+ * {@code total/capacity} está garantizado en la tabla.
+ *
+ * <p>
+ * No es seguro entre hilos; lo protege {@link SlidingHeavyHitters}.
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<Long, long[]> counts;
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 1");
+        }
+        this.capacity = capacity;
+        this.counts = new HashMap<>(capacity * 2);
+    }
+
+    void add(long key) {
+        long[] count = counts.get(key);
+        if (count != null) {
+            count[0]++;
+            return;
+        }
+        if (counts.size() < capacity) {
+            counts.put(key, new long[] { 1 });
+            return;
+        }
+        // Recorrido lineal: la capacidad es pequeña y solo se paga con IDs nuevos
+        Long minKey = null;
+        long[] min = null;
+        for (Map.Entry<Long, long[]> entry : counts.entrySet()) {
+            if (min == null || entry.getValue()[0] < min[0]) {
+                minKey = entry.getKey();
+                min = entry.getValue();
+            }
+        }
+        counts.remove(minKey);
+        min[0]++;
+        counts.put(key, min);
+    }
+
+    /**
+     * Copia los candidatos actuales en {@code target}.
+     */
+    void copyKeysTo(Set<Long> target) {
+        target.addAll(counts.keySet());
+    }
+
+    void clear() {
+        counts.clear();
+    }
+}
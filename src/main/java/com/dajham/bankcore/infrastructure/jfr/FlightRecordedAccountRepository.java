@@ -0,0 +1,83 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Decorador de {@link AccountRepositoryPort} que emite un
+ * {@link RepositoryCallEvent} por llamada.
+ */
+class FlightRecordedAccountRepository implements AccountRepositoryPort {
+
+    private static final String PORT = "AccountRepositoryPort";
+
+    private final AccountRepositoryPort delegate;
+
+    FlightRecordedAccountRepository(AccountRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Account save(Account account) {
+        return RepositoryCallEvent.record(PORT, "save", () -> delegate.save(account));
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return RepositoryCallEvent.record(PORT, "findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return RepositoryCallEvent.record(PORT, "findByAccountNumber",
+                () -> delegate.findByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public void flush() {
+        RepositoryCallEvent.record(PORT, "flush", () -> {
+            delegate.flush();
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        RepositoryCallEvent.record(PORT, "deleteById", () -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return RepositoryCallEvent.record(PORT, "existsByAccountNumber",
+                () -> delegate.existsByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public List<Account> findByUserId(Long userId) {
+        return RepositoryCallEvent.record(PORT, "findByUserId", () -> delegate.findByUserId(userId));
+    }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        RepositoryCallEvent.record(PORT, "forEachAccountKey", () -> {
+            delegate.forEachAccountKey(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        RepositoryCallEvent.record(PORT, "forEachAccountBalance", () -> {
+            delegate.forEachAccountBalance(consumer);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+
+import java.util.Map;
+
+/**
+ * Decorador de {@link JournalRepositoryPort} que emite un
+ * {@link RepositoryCallEvent} por llamada.
+ */
+class FlightRecordedJournalRepository implements JournalRepositoryPort {
+
+    private static final String PORT = "JournalRepositoryPort";
+
+    private final JournalRepositoryPort delegate;
+
+    FlightRecordedJournalRepository(JournalRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void append(JournalEntry entry) {
+        RepositoryCallEvent.record(PORT, "append", () -> {
+            delegate.append(entry);
+            return null;
+        });
+    }
+
+    @Override
+    public long lastPostingId() {
+        return RepositoryCallEvent.record(PORT, "lastPostingId", delegate::lastPostingId);
+    }
+
+    @Override
+    public Map<Long, Money> sumByAccount(long fromIdExclusive, long toIdInclusive) {
+        return RepositoryCallEvent.record(PORT, "sumByAccount",
+                () -> delegate.sumByAccount(fromIdExclusive, toIdInclusive));
+    }
+
+    @Override
+    public Money balanceOf(long accountId) {
+        return RepositoryCallEvent.record(PORT, "balanceOf", () -> delegate.balanceOf(accountId));
+    }
+}
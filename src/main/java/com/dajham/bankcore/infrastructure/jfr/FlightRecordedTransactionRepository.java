@@ -0,0 +1,30 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+
+/**
+ * Decorador de {@link TransactionRepositoryPort} que emite un
+ * {@link RepositoryCallEvent} por llamada.
+ */
+class FlightRecordedTransactionRepository implements TransactionRepositoryPort {
+
+    private static final String PORT = "TransactionRepositoryPort";
+
+    private final TransactionRepositoryPort delegate;
+
+    FlightRecordedTransactionRepository(TransactionRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        return RepositoryCallEvent.record(PORT, "save", () -> delegate.save(transaction));
+    }
+
+    @Override
+    public boolean existsByReferenceCode(String referenceCode) {
+        return RepositoryCallEvent.record(PORT, "existsByReferenceCode",
+                () -> delegate.existsByReferenceCode(referenceCode));
+    }
+}
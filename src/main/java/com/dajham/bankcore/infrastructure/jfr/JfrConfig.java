@@ -0,0 +1,64 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.decorator.RepositoryPortDecorator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Endpoint {@code jfr} y eventos JFR de los puertos de persistencia. Los
+ * eventos de transferencia y de verificación de JWT se emiten siempre; sin
+ * una grabación activa no tienen coste apreciable.
+ */
+@Configuration
+@ConditionalOnExpression("${bankcore.jfr.enabled:true}")
+public class JfrConfig {
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(JfrProperties properties) {
+        return new JfrEndpoint(properties);
+    }
+
+    /**
+     * Los adaptadores en memoria se inyectan por su clase en el almacén de
+     * instantáneas y no se pueden decorar.
+     */
+    @Configuration
+    @Profile("!reactive")
+    @ConditionalOnExpression("'${bankcore.persistence.adapter:jpa}' != 'memory'")
+    static class RepositoryEvents {
+
+        /**
+         * Se aplica por fuera del control de admisión, así la duración
+         * incluye su espera o su rechazo.
+         */
+        @Bean
+        public RepositoryPortDecorator flightRecordedRepositoryDecorator() {
+            return new RepositoryPortDecorator() {
+                @Override
+                public AccountRepositoryPort decorate(AccountRepositoryPort port) {
+                    return new FlightRecordedAccountRepository(port);
+                }
+
+                @Override
+                public TransactionRepositoryPort decorate(TransactionRepositoryPort port) {
+                    return new FlightRecordedTransactionRepository(port);
+                }
+
+                @Override
+                public JournalRepositoryPort decorate(JournalRepositoryPort port) {
+                    return new FlightRecordedJournalRepository(port);
+                }
+
+                @Override
+                public int getOrder() {
+                    return FLIGHT_RECORDING_ORDER;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoint de actuator {@code jfr} para grabar con Java Flight Recorder sin
+ * reiniciar ni conectar agentes:
+ * <ul>
+ * <li>{@code GET /actuator/jfr}: grabaciones de la JVM</li>
+ * <li>{@code POST /actuator/jfr}: inicia una grabación</li>
+ * <li>{@code GET /actuator/jfr/{name}}: vuelca la grabación y descarga el
+ * fichero</li>
+ * <li>{@code DELETE /actuator/jfr/{name}}: la detiene, la vuelca y la
+ * cierra</li>
+ * </ul>
+ * Los volcados quedan en {@code bankcore.jfr.dump-directory}.
+ */
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final String defaultSettings;
+
+    public JfrEndpoint(JfrProperties properties) {
+        this.dumpDirectory = properties.dumpDirectory();
+        this.defaultSettings = properties.defaultSettings();
+    }
+
+    /**
+     * Resumen de una grabación.
+     *
+     * @param id          Identificador asignado por la JVM
+     * @param name        Nombre de la grabación
+     * @param state       Estado (NEW, DELAYED, RUNNING, STOPPED, CLOSED)
+     * @param startTime   Inicio, si ya empezó
+     * @param duration    Duración máxima, si se fijó
+     * @param size        Bytes grabados hasta ahora
+     * @param destination Último volcado, si lo hay
+     */
+    public record RecordingDescriptor(long id, String name, RecordingState state, Instant startTime,
+            Duration duration, long size, String destination) {
+
+        static RecordingDescriptor of(Recording recording) {
+            Path destination = recording.getDestination();
+            return new RecordingDescriptor(recording.getId(), recording.getName(), recording.getState(),
+                    recording.getStartTime(), recording.getDuration(), recording.getSize(),
+                    destination != null ? destination.toString() : null);
+        }
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingDescriptor::of)
+                .toList();
+    }
+
+    /**
+     * Inicia una grabación. Con {@code duration} se detiene sola y se vuelca
+     * en el directorio de volcados.
+     *
+     * @param name     Nombre de la grabación; debe ser único
+     * @param settings Configuración de JFR ({@code default}, {@code profile})
+     * @param duration Duración máxima
+     * @param maxAge   Antigüedad máxima de los datos que se conservan
+     * @param maxSize  Tamaño máximo de los datos que se conservan
+     * @return La grabación iniciada
+     * @throws IllegalArgumentException Si el nombre ya existe o la
+     *                                  configuración no es válida
+     */
+    @WriteOperation
+    public RecordingDescriptor start(String name, @Nullable String settings, @Nullable Duration duration,
+            @Nullable Duration maxAge, @Nullable DataSize maxSize) {
+        if (find(name).isPresent()) {
+            throw new IllegalArgumentException("Ya existe una grabación con el nombre " + name);
+        }
+        Recording recording = new Recording(configuration(settings != null ? settings : defaultSettings));
+        recording.setName(name);
+        recording.setToDisk(true);
+        if (maxAge != null) {
+            recording.setMaxAge(maxAge);
+        }
+        if (maxSize != null) {
+            recording.setMaxSize(maxSize.toBytes());
+        }
+        if (duration != null) {
+            recording.setDuration(duration);
+            setDestination(recording, dumpPath(name));
+        }
+        recording.start();
+        return RecordingDescriptor.of(recording);
+    }
+
+    /**
+     * Vuelca lo grabado hasta ahora y lo devuelve para descargarlo; la
+     * grabación sigue en marcha.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String name) {
+        Optional<Recording> recording = find(name);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path path = dumpPath(name);
+        try {
+            recording.get().dump(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(path));
+    }
+
+    /**
+     * Detiene la grabación, la vuelca en el directorio de volcados y la
+     * cierra.
+     */
+    @DeleteOperation
+    public WebEndpointResponse<RecordingDescriptor> stop(@Selector String name) {
+        Optional<Recording> found = find(name);
+        if (found.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Recording recording = found.get();
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            setDestination(recording, dumpPath(name));
+            recording.stop();
+        } else if (recording.getState() == RecordingState.STOPPED && recording.getDestination() == null) {
+            try {
+                Path path = dumpPath(name);
+                recording.dump(path);
+                setDestination(recording, path);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        RecordingDescriptor descriptor = RecordingDescriptor.of(recording);
+        recording.close();
+        return new WebEndpointResponse<>(descriptor);
+    }
+
+    private static Optional<Recording> find(String name) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> name.equals(recording.getName()))
+                .filter(recording -> recording.getState() != RecordingState.CLOSED)
+                .findFirst();
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalArgumentException("Configuración de JFR no válida: " + settings, ex);
+        }
+    }
+
+    private static void setDestination(Recording recording, Path path) {
+        try {
+            recording.setDestination(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Path dumpPath(String name) {
+        try {
+            Files.createDirectories(dumpDirectory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        String safeName = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return dumpDirectory.resolve(safeName + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+    }
+}
@@ -0,0 +1,22 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Eventos y grabaciones de Java Flight Recorder ({@code bankcore.jfr}).
+ *
+ * @param enabled         Registra el endpoint {@code jfr} y los decoradores
+ *                        de los puertos de persistencia
+ * @param dumpDirectory   Directorio donde se vuelcan las grabaciones
+ * @param defaultSettings Configuración de JFR si la petición no indica otra
+ *                        ({@code default} o {@code profile})
+ */
+@ConfigurationProperties(prefix = "bankcore.jfr")
+public record JfrProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("./data/jfr") Path dumpDirectory,
+        @DefaultValue("default") String defaultSettings) {
+}
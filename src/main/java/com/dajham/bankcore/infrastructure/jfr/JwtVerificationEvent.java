@@ -0,0 +1,52 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de la autenticación de una petición por token: verificación de
+ * la firma, carga del usuario y validación del token.
+ */
+@Name("bankcore.JwtVerification")
+@Label("JWT Verification")
+@Category({ "BankCore", "Security" })
+@Description("Verificación del token JWT y carga del usuario")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Username")
+    String username;
+
+    @Label("Outcome")
+    @Description("AUTHENTICATED, REJECTED, SKIPPED o la excepción producida")
+    String outcome;
+
+    /**
+     * Crea el evento y empieza a medir.
+     */
+    public static JwtVerificationEvent start() {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Termina la medición y registra el evento si supera el umbral de la
+     * grabación.
+     *
+     * @param username Usuario del token, si se pudo leer
+     * @param outcome  Resultado de la verificación
+     */
+    public void complete(String username, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.username = username;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
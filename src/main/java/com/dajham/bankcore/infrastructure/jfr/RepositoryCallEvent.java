@@ -0,0 +1,56 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Evento JFR de una llamada a un puerto de persistencia. Lo emiten los
+ * decoradores {@code FlightRecorded*}, por fuera del control de admisión:
+ * la duración incluye la espera por una conexión.
+ */
+@Name("bankcore.RepositoryCall")
+@Label("Repository Call")
+@Category({ "BankCore", "Persistence" })
+@Description("Llamada a un puerto de persistencia")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Port")
+    String port;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failure")
+    @Description("Excepción lanzada por la llamada, si la hubo")
+    String failure;
+
+    /**
+     * Ejecuta una llamada al puerto registrando su duración.
+     */
+    static <T> T record(String port, String method, Supplier<T> call) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        String failure = null;
+        try {
+            return call.get();
+        } catch (RuntimeException ex) {
+            failure = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.port = port;
+                event.method = method;
+                event.failure = failure;
+                event.commit();
+            }
+        }
+    }
+}
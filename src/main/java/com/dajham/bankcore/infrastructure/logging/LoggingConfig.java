@@ -0,0 +1,29 @@
+package com.dajham.bankcore.infrastructure.logging;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * Auditoría de transferencias e identificador de correlación por petición.
+ * Los appenders asíncronos y el muestreo de SQL se configuran en
+ * {@code logback-spring.xml} (perfil {@code async-logging}).
+ */
+@Configuration
+@Profile("!reactive")
+public class LoggingConfig {
+
+    @Bean
+    public LoggingTransferAudit transferAudit() {
+        return new LoggingTransferAudit();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+        FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(new RequestIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,61 @@
+package com.dajham.bankcore.infrastructure.logging;
+
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.port.TransferAuditPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Auditoría de transferencias sobre el logger {@value #LOGGER}. Cada entrada
+ * es un evento con un mensaje fijo y pares clave-valor (referenceCode,
+ * cuentas, importe, latencia y resultado), que el codificador estructurado
+ * de {@code logback-spring.xml} escribe como campos JSON sin formatear el
+ * mensaje en el hilo de la petición.
+ *
+ * <p>
+ * Con una transacción en curso la entrada se escribe al terminar, de modo
+ * que la latencia incluye el commit y el resultado es el definitivo.
+ * Se desactiva con {@code logging.level.bankcore.audit.transfer=OFF}.
+ */
+public class LoggingTransferAudit implements TransferAuditPort {
+
+    /** Logger de auditoría; tiene su propio appender. */
+    public static final String LOGGER = "bankcore.audit.transfer";
+
+    private static final Logger audit = LoggerFactory.getLogger(LOGGER);
+
+    @Override
+    public void recordTransfer(Transaction transaction, long startNanos) {
+        if (!audit.isInfoEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(transaction, startNanos, "COMPLETED");
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                write(transaction, startNanos, switch (status) {
+                    case STATUS_COMMITTED -> "COMMITTED";
+                    case STATUS_ROLLED_BACK -> "ROLLED_BACK";
+                    default -> "UNKNOWN";
+                });
+            }
+        });
+    }
+
+    private static void write(Transaction transaction, long startNanos, String outcome) {
+        audit.atInfo()
+                .setMessage("transfer")
+                .addKeyValue("referenceCode", transaction.getReferenceCode())
+                .addKeyValue("sourceAccountId", transaction.getSourceAccountId())
+                .addKeyValue("targetAccountId", transaction.getTargetAccountId())
+                .addKeyValue("amount", transaction.getAmount().toBigDecimal())
+                .addKeyValue("latencyMicros", (System.nanoTime() - startNanos) / 1_000)
+                .addKeyValue("outcome", outcome)
+                .log();
+    }
+}
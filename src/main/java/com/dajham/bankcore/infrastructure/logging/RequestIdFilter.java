@@ -0,0 +1,74 @@
+package com.dajham.bankcore.infrastructure.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Identificador de correlación por petición. Toma el de la cabecera
+ * {@value #HEADER} si es válido o genera uno, lo deja en el MDC como
+ * {@value #MDC_KEY} mientras dura la petición y lo devuelve en la respuesta.
+ *
+ * <p>
+ * Se registra el primero de la cadena para que también lo lleven los logs
+ * de la limitación de peticiones y de la autenticación.
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final int MAX_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = request.getHeader(HEADER);
+        if (!isValid(requestId)) {
+            requestId = generate();
+        }
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * Solo se aceptan identificadores cortos de caracteres seguros, para que
+     * la cabecera no pueda inyectar texto en los logs.
+     */
+    private static boolean isValid(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '_' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64 bits aleatorios en hexadecimal. Sin {@link java.util.UUID#randomUUID()},
+     * que comparte un {@code SecureRandom} entre todas las peticiones.
+     */
+    private static String generate() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
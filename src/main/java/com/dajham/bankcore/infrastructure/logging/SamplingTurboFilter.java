@@ -0,0 +1,65 @@
+package com.dajham.bankcore.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deja pasar uno de cada {@code rate} eventos de depuración de los loggers
+ * configurados y descarta el resto antes de crear el evento. Pensado para el
+ * log de SQL ({@code org.hibernate.SQL}, {@code JdbcTemplate}): se conserva
+ * una muestra de las sentencias sin pagar el coste de registrarlas todas.
+ *
+ * <p>
+ * Las comprobaciones de nivel ({@code isDebugEnabled()}) no se muestrean;
+ * así el logger sigue activo y solo se decide en la llamada que registra.
+ * Se configura en {@code logback-spring.xml}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private final AtomicLong events = new AtomicLong();
+    private int rate = 100;
+
+    public void addLogger(String logger) {
+        loggers.add(logger);
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void start() {
+        if (rate < 1) {
+            addError("rate debe ser al menos 1");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (format == null || level.levelInt > Level.DEBUG_INT || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return events.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        for (String logger : loggers) {
+            if (name.startsWith(logger)
+                    && (name.length() == logger.length() || name.charAt(logger.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,149 @@
+package com.dajham.bankcore.infrastructure.metrics;
+
+import com.dajham.bankcore.application.service.TransferService;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.TransferMetricsPort;
+import com.dajham.bankcore.infrastructure.persistence.commit.CommitFailures;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas Micrometer del camino de transferencia.
+ *
+ * <ul>
+ * <li>{@code bankcore.transfer.phase{phase}}: duración de cada fase.</li>
+ * <li>{@code bankcore.transfer.rejected{reason}}: transferencias
+ * rechazadas.</li>
+ * <li>{@code bankcore.transfer.conflicts{stage}}: conflictos de versión.</li>
+ * <li>{@code bankcore.transfer.amount}: importe de las transferencias
+ * aplicadas.</li>
+ * </ul>
+ *
+ * <p>
+ * El commit ocurre fuera del servicio, en el proxy transaccional, así que esta
+ * clase también escucha al gestor de transacciones: mide de
+ * {@code beforeCommit} a {@code afterCommit} las transacciones abiertas por
+ * {@link TransferService}. El servicio envía los UPDATE de las cuentas antes
+ * del commit, así que sus conflictos de versión llevan {@code stage=save}; el
+ * commit solo falla por versión si la transacción deja otras entidades
+ * versionadas sin enviar. El gestor no comunica la excepción a los oyentes,
+ * así que su causa se consulta en {@link CommitFailures}: solo un commit que
+ * falla por un conflicto de versión cuenta con {@code stage=commit}; el resto
+ * de fallos (restricciones, conexión) no cuentan.
+ *
+ * <p>
+ * Los histogramas y percentiles se configuran con
+ * {@code management.metrics.distribution.*}.
+ */
+public class MicrometerTransferMetrics implements TransferMetricsPort, TransactionExecutionListener {
+
+    private static final String TRANSACTION_PREFIX = TransferService.class.getName() + ".";
+
+    private final Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+    private final Map<Rejection, Counter> rejections = new EnumMap<>(Rejection.class);
+    private final Counter saveConflicts;
+    private final Counter commitConflicts;
+    private final DistributionSummary amounts;
+    private final ThreadLocal<Long> commitStart = new ThreadLocal<>();
+
+    public MicrometerTransferMetrics(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, Timer.builder("bankcore.transfer.phase")
+                    .description("Duración de cada fase de una transferencia")
+                    .tag("phase", tagValue(phase))
+                    .register(meterRegistry));
+        }
+        for (Rejection reason : Rejection.values()) {
+            rejections.put(reason, Counter.builder("bankcore.transfer.rejected")
+                    .description("Transferencias rechazadas por motivo")
+                    .tag("reason", tagValue(reason))
+                    .register(meterRegistry));
+        }
+        saveConflicts = conflictCounter(meterRegistry, "save");
+        commitConflicts = conflictCounter(meterRegistry, "commit");
+        amounts = DistributionSummary.builder("bankcore.transfer.amount")
+                .description("Importe de las transferencias aplicadas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordPhase(Phase phase, long nanos) {
+        phases.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRejection(Rejection reason) {
+        rejections.get(reason).increment();
+    }
+
+    @Override
+    public void recordConflict() {
+        saveConflicts.increment();
+    }
+
+    @Override
+    public void recordAmount(Money amount) {
+        amounts.record(amount.toBigDecimal().doubleValue());
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (isTransfer(transaction)) {
+            commitStart.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        Long start = commitStart.get();
+        if (start == null) {
+            return;
+        }
+        commitStart.remove();
+        if (commitFailure == null) {
+            recordPhase(Phase.COMMIT, System.nanoTime() - start);
+        } else {
+            recordCommitFailure();
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        // Tras beforeCommit, un rollback significa que el commit falló
+        if (commitStart.get() != null) {
+            commitStart.remove();
+            recordCommitFailure();
+        }
+    }
+
+    private void recordCommitFailure() {
+        if (CommitFailures.isOptimisticLockFailure()) {
+            commitConflicts.increment();
+        }
+    }
+
+    private static boolean isTransfer(TransactionExecution transaction) {
+        String name = transaction.getTransactionName();
+        return name != null && name.startsWith(TRANSACTION_PREFIX);
+    }
+
+    private static Counter conflictCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("bankcore.transfer.conflicts")
+                .description("Transferencias abortadas por un conflicto de versión")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
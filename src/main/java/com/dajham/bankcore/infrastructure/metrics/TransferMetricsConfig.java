@@ -0,0 +1,21 @@
+package com.dajham.bankcore.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Métricas del camino de transferencia. Spring Boot registra el bean como
+ * oyente del gestor de transacciones autoconfigurado, lo que permite medir el
+ * commit.
+ */
+@Configuration
+@Profile("!reactive")
+public class TransferMetricsConfig {
+
+    @Bean
+    public MicrometerTransferMetrics transferMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerTransferMetrics(meterRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import com.dajham.bankcore.domain.model.TransferCompleted;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino que añade cada evento como una línea JSON a un fichero local. Hace
+ * de sustituto de un broker: los consumidores leen el fichero desde su última
+ * posición. Cada lote se fuerza a disco antes de confirmarse.
+ */
+public class FileOutboxSink implements OutboxSink, AutoCloseable {
+
+    private final FileChannel channel;
+
+    public FileOutboxSink(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void send(List<OutboxMessage> batch) throws IOException {
+        StringBuilder lines = new StringBuilder(batch.size() * 256);
+        for (OutboxMessage message : batch) {
+            appendJson(lines, message);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Todos los campos son números, fechas ISO o UUID generados por la
+     * aplicación, así que no requieren escapado.
+     */
+    private static void appendJson(StringBuilder out, OutboxMessage message) {
+        TransferCompleted event = message.event();
+        out.append("{\"id\":").append(message.id())
+                .append(",\"type\":\"TransferCompleted\"")
+                .append(",\"transactionId\":").append(event.transactionId())
+                .append(",\"referenceCode\":\"").append(event.referenceCode()).append('"')
+                .append(",\"sourceAccountId\":").append(event.sourceAccountId())
+                .append(",\"targetAccountId\":").append(event.targetAccountId())
+                .append(",\"amount\":").append(event.amount())
+                .append(",\"occurredAt\":\"").append(event.occurredAt()).append("\"}\n");
+    }
+}
@@ -0,0 +1,22 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Destino que escribe cada evento en el log {@code bankcore.outbox}. Útil en
+ * desarrollo para ver qué se entregaría.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("bankcore.outbox");
+
+    @Override
+    public void send(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            log.info("Evento {}: {}", message.id(), message.event());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+
+/**
+ * Relé del outbox de transferencias. Se activa con
+ * {@code bankcore.outbox.enabled=true}; el almacén lo aporta el adaptador de
+ * persistencia activo.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.outbox.enabled:false}")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties) throws IOException {
+        return switch (properties.sink()) {
+            case "file" -> new FileOutboxSink(properties.filePath());
+            case "log" -> new LoggingOutboxSink();
+            default -> throw new IllegalArgumentException(
+                    "Destino de outbox no soportado: " + properties.sink());
+        };
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxStore store, OutboxSink sink, OutboxProperties properties,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        return new OutboxRelay(store, sink, properties.batchSize(), transactionManager, meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import com.dajham.bankcore.domain.model.TransferCompleted;
+
+/**
+ * Evento pendiente de entrega junto con su posición en el outbox.
+ *
+ * @param id    Posición en el outbox; creciente en el orden de escritura
+ * @param event El evento
+ */
+public record OutboxMessage(long id, TransferCompleted event) {
+}
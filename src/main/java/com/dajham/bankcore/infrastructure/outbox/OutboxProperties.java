@@ -0,0 +1,25 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración del outbox de eventos de transferencia
+ * ({@code bankcore.outbox}).
+ *
+ * @param enabled      Guarda los eventos en el outbox y arranca el relé
+ * @param batchSize    Eventos leídos y entregados por lote
+ * @param pollInterval Milisegundos entre vaciados del outbox
+ * @param sink         Destino de los eventos: {@code file} o {@code log}
+ * @param filePath     Fichero JSON Lines del destino {@code file}
+ */
+@ConfigurationProperties(prefix = "bankcore.outbox")
+public record OutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("500") long pollInterval,
+        @DefaultValue("file") String sink,
+        @DefaultValue("./data/outbox/transfer-events.jsonl") Path filePath) {
+}
@@ -0,0 +1,89 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vacía el outbox por lotes hacia el destino configurado.
+ *
+ * <p>
+ * Entrega al menos una vez: un lote se borra solo después de que el destino
+ * lo acepte, así que un fallo entre ambos pasos lo reenvía. Los lotes se
+ * leen en orden de ID y no se entrega el siguiente hasta confirmar el
+ * anterior; como dos transferencias sobre la misma cuenta se serializan por
+ * el bloqueo optimista, los eventos de una cuenta salen en el orden en que se
+ * confirmaron. Supone un único relé por base de datos.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxStore store;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final Counter dispatched;
+    private final Counter failures;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxStore store, OutboxSink sink, int batchSize,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.dispatched = Counter.builder("bankcore.outbox.dispatched")
+                .description("Eventos entregados por el relé del outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("bankcore.outbox.failures")
+                .description("Lotes del outbox que el destino rechazó")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("bankcore.outbox.batch")
+                .description("Duración de la entrega y borrado de un lote del outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Entrega lotes hasta vaciar el outbox o hasta el primer fallo.
+     *
+     * @return Eventos entregados en esta pasada
+     */
+    @Scheduled(fixedDelayString = "${bankcore.outbox.poll-interval:500}")
+    public int drain() {
+        int total = 0;
+        while (true) {
+            List<OutboxMessage> batch = readTemplate.execute(status -> store.fetchBatch(batchSize));
+            if (batch == null || batch.isEmpty()) {
+                return total;
+            }
+            long start = System.nanoTime();
+            try {
+                sink.send(batch);
+            } catch (Exception ex) {
+                failures.increment();
+                log.warn("No se pudo entregar un lote de {} eventos del outbox; se reintentará", batch.size(), ex);
+                return total;
+            }
+            List<Long> ids = batch.stream().map(OutboxMessage::id).toList();
+            writeTemplate.executeWithoutResult(status -> store.delete(ids));
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            dispatched.increment(batch.size());
+            total += batch.size();
+            if (batch.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+}
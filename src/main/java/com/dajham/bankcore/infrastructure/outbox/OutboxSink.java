@@ -0,0 +1,20 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox. Si {@link #send} termina sin excepción el
+ * lote se da por entregado y se borra; si falla, se reintenta completo en el
+ * siguiente ciclo, por lo que el destino puede recibir duplicados.
+ */
+public interface OutboxSink {
+
+    /**
+     * Entrega un lote de eventos en orden.
+     *
+     * @param batch Eventos ordenados por ID
+     * @throws IOException si el lote no se pudo entregar
+     */
+    void send(List<OutboxMessage> batch) throws IOException;
+}
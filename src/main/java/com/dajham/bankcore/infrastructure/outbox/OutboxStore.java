@@ -0,0 +1,25 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Lectura y borrado del outbox por parte del relé. Lo implementa cada
+ * adaptador de persistencia junto con {@link com.dajham.bankcore.domain.port.OutboxPort}.
+ */
+public interface OutboxStore {
+
+    /**
+     * Eventos confirmados más antiguos, en orden de ID.
+     *
+     * @param limit Máximo de eventos
+     * @return Los eventos pendientes
+     */
+    List<OutboxMessage> fetchBatch(int limit);
+
+    /**
+     * Elimina los eventos ya entregados.
+     *
+     * @param ids IDs de los eventos entregados
+     */
+    void delete(List<Long> ids);
+}
@@ -1,6 +1,8 @@
 package com.dajham.bankcore.infrastructure.persistence;
 
 import com.dajham.bankcore.infrastructure.persistence.repository.UserEntityRepository;
+import com.dajham.bankcore.infrastructure.security.OperatorProperties;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,12 +14,15 @@ import org.springframework.stereotype.Service;
  * Spring Security utiliza este servicio para autenticar usuarios.
  */
 @Service
+@Profile("!reactive")
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserEntityRepository userRepository;
+    private final OperatorProperties operators;
 
-    public CustomUserDetailsService(UserEntityRepository userRepository) {
+    public CustomUserDetailsService(UserEntityRepository userRepository, OperatorProperties operators) {
         this.userRepository = userRepository;
+        this.operators = operators;
     }
 
     /**
@@ -32,6 +37,10 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
+                .map(user -> {
+                    user.setOperator(operators.isOperator(user.getUsername()));
+                    return user;
+                })
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "Usuario no encontrado con username: " + username));
     }
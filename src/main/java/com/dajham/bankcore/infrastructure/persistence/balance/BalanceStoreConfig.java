@@ -0,0 +1,45 @@
+package com.dajham.bankcore.infrastructure.persistence.balance;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.BalanceStorePort;
+import com.dajham.bankcore.infrastructure.persistence.decorator.RepositoryPortDecorator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Almacén de saldos confirmados fuera del heap. Se activa con
+ * {@code bankcore.balance-store.enabled=true}; con el adaptador en memoria no
+ * aporta nada y se ignora.
+ *
+ * <p>
+ * Con varias réplicas, o con cambios hechos directamente en la base de datos,
+ * puede quedar desfasado. Por eso las transferencias no lo consultan: el
+ * saldo lo valida siempre la cuenta cargada del repositorio.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.balance-store.enabled:false} && '${bankcore.persistence.adapter:jpa}' != 'memory'")
+public class BalanceStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public MappedBalanceStore balanceStore(BalanceStoreProperties properties) {
+        return new MappedBalanceStore(properties.path(), properties.capacity());
+    }
+
+    @Bean
+    public RepositoryPortDecorator balanceTrackingDecorator(BalanceStorePort balanceStore) {
+        return new RepositoryPortDecorator() {
+            @Override
+            public AccountRepositoryPort decorate(AccountRepositoryPort port) {
+                return new BalanceTrackingAccountRepository(port, balanceStore);
+            }
+
+            @Override
+            public int getOrder() {
+                return BALANCE_TRACKING_ORDER;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.dajham.bankcore.infrastructure.persistence.balance;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración del almacén de saldos fuera del heap
+ * ({@code bankcore.balance-store}).
+ *
+ * @param enabled  Activa el almacén
+ * @param path     Fichero mapeado en memoria que conserva los saldos entre
+ *                 reinicios
+ * @param capacity Número de huecos (potencia de 2); conviene que sea al
+ *                 menos el doble de las cuentas activas
+ */
+@ConfigurationProperties(prefix = "bankcore.balance-store")
+public record BalanceStoreProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("./data/balances.dat") Path path,
+        @DefaultValue("1048576") int capacity) {
+}
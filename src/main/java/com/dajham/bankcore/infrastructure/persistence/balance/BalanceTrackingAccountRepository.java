@@ -0,0 +1,98 @@
+package com.dajham.bankcore.infrastructure.persistence.balance;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.BalanceStorePort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Decorador de {@link AccountRepositoryPort} que publica en el
+ * {@link BalanceStorePort} los saldos de las cuentas guardadas o eliminadas,
+ * solo cuando la transacción se confirma.
+ *
+ * <p>
+ * La versión publicada es la que tendrá la fila tras el commit (la leída más
+ * uno, o 0 al crearla), igual en todos los adaptadores; así el almacén
+ * descarta las publicaciones que lleguen desordenadas.
+ */
+class BalanceTrackingAccountRepository implements AccountRepositoryPort {
+
+    private final AccountRepositoryPort delegate;
+    private final BalanceStorePort balanceStore;
+
+    BalanceTrackingAccountRepository(AccountRepositoryPort delegate, BalanceStorePort balanceStore) {
+        this.delegate = delegate;
+        this.balanceStore = balanceStore;
+    }
+
+    @Override
+    public Account save(Account account) {
+        long version = account.getId() == null
+                ? 0L
+                : (account.getVersion() != null ? account.getVersion() : 0L) + 1;
+        Account saved = delegate.save(account);
+        Long id = saved.getId();
+        afterCommit(() -> balanceStore.update(id, saved.getBalance(), version));
+        return saved;
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return delegate.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        afterCommit(() -> balanceStore.remove(id));
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public List<Account> findByUserId(Long userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        delegate.forEachAccountKey(consumer);
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        delegate.forEachAccountBalance(consumer);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,226 @@
+package com.dajham.bankcore.infrastructure.persistence.balance;
+
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.BalanceStorePort;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Almacén de saldos en un fichero mapeado en memoria, fuera del heap.
+ *
+ * <p>
+ * El fichero es una tabla hash de direccionamiento abierto con sondeo lineal:
+ * cada hueco ocupa 32 bytes ({@code id, stamp, version, balance}) y el hueco de
+ * una cuenta se reclama con CAS sobre su ID, de modo que no hace falta un
+ * índice aparte ni reconstruirlo al arrancar. Los saldos se guardan como
+ * {@code long} en unidades mínimas (céntimos).
+ *
+ * <p>
+ * Cada hueco se protege con un seqlock: el escritor pone {@code stamp} impar
+ * con CAS, escribe versión y saldo y lo deja par; el lector reintenta si el
+ * sello cambió mientras leía. Las lecturas no bloquean y las escrituras de
+ * cuentas distintas no compiten. Los IDs no se reutilizan, así que los huecos
+ * nunca se liberan: una cuenta eliminada queda marcada con versión máxima.
+ */
+public class MappedBalanceStore implements BalanceStorePort, AutoCloseable {
+
+    private static final int MAGIC = 0x42434253; // "BCBS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 32;
+    private static final int ID = 0;
+    private static final int STAMP = 8;
+    private static final int VERSION = 16;
+    private static final int BALANCE = 24;
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+
+    /**
+     * Abre o crea el fichero de saldos.
+     *
+     * @param path     Fichero mapeado
+     * @param capacity Número de huecos (potencia de 2)
+     * @throws IllegalStateException si el fichero existe con otro formato o
+     *                               capacidad
+     */
+    public MappedBalanceStore(Path path, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de 2: " + capacity);
+        }
+        long size = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacidad demasiado grande para un único mapeo: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // El mapeo sigue siendo válido tras cerrar el canal
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo mapear el almacén de saldos " + path, ex);
+        }
+        buffer.order(ByteOrder.nativeOrder());
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putInt(8, capacity);
+            buffer.putInt(12, Money.SCALE);
+            buffer.putInt(0, MAGIC);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION
+                || buffer.getInt(8) != capacity || buffer.getInt(12) != Money.SCALE) {
+            throw new IllegalStateException("El almacén de saldos " + path
+                    + " tiene otro formato o capacidad; elimínelo o configure la misma capacidad");
+        }
+    }
+
+    @Override
+    public Optional<Money> findBalance(Long accountId) {
+        int slot = find(accountId);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        long stamp;
+        long version;
+        long balance;
+        do {
+            stamp = awaitStable(slot);
+            if (stamp == 0) {
+                return Optional.empty();
+            }
+            version = (long) LONG.getOpaque(buffer, slot + VERSION);
+            balance = (long) LONG.getOpaque(buffer, slot + BALANCE);
+            VarHandle.acquireFence();
+        } while ((long) LONG.getVolatile(buffer, slot + STAMP) != stamp);
+
+        return version == DELETED ? Optional.empty() : Optional.of(Money.ofMinor(balance));
+    }
+
+    @Override
+    public void update(Long accountId, Money balance, long version) {
+        write(accountId, balance.minorUnits(), version);
+    }
+
+    @Override
+    public void remove(Long accountId) {
+        write(accountId, 0, DELETED);
+    }
+
+    /**
+     * Número de huecos del fichero.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Fuerza la escritura a disco de las páginas modificadas.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private void write(long accountId, long balance, long version) {
+        int slot = claim(accountId);
+        if (slot < 0) {
+            // Tabla llena: el almacén es consultivo y simplemente no conoce la cuenta
+            return;
+        }
+        long stamp;
+        do {
+            stamp = awaitStable(slot);
+        } while (!LONG.compareAndSet(buffer, slot + STAMP, stamp, stamp + 1));
+
+        long current = (long) LONG.get(buffer, slot + VERSION);
+        if (stamp != 0 && current >= version) {
+            // Ya hay una versión igual o más reciente
+            LONG.setRelease(buffer, slot + STAMP, stamp);
+            return;
+        }
+        LONG.setOpaque(buffer, slot + VERSION, version);
+        LONG.setOpaque(buffer, slot + BALANCE, balance);
+        LONG.setRelease(buffer, slot + STAMP, stamp + 2);
+    }
+
+    private long awaitStable(int slot) {
+        long stamp;
+        while (((stamp = (long) LONG.getAcquire(buffer, slot + STAMP)) & 1) != 0) {
+            Thread.onSpinWait();
+        }
+        return stamp;
+    }
+
+    /**
+     * Offset del hueco de la cuenta, o -1 si no está.
+     */
+    private int find(long accountId) {
+        int index = index(accountId);
+        for (int probe = 0; probe < capacity; probe++) {
+            int slot = offset(index);
+            long id = (long) LONG.getAcquire(buffer, slot + ID);
+            if (id == accountId) {
+                return slot;
+            }
+            if (id == 0) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Offset del hueco de la cuenta, reclamándolo si no existe; -1 si la tabla
+     * está llena.
+     */
+    private int claim(long accountId) {
+        int index = index(accountId);
+        for (int probe = 0; probe < capacity; probe++) {
+            int slot = offset(index);
+            long id = (long) LONG.getAcquire(buffer, slot + ID);
+            if (id == 0) {
+                if (LONG.compareAndSet(buffer, slot + ID, 0L, accountId)) {
+                    return slot;
+                }
+                id = (long) LONG.getAcquire(buffer, slot + ID);
+            }
+            if (id == accountId) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int index(long accountId) {
+        return (int) ((accountId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static int offset(int index) {
+        return HEADER_BYTES + index * SLOT_BYTES;
+    }
+}
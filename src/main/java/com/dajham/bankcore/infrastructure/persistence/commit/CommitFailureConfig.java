@@ -0,0 +1,36 @@
+package com.dajham.bankcore.infrastructure.persistence.commit;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Anota la causa de los commits fallidos del gestor de transacciones de JPA
+ * para que sus oyentes distingan un conflicto de versión de otros fallos; ver
+ * {@link CommitFailures}.
+ */
+@Configuration
+@Profile("!reactive")
+public class CommitFailureConfig {
+
+    /**
+     * Envuelve el dialecto después de la inicialización, que es cuando el
+     * gestor lo toma de la factoría de EntityManager.
+     */
+    @Bean
+    static BeanPostProcessor commitFailureRecordingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JpaTransactionManager transactionManager
+                        && !(transactionManager.getJpaDialect() instanceof CommitFailureRecordingJpaDialect)) {
+                    transactionManager.setJpaDialect(
+                            new CommitFailureRecordingJpaDialect(transactionManager.getJpaDialect()));
+                }
+                return bean;
+            }
+        };
+    }
+}
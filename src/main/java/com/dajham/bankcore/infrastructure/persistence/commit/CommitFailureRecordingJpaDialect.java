@@ -0,0 +1,67 @@
+package com.dajham.bankcore.infrastructure.persistence.commit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.ConnectionHandle;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.JpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * {@link JpaDialect} del gestor de transacciones que anota en
+ * {@link CommitFailures} las excepciones que traduce. Dentro de una
+ * transacción el gestor solo traduce las del commit (el flush de Hibernate y
+ * su versión), de modo que lo anotado es la causa del commit fallido. Los
+ * repositorios traducen con el dialecto de la factoría de EntityManager, que
+ * no se envuelve.
+ */
+class CommitFailureRecordingJpaDialect implements JpaDialect {
+
+    private final JpaDialect delegate;
+
+    CommitFailureRecordingJpaDialect(JpaDialect delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        CommitFailures.clear();
+        return delegate.beginTransaction(entityManager, definition);
+    }
+
+    @Override
+    public Object prepareTransaction(EntityManager entityManager, boolean readOnly, @Nullable String name)
+            throws PersistenceException {
+        return delegate.prepareTransaction(entityManager, readOnly, name);
+    }
+
+    @Override
+    public void cleanupTransaction(@Nullable Object transactionData) {
+        delegate.cleanupTransaction(transactionData);
+    }
+
+    @Override
+    @Nullable
+    public ConnectionHandle getJdbcConnection(EntityManager entityManager, boolean readOnly)
+            throws PersistenceException, SQLException {
+        return delegate.getJdbcConnection(entityManager, readOnly);
+    }
+
+    @Override
+    public void releaseJdbcConnection(ConnectionHandle connectionHandle, EntityManager entityManager)
+            throws PersistenceException, SQLException {
+        delegate.releaseJdbcConnection(connectionHandle, entityManager);
+    }
+
+    @Override
+    @Nullable
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        DataAccessException translated = delegate.translateExceptionIfPossible(ex);
+        CommitFailures.record(translated != null ? translated : ex);
+        return translated;
+    }
+}
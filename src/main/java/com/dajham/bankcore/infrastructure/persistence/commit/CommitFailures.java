@@ -0,0 +1,38 @@
+package com.dajham.bankcore.infrastructure.persistence.commit;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Causa del último commit fallido en el hilo.
+ *
+ * <p>
+ * El gestor de transacciones no pasa a sus oyentes la excepción del commit:
+ * si falla con una {@code DataAccessException} los avisa con
+ * {@code afterRollback(status, null)}. {@link CommitFailureRecordingJpaDialect}
+ * la guarda aquí al traducirla, y se borra al empezar cada transacción, así
+ * que un oyente puede consultarla en {@code afterCommit} o
+ * {@code afterRollback}. Solo se registra con el gestor de JPA.
+ */
+public final class CommitFailures {
+
+    private static final ThreadLocal<RuntimeException> LAST = new ThreadLocal<>();
+
+    private CommitFailures() {
+    }
+
+    /**
+     * Si el commit de la transacción en curso en el hilo falló por un
+     * conflicto de versión.
+     */
+    public static boolean isOptimisticLockFailure() {
+        return LAST.get() instanceof OptimisticLockingFailureException;
+    }
+
+    static void record(RuntimeException failure) {
+        LAST.set(failure);
+    }
+
+    static void clear() {
+        LAST.remove();
+    }
+}
@@ -0,0 +1,54 @@
+package com.dajham.bankcore.infrastructure.persistence.decorator;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import org.springframework.core.Ordered;
+
+/**
+ * Decorador de los puertos de persistencia. Cada funcionalidad que envuelve
+ * los repositorios registra uno como bean y
+ * {@link RepositoryPortDecoratorConfig} los aplica en orden ascendente: el de
+ * menor orden queda pegado al adaptador y el de mayor orden es el que ven los
+ * servicios. Los métodos que no se redefinen devuelven el puerto sin cambios.
+ *
+ * <p>
+ * Cada decorador usa una de las constantes de esta interfaz, de modo que el
+ * orden de la cadena queda escrito en un solo sitio.
+ */
+public interface RepositoryPortDecorator extends Ordered {
+
+    /**
+     * Control de admisión: solo mide lo que llega a la base de datos.
+     */
+    int ADMISSION_ORDER = 100;
+
+    /**
+     * Publicación de saldos en el almacén fuera del heap.
+     */
+    int BALANCE_TRACKING_ORDER = 200;
+
+    /**
+     * Eventos JFR: la duración incluye el rechazo o la espera del control de
+     * admisión.
+     */
+    int FLIGHT_RECORDING_ORDER = 300;
+
+    /**
+     * Filtro de existencia: una consulta descartada no llega a ningún otro
+     * decorador.
+     */
+    int EXISTENCE_FILTER_ORDER = 400;
+
+    default AccountRepositoryPort decorate(AccountRepositoryPort port) {
+        return port;
+    }
+
+    default TransactionRepositoryPort decorate(TransactionRepositoryPort port) {
+        return port;
+    }
+
+    default JournalRepositoryPort decorate(JournalRepositoryPort port) {
+        return port;
+    }
+}
@@ -0,0 +1,59 @@
+package com.dajham.bankcore.infrastructure.persistence.decorator;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Aplica los {@link RepositoryPortDecorator} registrados a los adaptadores de
+ * persistencia.
+ */
+@Configuration
+public class RepositoryPortDecoratorConfig {
+
+    /**
+     * Estático para que se registre antes que los repositorios que decora.
+     * No implementa {@code Ordered}: los post-procesadores sin orden se
+     * ejecutan después de los ordenados, entre ellos el de traducción de
+     * excepciones de {@code @Repository}, así que los decoradores envuelven
+     * el proxy que traduce las excepciones y no al adaptador desnudo.
+     */
+    @Bean
+    static BeanPostProcessor repositoryPortDecoratorPostProcessor(
+            ObjectProvider<RepositoryPortDecorator> decorators) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof AccountRepositoryPort port) {
+                    for (RepositoryPortDecorator decorator : ordered(decorators)) {
+                        port = decorator.decorate(port);
+                    }
+                    return port;
+                }
+                if (bean instanceof TransactionRepositoryPort port) {
+                    for (RepositoryPortDecorator decorator : ordered(decorators)) {
+                        port = decorator.decorate(port);
+                    }
+                    return port;
+                }
+                if (bean instanceof JournalRepositoryPort port) {
+                    for (RepositoryPortDecorator decorator : ordered(decorators)) {
+                        port = decorator.decorate(port);
+                    }
+                    return port;
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static List<RepositoryPortDecorator> ordered(ObjectProvider<RepositoryPortDecorator> decorators) {
+        return decorators.orderedStream().toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.dajham.bankcore.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para los eventos de transferencia pendientes de entrega.
+ * Las filas se insertan con la transferencia y se borran al entregarse.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false, updatable = false)
+    private Long transactionId;
+
+    @Column(name = "reference_code", nullable = false, updatable = false, length = 36)
+    private String referenceCode;
+
+    @Column(name = "source_account_id", nullable = false, updatable = false)
+    private Long sourceAccountId;
+
+    @Column(name = "target_account_id", nullable = false, updatable = false)
+    private Long targetAccountId;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    // Constructores
+    public OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(Long transactionId, String referenceCode, Long sourceAccountId,
+            Long targetAccountId, BigDecimal amount, LocalDateTime occurredAt) {
+        this.transactionId = transactionId;
+        this.referenceCode = referenceCode;
+        this.sourceAccountId = sourceAccountId;
+        this.targetAccountId = targetAccountId;
+        this.amount = amount;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public String getReferenceCode() {
+        return referenceCode;
+    }
+
+    public Long getSourceAccountId() {
+        return sourceAccountId;
+    }
+
+    public Long getTargetAccountId() {
+        return targetAccountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
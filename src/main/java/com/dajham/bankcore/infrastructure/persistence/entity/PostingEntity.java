@@ -0,0 +1,70 @@
+package com.dajham.bankcore.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para los apuntes del diario contable.
+ * La tabla solo recibe inserciones; ninguna columna es actualizable. El ID
+ * sale de una secuencia con reserva por bloques en lugar de una columna
+ * IDENTITY, de modo que Hibernate conoce los IDs antes del INSERT y puede
+ * agrupar los apuntes de una transferencia en un solo batch. Los IDs siguen
+ * siendo crecientes pero pueden tener huecos.
+ */
+@Entity
+@Table(name = "journal_postings", indexes = {
+        @Index(name = "idx_posting_account", columnList = "account_id"),
+        @Index(name = "idx_posting_reference", columnList = "entry_reference")
+})
+public class PostingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_postings_seq")
+    @SequenceGenerator(name = "journal_postings_seq", sequenceName = "journal_postings_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "entry_reference", nullable = false, updatable = false, length = 36)
+    private String entryReference;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "posted_at", nullable = false, updatable = false)
+    private LocalDateTime postedAt;
+
+    // Constructores
+    public PostingEntity() {
+    }
+
+    public PostingEntity(String entryReference, Long accountId, BigDecimal amount, LocalDateTime postedAt) {
+        this.entryReference = entryReference;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.postedAt = postedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getEntryReference() {
+        return entryReference;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getPostedAt() {
+        return postedAt;
+    }
+}
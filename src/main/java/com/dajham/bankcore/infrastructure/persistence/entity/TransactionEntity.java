@@ -4,9 +4,16 @@ import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Entidad JPA para la persistencia de transacciones bancarias.
+ *
+ * <p>
+ * El código de referencia es único por {@code idx_reference_code}. Con la
+ * tabla particionada por meses ({@code bankcore.partitioning}) ese índice ya
+ * no es único y la unicidad la da {@code transaction_references}; ver
+ * {@code TransactionPartitionManager}.
  */
 @Entity
 @Table(name = "transactions", indexes = {
@@ -32,8 +39,12 @@ public class TransactionEntity {
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
 
-    @Column(name = "reference_code", nullable = false, unique = true, length = 36)
-    private String referenceCode;
+    /**
+     * UUID versión 7 guardado como {@code uuid} nativo (16 bytes): más compacto
+     * que su forma textual y ordenado por instante de creación.
+     */
+    @Column(name = "reference_code", nullable = false, updatable = false)
+    private UUID referenceCode;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -48,7 +59,7 @@ public class TransactionEntity {
     }
 
     public TransactionEntity(Long id, Long sourceAccountId, Long targetAccountId,
-            BigDecimal amount, LocalDateTime timestamp, String referenceCode) {
+            BigDecimal amount, LocalDateTime timestamp, UUID referenceCode) {
         this.id = id;
         this.sourceAccountId = sourceAccountId;
         this.targetAccountId = targetAccountId;
@@ -98,11 +109,11 @@ public class TransactionEntity {
         this.timestamp = timestamp;
     }
 
-    public String getReferenceCode() {
+    public UUID getReferenceCode() {
         return referenceCode;
     }
 
-    public void setReferenceCode(String referenceCode) {
+    public void setReferenceCode(UUID referenceCode) {
         this.referenceCode = referenceCode;
     }
 
@@ -42,6 +42,13 @@ public class UserEntity implements UserDetails {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Rol OPERATOR; no se persiste, lo asigna el servicio de usuarios a partir
+     * de {@code bankcore.operators}.
+     */
+    @Transient
+    private boolean operator;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -127,12 +134,23 @@ public class UserEntity implements UserDetails {
         this.updatedAt = updatedAt;
     }
 
+    public boolean isOperator() {
+        return operator;
+    }
+
+    public void setOperator(boolean operator) {
+        this.operator = operator;
+    }
+
     // Implementación de UserDetails (Spring Security)
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // Por ahora, todos los usuarios tienen rol USER
+        // Todos los usuarios tienen rol USER; los operadores además OPERATOR
         // Puedes expandir esto con una tabla de roles/permisos
+        if (operator) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_OPERATOR"));
+        }
         return List.of(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
@@ -0,0 +1,154 @@
+package com.dajham.bankcore.infrastructure.persistence.existence;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtros de Bloom sobre los IDs y los números de cuenta existentes.
+ *
+ * <p>
+ * Mientras no se ha completado la carga inicial todas las consultas pasan.
+ * Las cuentas guardadas se añaden desde el primer momento, también durante la
+ * carga, así que una cuenta nunca queda fuera. Los números se guardan en
+ * mayúsculas, como los compara la búsqueda. Las cuentas eliminadas siguen en
+ * el filtro y solo cuestan una consulta.
+ *
+ * <p>
+ * Métricas: {@code bankcore.account.filter.rejected} (consultas resueltas sin
+ * base de datos), {@code bankcore.account.filter.false.positives} (pasaron el
+ * filtro y la cuenta no existía) y {@code bankcore.account.filter.expected.fpp}
+ * (tasa teórica con la ocupación actual), todas con la etiqueta
+ * {@code key=id|number}. La tasa observada es
+ * {@code false.positives / (false.positives + rejected)}.
+ */
+public class AccountExistenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountExistenceFilter.class);
+
+    private final BloomFilter ids;
+    private final BloomFilter numbers;
+    private final Counter rejectedIds;
+    private final Counter rejectedNumbers;
+    private final Counter falsePositiveIds;
+    private final Counter falsePositiveNumbers;
+    private volatile boolean ready;
+
+    /**
+     * Crea los filtros vacíos y registra sus métricas.
+     *
+     * @param properties    Configuración del filtro
+     * @param meterRegistry Registro de métricas
+     */
+    public AccountExistenceFilter(AccountFilterProperties properties, MeterRegistry meterRegistry) {
+        this.ids = new BloomFilter(properties.expectedAccounts(), properties.falsePositiveRate());
+        this.numbers = new BloomFilter(properties.expectedAccounts(), properties.falsePositiveRate());
+        this.rejectedIds = rejected(meterRegistry, "id");
+        this.rejectedNumbers = rejected(meterRegistry, "number");
+        this.falsePositiveIds = falsePositives(meterRegistry, "id");
+        this.falsePositiveNumbers = falsePositives(meterRegistry, "number");
+        Gauge.builder("bankcore.account.filter.expected.fpp", ids, BloomFilter::expectedFalsePositiveRate)
+                .description("Tasa teórica de falsos positivos del filtro con su ocupación actual")
+                .tag("key", "id")
+                .register(meterRegistry);
+        Gauge.builder("bankcore.account.filter.expected.fpp", numbers, BloomFilter::expectedFalsePositiveRate)
+                .description("Tasa teórica de falsos positivos del filtro con su ocupación actual")
+                .tag("key", "number")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Añade todas las cuentas existentes y activa el filtro. Se recorren solo
+     * ID y número, en una transacción de lectura.
+     *
+     * @param repository          Repositorio de cuentas
+     * @param transactionTemplate Plantilla para la transacción de lectura
+     */
+    public void load(AccountRepositoryPort repository, TransactionTemplate transactionTemplate) {
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> repository.forEachAccountKey((id, accountNumber) -> {
+            add(id, accountNumber);
+            loaded.incrementAndGet();
+        }));
+        ready = true;
+        log.info("Filtro de existencia de cuentas cargado: {} cuentas en {} ms",
+                loaded.get(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Registra una cuenta guardada.
+     */
+    public void add(long id, String accountNumber) {
+        ids.put(id);
+        if (accountNumber != null) {
+            numbers.put(normalize(accountNumber));
+        }
+    }
+
+    /**
+     * @return {@code false} si la cuenta seguro que no existe
+     */
+    public boolean mightContainId(Long id) {
+        if (!ready || id == null || ids.mightContain(id)) {
+            return true;
+        }
+        rejectedIds.increment();
+        return false;
+    }
+
+    /**
+     * @return {@code false} si ninguna cuenta tiene ese número
+     */
+    public boolean mightContainNumber(String accountNumber) {
+        if (!ready || accountNumber == null || numbers.mightContain(normalize(accountNumber))) {
+            return true;
+        }
+        rejectedNumbers.increment();
+        return false;
+    }
+
+    /**
+     * Anota que una consulta pasó el filtro y la cuenta no existía.
+     */
+    void falsePositiveId() {
+        if (ready) {
+            falsePositiveIds.increment();
+        }
+    }
+
+    void falsePositiveNumber() {
+        if (ready) {
+            falsePositiveNumbers.increment();
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    private static String normalize(String accountNumber) {
+        return accountNumber.toUpperCase(Locale.ROOT);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("bankcore.account.filter.rejected")
+                .description("Consultas de cuentas inexistentes resueltas sin ir a la base de datos")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    private static Counter falsePositives(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("bankcore.account.filter.false.positives")
+                .description("Consultas que pasaron el filtro sin que la cuenta existiera")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
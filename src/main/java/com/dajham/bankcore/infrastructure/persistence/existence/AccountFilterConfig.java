@@ -0,0 +1,63 @@
+package com.dajham.bankcore.infrastructure.persistence.existence;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.decorator.RepositoryPortDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Filtro de existencia de cuentas delante del repositorio. Se activa con
+ * {@code bankcore.account-filter.enabled=true}; con el adaptador en memoria
+ * las búsquedas ya no tocan ninguna base de datos y se ignora.
+ *
+ * <p>
+ * Solo es fiable si todas las cuentas se crean a través de esta instancia:
+ * con varias réplicas, o con altas hechas directamente en la base de datos,
+ * una cuenta nueva puede darse por inexistente hasta el siguiente arranque.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.account-filter.enabled:false} && '${bankcore.persistence.adapter:jpa}' != 'memory'")
+public class AccountFilterConfig {
+
+    @Bean
+    public AccountExistenceFilter accountExistenceFilter(AccountFilterProperties properties,
+            MeterRegistry meterRegistry) {
+        return new AccountExistenceFilter(properties, meterRegistry);
+    }
+
+    /**
+     * El más externo de los decoradores, así el filtro queda por fuera del
+     * control de admisión y una consulta descartada no cuenta como latencia de
+     * la base de datos.
+     */
+    @Bean
+    public RepositoryPortDecorator accountFilterDecorator(AccountExistenceFilter filter) {
+        return new RepositoryPortDecorator() {
+            @Override
+            public AccountRepositoryPort decorate(AccountRepositoryPort port) {
+                return new ExistenceFilteredAccountRepository(port, filter);
+            }
+
+            @Override
+            public int getOrder() {
+                return EXISTENCE_FILTER_ORDER;
+            }
+        };
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> accountFilterLoader(AccountExistenceFilter filter,
+            AccountRepositoryPort accountRepositoryPort, PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return event -> filter.load(accountRepositoryPort, transactionTemplate);
+    }
+}
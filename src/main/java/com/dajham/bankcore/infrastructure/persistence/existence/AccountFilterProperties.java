@@ -0,0 +1,19 @@
+package com.dajham.bankcore.infrastructure.persistence.existence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración del filtro de existencia de cuentas
+ * ({@code bankcore.account-filter}).
+ *
+ * @param enabled           Activa el filtro delante del repositorio de cuentas
+ * @param expectedAccounts  Número de cuentas para el que se dimensiona
+ * @param falsePositiveRate Tasa de falsos positivos con ese número de cuentas
+ */
+@ConfigurationProperties(prefix = "bankcore.account-filter")
+public record AccountFilterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000000") long expectedAccounts,
+        @DefaultValue("0.01") double falsePositiveRate) {
+}
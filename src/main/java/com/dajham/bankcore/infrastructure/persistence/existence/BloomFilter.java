@@ -0,0 +1,117 @@
+package com.dajham.bankcore.infrastructure.persistence.existence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concurrente sobre claves {@code long} y texto.
+ *
+ * <p>
+ * Los bits viven en un {@link AtomicLongArray}; añadir una clave es una serie
+ * de {@code getAndUpdate} sin bloqueos y consultar son lecturas volátiles.
+ * Las {@code k} posiciones salen de dos hashes de 64 bits combinados
+ * ({@code h1 + i·h2}). El filtro no admite borrados: una clave eliminada
+ * sigue dando positivo.
+ */
+final class BloomFilter {
+
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong bitsSet = new AtomicLong();
+
+    /**
+     * Dimensiona el filtro para el número de claves y la tasa de falsos
+     * positivos esperados.
+     *
+     * @param expectedInsertions Claves que se espera añadir
+     * @param falsePositiveRate  Tasa de falsos positivos con ese número de claves
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Dimensiones de filtro no válidas: "
+                    + expectedInsertions + ", " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void put(long key) {
+        long h1 = mix(key);
+        long h2 = mix(key ^ GOLDEN_GAMMA);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << bit;
+            long previous = words.getAndUpdate((int) (bit >>> 6), word -> word | mask);
+            if ((previous & mask) == 0) {
+                bitsSet.incrementAndGet();
+            }
+        }
+    }
+
+    boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = mix(key ^ GOLDEN_GAMMA);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(String key) {
+        put(hash(key));
+    }
+
+    boolean mightContain(String key) {
+        return mightContain(hash(key));
+    }
+
+    /**
+     * Probabilidad de falso positivo con la ocupación actual.
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los bytes UTF-8; {@link #mix(long)} se encarga
+     * de repartir el resultado.
+     */
+    private static long hash(String key) {
+        long hash = 0xCBF2_9CE4_8422_2325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x0000_0100_0000_01B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Mezclador final de MurmurHash3 ({@code fmix64}).
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51_AFD7_ED55_8CCDL;
+        key ^= key >>> 33;
+        key *= 0xC4CE_B9FE_1A85_EC53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,95 @@
+package com.dajham.bankcore.infrastructure.persistence.existence;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Decorador de {@link AccountRepositoryPort} que responde sin ir a la base de
+ * datos las búsquedas de cuentas que el {@link AccountExistenceFilter} sabe
+ * inexistentes, y le añade las cuentas guardadas.
+ */
+class ExistenceFilteredAccountRepository implements AccountRepositoryPort {
+
+    private final AccountRepositoryPort delegate;
+    private final AccountExistenceFilter filter;
+
+    ExistenceFilteredAccountRepository(AccountRepositoryPort delegate, AccountExistenceFilter filter) {
+        this.delegate = delegate;
+        this.filter = filter;
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account saved = delegate.save(account);
+        // Se añade antes del commit: ninguna otra transacción puede ver la
+        // cuenta sin que ya esté en el filtro
+        filter.add(saved.getId(), saved.getAccountNumber());
+        return saved;
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        if (!filter.mightContainId(id)) {
+            return Optional.empty();
+        }
+        Optional<Account> account = delegate.findById(id);
+        if (account.isEmpty()) {
+            filter.falsePositiveId();
+        }
+        return account;
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        if (!filter.mightContainNumber(accountNumber)) {
+            return Optional.empty();
+        }
+        Optional<Account> account = delegate.findByAccountNumber(accountNumber);
+        if (account.isEmpty()) {
+            filter.falsePositiveNumber();
+        }
+        return account;
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        if (!filter.mightContainNumber(accountNumber)) {
+            return false;
+        }
+        boolean exists = delegate.existsByAccountNumber(accountNumber);
+        if (!exists) {
+            filter.falsePositiveNumber();
+        }
+        return exists;
+    }
+
+    @Override
+    public List<Account> findByUserId(Long userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        delegate.forEachAccountKey(consumer);
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        delegate.forEachAccountBalance(consumer);
+    }
+}
@@ -0,0 +1,285 @@
+package com.dajham.bankcore.infrastructure.persistence.jdbc;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Adaptador JDBC del puerto de cuentas, alternativo al de Spring Data JPA.
+ * Evita la instanciación de entidades, las instantáneas del contexto de
+ * persistencia y el {@code merge()} de cada {@code save}.
+ *
+ * <p>
+ * Las sentencias son constantes para que el driver reutilice sus planes
+ * preparados por conexión. Las actualizaciones de cuentas existentes dentro de
+ * una transacción se acumulan y se envían como un único batch antes del commit
+ * (o antes de la siguiente lectura de este adaptador). Cada fila comprueba la
+ * columna {@code version}; si alguna no se actualiza se lanza
+ * {@link OptimisticLockingFailureException} y la transacción se revierte.
+ * {@code save} deja en la cuenta recibida la versión que tendrá tras su
+ * UPDATE, así que se puede volver a guardar; si su actualización sigue
+ * pendiente, la nueva la sustituye y se envía una sola sentencia.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "jdbc")
+public class JdbcAccountRepositoryAdapter implements AccountRepositoryPort {
+
+    private static final String SELECT_COLUMNS = "SELECT id, account_number, balance, user_id, version FROM accounts";
+    private static final String FIND_BY_ID = SELECT_COLUMNS + " WHERE id = ?";
+    private static final String FIND_BY_ACCOUNT_NUMBER = SELECT_COLUMNS
+            + " WHERE UPPER(account_number) = UPPER(?)";
+    private static final String FIND_BY_USER_ID = SELECT_COLUMNS + " WHERE user_id = ?";
+    private static final String SCAN_KEYS = "SELECT id, account_number FROM accounts";
+    private static final String SCAN_BALANCES = "SELECT id, balance FROM accounts";
+    private static final int SCAN_FETCH_SIZE = 1_000;
+    private static final String EXISTS_BY_ACCOUNT_NUMBER = "SELECT COUNT(*) FROM accounts WHERE account_number = ?";
+    private static final String INSERT = "INSERT INTO accounts"
+            + " (account_number, balance, user_id, version, created_at, updated_at) VALUES (?, ?, ?, 0, ?, ?)";
+    private static final String UPDATE = "UPDATE accounts"
+            + " SET account_number = ?, balance = ?, user_id = ?, version = version + 1, updated_at = ?"
+            + " WHERE id = ? AND version = ?";
+    private static final String DELETE_BY_ID = "DELETE FROM accounts WHERE id = ?";
+
+    private static final RowMapper<Account> ROW_MAPPER = (rs, rowNum) -> {
+        Account account = new Account(rs.getLong(1), rs.getString(2), Money.of(rs.getBigDecimal(3)), rs.getLong(4));
+        account.setVersion(rs.getLong(5));
+        return account;
+    };
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcClient   Cliente JDBC para las sentencias individuales
+     * @param jdbcTemplate Plantilla JDBC para los batch de actualización
+     */
+    public JdbcAccountRepositoryAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Account save(Account account) {
+        if (account.getId() == null) {
+            return insert(account);
+        }
+
+        long version = account.getVersion() != null ? account.getVersion() : 0L;
+        PendingUpdates pending = pendingUpdates();
+        if (pending != null) {
+            version = pending.add(account, version);
+        } else {
+            executeBatch(List.<Object[]>of(updateArgs(account, version)));
+        }
+
+        account.setVersion(version + 1);
+        return copyOf(account);
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        flush();
+        return jdbcClient.sql(FIND_BY_ID).param(id).query(ROW_MAPPER).optional();
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        flush();
+        return jdbcClient.sql(FIND_BY_ACCOUNT_NUMBER).param(accountNumber).query(ROW_MAPPER).optional();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        flush();
+        jdbcClient.sql(DELETE_BY_ID).param(id).update();
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        flush();
+        return jdbcClient.sql(EXISTS_BY_ACCOUNT_NUMBER).param(accountNumber).query(Long.class).single() > 0;
+    }
+
+    @Override
+    public List<Account> findByUserId(Long userId) {
+        flush();
+        return jdbcClient.sql(FIND_BY_USER_ID).param(userId).query(ROW_MAPPER).list();
+    }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        flush();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SCAN_KEYS);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getString(2)));
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        flush();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SCAN_BALANCES);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), Money.of(rs.getBigDecimal(2))));
+    }
+
+    /**
+     * Envía las actualizaciones pendientes de la transacción actual en un
+     * batch. También se invoca antes de cada lectura y antes del commit.
+     *
+     * @throws OptimisticLockingFailureException si alguna cuenta fue modificada
+     *                                           por otra transacción
+     */
+    @Override
+    public void flush() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PendingUpdates pending = (PendingUpdates) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            pending.flush();
+        }
+    }
+
+    private Account insert(Account account) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(INSERT, new String[] { "id" });
+            statement.setString(1, account.getAccountNumber());
+            statement.setBigDecimal(2, account.getBalance().toBigDecimal());
+            statement.setLong(3, account.getUserId());
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            return statement;
+        }, keyHolder);
+
+        Account saved = copyOf(account);
+        saved.setId(keyHolder.getKeyAs(Number.class).longValue());
+        saved.setVersion(0L);
+        return saved;
+    }
+
+    private void executeBatch(List<Object[]> batch) {
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE, batch);
+        for (int i = 0; i < counts.length; i++) {
+            // Statement.SUCCESS_NO_INFO (-2) no informa filas: se asume aplicada
+            if (counts[i] == 0) {
+                throw new OptimisticLockingFailureException(
+                        "La cuenta " + batch.get(i)[4] + " fue modificada por otra transacción");
+            }
+        }
+    }
+
+    /**
+     * Devuelve el buffer de la transacción actual, registrándolo si es la
+     * primera escritura; {@code null} si no hay transacción.
+     */
+    private PendingUpdates pendingUpdates() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingUpdates pending = (PendingUpdates) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingUpdates();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private static Object[] updateArgs(Account account, long version) {
+        return new Object[] {
+                account.getAccountNumber(),
+                account.getBalance().toBigDecimal(),
+                account.getUserId(),
+                Timestamp.valueOf(LocalDateTime.now()),
+                account.getId(),
+                version };
+    }
+
+    private static Account copyOf(Account account) {
+        Account copy = new Account(account.getId(), account.getAccountNumber(), account.getBalance(),
+                account.getUserId());
+        copy.setVersion(account.getVersion());
+        return copy;
+    }
+
+    /**
+     * Actualizaciones acumuladas de una transacción.
+     */
+    private final class PendingUpdates implements TransactionSynchronization {
+
+        private final List<Object[]> batch = new ArrayList<>();
+        private final Map<Long, Integer> latestById = new HashMap<>();
+
+        /**
+         * Añade la actualización, o sustituye la pendiente de la misma cuenta
+         * si esta viene de ella (su versión es la que esa dejará).
+         *
+         * @return la versión que comprobará el UPDATE
+         */
+        long add(Account account, long version) {
+            Integer index = latestById.get(account.getId());
+            if (index != null) {
+                long pendingVersion = (long) batch.get(index)[5];
+                if (pendingVersion + 1 == version) {
+                    batch.set(index, updateArgs(account, pendingVersion));
+                    return pendingVersion;
+                }
+            }
+            latestById.put(account.getId(), batch.size());
+            batch.add(updateArgs(account, version));
+            return version;
+        }
+
+        /**
+         * También se invoca desde {@code TransactionStatus.flush()}.
+         */
+        @Override
+        public void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Object[]> toSend = new ArrayList<>(batch);
+            batch.clear();
+            latestById.clear();
+            executeBatch(toSend);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JdbcAccountRepositoryAdapter.this);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.dajham.bankcore.infrastructure.persistence.jdbc;
+
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptador JDBC del diario contable. Los apuntes de un asiento se insertan en
+ * un único batch, con el ID tomado de la misma secuencia que usa
+ * {@code PostingEntity}. Cada apunte consume un valor de la secuencia, que
+ * avanza de bloque en bloque, así que los IDs crecen con huecos.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "jdbc")
+public class JdbcJournalRepositoryAdapter implements JournalRepositoryPort {
+
+    private static final String INSERT = "INSERT INTO journal_postings"
+            + " (id, entry_reference, account_id, amount, posted_at)"
+            + " VALUES (nextval('journal_postings_seq'), ?, ?, ?, ?)";
+    private static final String LAST_ID = "SELECT COALESCE(MAX(id), 0) FROM journal_postings";
+    private static final String SUM_BY_ACCOUNT = "SELECT account_id, SUM(amount) FROM journal_postings"
+            + " WHERE id > ? AND id <= ? GROUP BY account_id";
+    private static final String SUM_FOR_ACCOUNT = "SELECT COALESCE(SUM(amount), 0) FROM journal_postings"
+            + " WHERE account_id = ?";
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcClient   Cliente JDBC para consultas
+     * @param jdbcTemplate Plantilla JDBC para el batch de inserción
+     */
+    public JdbcJournalRepositoryAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(JournalEntry entry) {
+        Timestamp postedAt = Timestamp.valueOf(entry.getTimestamp());
+        jdbcTemplate.batchUpdate(INSERT, entry.getPostings(), entry.getPostings().size(),
+                (statement, posting) -> {
+                    statement.setString(1, entry.getReference());
+                    statement.setLong(2, posting.accountId());
+                    statement.setBigDecimal(3, posting.amount().toBigDecimal());
+                    statement.setTimestamp(4, postedAt);
+                });
+    }
+
+    @Override
+    public long lastPostingId() {
+        return jdbcClient.sql(LAST_ID).query(Long.class).single();
+    }
+
+    @Override
+    public Map<Long, Money> sumByAccount(long fromIdExclusive, long toIdInclusive) {
+        Map<Long, Money> sums = new HashMap<>();
+        jdbcClient.sql(SUM_BY_ACCOUNT)
+                .params(fromIdExclusive, toIdInclusive)
+                .query(rs -> {
+                    sums.put(rs.getLong(1), Money.of(rs.getBigDecimal(2)));
+                });
+        return sums;
+    }
+
+    @Override
+    public Money balanceOf(long accountId) {
+        return Money.of(jdbcClient.sql(SUM_FOR_ACCOUNT).param(accountId).query(BigDecimal.class).single());
+    }
+}
@@ -0,0 +1,73 @@
+package com.dajham.bankcore.infrastructure.persistence.jdbc;
+
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.TransferCompleted;
+import com.dajham.bankcore.domain.port.OutboxPort;
+import com.dajham.bankcore.infrastructure.outbox.OutboxMessage;
+import com.dajham.bankcore.infrastructure.outbox.OutboxStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Adaptador JDBC del outbox. Los borrados de un lote van en un único batch.
+ */
+@Repository
+@ConditionalOnExpression("${bankcore.outbox.enabled:false} && '${bankcore.persistence.adapter:jpa}' == 'jdbc'")
+public class JdbcOutboxAdapter implements OutboxPort, OutboxStore {
+
+    private static final String INSERT = "INSERT INTO outbox_events"
+            + " (transaction_id, reference_code, source_account_id, target_account_id, amount, occurred_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BATCH = "SELECT id, transaction_id, reference_code, source_account_id,"
+            + " target_account_id, amount, occurred_at FROM outbox_events ORDER BY id LIMIT ?";
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcClient   Cliente JDBC para consultas
+     * @param jdbcTemplate Plantilla JDBC para los batches
+     */
+    public JdbcOutboxAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void publish(TransferCompleted event) {
+        jdbcTemplate.update(INSERT,
+                event.transactionId(),
+                event.referenceCode(),
+                event.sourceAccountId(),
+                event.targetAccountId(),
+                event.amount().toBigDecimal(),
+                Timestamp.valueOf(event.occurredAt()));
+    }
+
+    @Override
+    public List<OutboxMessage> fetchBatch(int limit) {
+        return jdbcClient.sql(SELECT_BATCH)
+                .param(limit)
+                .query((rs, rowNum) -> new OutboxMessage(rs.getLong(1), new TransferCompleted(
+                        rs.getLong(2),
+                        rs.getString(3),
+                        rs.getLong(4),
+                        rs.getLong(5),
+                        Money.of(rs.getBigDecimal(6)),
+                        rs.getTimestamp(7).toLocalDateTime())))
+                .list();
+    }
+
+    @Override
+    public void delete(List<Long> ids) {
+        jdbcTemplate.batchUpdate(DELETE, ids, ids.size(), (statement, id) -> statement.setLong(1, id));
+    }
+}
@@ -0,0 +1,69 @@
+package com.dajham.bankcore.infrastructure.persistence.jdbc;
+
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Adaptador JDBC del puerto de transacciones.
+ * La inserción es inmediata porque la respuesta de la transferencia necesita
+ * el ID generado.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "jdbc")
+public class JdbcTransactionRepositoryAdapter implements TransactionRepositoryPort {
+
+    private static final String INSERT = "INSERT INTO transactions"
+            + " (source_account_id, target_account_id, amount, timestamp, reference_code, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String EXISTS_BY_REFERENCE = "SELECT COUNT(*) FROM transactions WHERE reference_code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcTemplate Plantilla JDBC
+     */
+    public JdbcTransactionRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(INSERT, new String[] { "id" });
+            statement.setLong(1, transaction.getSourceAccountId());
+            statement.setLong(2, transaction.getTargetAccountId());
+            statement.setBigDecimal(3, transaction.getAmount().toBigDecimal());
+            statement.setTimestamp(4, Timestamp.valueOf(transaction.getTimestamp()));
+            statement.setObject(5, UUID.fromString(transaction.getReferenceCode()));
+            statement.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
+            return statement;
+        }, keyHolder);
+
+        return new Transaction(
+                keyHolder.getKeyAs(Number.class).longValue(),
+                transaction.getSourceAccountId(),
+                transaction.getTargetAccountId(),
+                transaction.getAmount(),
+                transaction.getTimestamp(),
+                transaction.getReferenceCode());
+    }
+
+    @Override
+    public boolean existsByReferenceCode(String referenceCode) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_BY_REFERENCE, Integer.class,
+                UUID.fromString(referenceCode));
+        return count != null && count > 0;
+    }
+}
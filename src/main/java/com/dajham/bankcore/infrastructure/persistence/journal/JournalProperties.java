@@ -0,0 +1,18 @@
+package com.dajham.bankcore.infrastructure.persistence.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración de la reconstrucción de saldos desde el diario
+ * ({@code bankcore.journal}).
+ *
+ * @param replayThreads Hilos que suman rangos disjuntos del diario en paralelo
+ * @param verifyCron    Expresión cron de la verificación periódica; {@code -}
+ *                      la desactiva
+ */
+@ConfigurationProperties(prefix = "bankcore.journal")
+public record JournalProperties(
+        @DefaultValue("4") int replayThreads,
+        @DefaultValue("-") String verifyCron) {
+}
@@ -0,0 +1,244 @@
+package com.dajham.bankcore.infrastructure.persistence.journal;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compara el saldo guardado en cada cuenta con el que resulta de sumar sus
+ * apuntes en el diario, y opcionalmente lo corrige.
+ *
+ * <p>
+ * El diario se recorre hasta el último apunte confirmado, partido en rangos de
+ * IDs que se suman en paralelo y se combinan; los saldos guardados se leen
+ * después en una sola consulta. Como las transferencias siguen
+ * escribiendo durante el recorrido, cada diferencia se vuelve a comprobar
+ * antes de darla por buena, leyendo cuenta y diario en una transacción
+ * {@code REPEATABLE READ}: ambas lecturas ven la misma instantánea, así que una
+ * transferencia confirmada entre ellas no aparece como diferencia. La
+ * corrección usa el mismo aislamiento. Solo se revisan las
+ * cuentas que tienen apuntes: una cuenta anterior al diario sin asiento de
+ * apertura no se detecta.
+ */
+@Service
+@Profile("!reactive")
+public class JournalReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalReplayService.class);
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    /**
+     * Diferencia entre el saldo de una cuenta y el de su diario.
+     *
+     * @param accountId      El ID de la cuenta
+     * @param accountBalance Saldo guardado en la cuenta
+     * @param journalBalance Saldo según el diario
+     */
+    public record BalanceDiscrepancy(long accountId, Money accountBalance, Money journalBalance) {
+    }
+
+    private final JournalRepositoryPort journalRepositoryPort;
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final int replayThreads;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param journalRepositoryPort Puerto del diario contable
+     * @param accountRepositoryPort Puerto de cuentas
+     * @param transactionManager    Gestor de transacciones activo
+     * @param properties            Configuración del diario
+     */
+    public JournalReplayService(
+            JournalRepositoryPort journalRepositoryPort,
+            AccountRepositoryPort accountRepositoryPort,
+            PlatformTransactionManager transactionManager,
+            JournalProperties properties) {
+        this.journalRepositoryPort = journalRepositoryPort;
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.replayThreads = Math.max(1, properties.replayThreads());
+    }
+
+    /**
+     * Recorre el diario y devuelve las cuentas cuyo saldo no coincide.
+     *
+     * @return Las diferencias confirmadas; vacía si todo cuadra
+     */
+    public List<BalanceDiscrepancy> verify() {
+        Map<Long, Money> replayed = replay();
+        Map<Long, Money> balances = balancesOf(replayed.keySet());
+        List<BalanceDiscrepancy> discrepancies = new ArrayList<>();
+        for (Map.Entry<Long, Money> entry : replayed.entrySet()) {
+            long accountId = entry.getKey();
+            if (accountId == JournalEntry.EXTERNAL_ACCOUNT) {
+                continue;
+            }
+            Money accountBalance = balances.getOrDefault(accountId, Money.ZERO);
+            if (!accountBalance.equals(entry.getValue())) {
+                BalanceDiscrepancy confirmed = recheck(accountId);
+                if (confirmed != null) {
+                    discrepancies.add(confirmed);
+                }
+            }
+        }
+        return discrepancies;
+    }
+
+    /**
+     * Corrige las cuentas cuyo saldo no coincide con el diario. Cada cuenta se
+     * actualiza en su propia transacción con control optimista; si otra
+     * transferencia la modifica entretanto, se vuelve a leer y se reintenta.
+     *
+     * @return Número de cuentas corregidas
+     */
+    public int rebuild() {
+        int rebuilt = 0;
+        for (BalanceDiscrepancy discrepancy : verify()) {
+            if (rebuild(discrepancy.accountId())) {
+                rebuilt++;
+            }
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Verificación periódica; solo registra las diferencias.
+     */
+    @Scheduled(cron = "${bankcore.journal.verify-cron:-}")
+    public void scheduledVerify() {
+        List<BalanceDiscrepancy> discrepancies = verify();
+        if (discrepancies.isEmpty()) {
+            log.debug("Diario verificado: todos los saldos cuadran");
+            return;
+        }
+        for (BalanceDiscrepancy discrepancy : discrepancies) {
+            log.warn("Saldo descuadrado en la cuenta {}: cuenta={}, diario={}",
+                    discrepancy.accountId(), discrepancy.accountBalance(), discrepancy.journalBalance());
+        }
+    }
+
+    /**
+     * Suma el diario por cuenta hasta el último apunte, en paralelo por rangos.
+     */
+    Map<Long, Money> replay() {
+        long lastId = journalRepositoryPort.lastPostingId();
+        if (lastId == 0L) {
+            return Map.of();
+        }
+        int ranges = (int) Math.min(replayThreads, lastId);
+        long step = (lastId + ranges - 1) / ranges;
+
+        ExecutorService executor = Executors.newFixedThreadPool(ranges);
+        try {
+            List<Future<Map<Long, Money>>> partials = new ArrayList<>(ranges);
+            for (long from = 0; from < lastId; from += step) {
+                long fromExclusive = from;
+                long toInclusive = Math.min(from + step, lastId);
+                partials.add(executor.submit(() -> journalRepositoryPort.sumByAccount(fromExclusive, toInclusive)));
+            }
+            Map<Long, Money> totals = new HashMap<>();
+            for (Future<Map<Long, Money>> partial : partials) {
+                partial.get().forEach((accountId, sum) -> totals.merge(accountId, sum, Money::plus));
+            }
+            return totals;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Recorrido del diario interrumpido", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("No se pudo recorrer el diario", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lee en una sola consulta el saldo guardado de las cuentas indicadas.
+     */
+    private Map<Long, Money> balancesOf(Set<Long> accountIds) {
+        Map<Long, Money> balances = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return balances;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                accountRepositoryPort.forEachAccountBalance((accountId, balance) -> {
+                    if (accountIds.contains(accountId)) {
+                        balances.put(accountId, balance);
+                    }
+                }));
+        return balances;
+    }
+
+    /**
+     * Compara cuenta y diario sobre la misma instantánea.
+     *
+     * @return La diferencia, o {@code null} si ya cuadra
+     */
+    BalanceDiscrepancy recheck(long accountId) {
+        return snapshotTemplate.execute(status -> {
+            Money accountBalance = accountRepositoryPort.findById(accountId)
+                    .map(Account::getBalance)
+                    .orElse(Money.ZERO);
+            Money journalBalance = journalRepositoryPort.balanceOf(accountId);
+            return accountBalance.equals(journalBalance)
+                    ? null
+                    : new BalanceDiscrepancy(accountId, accountBalance, journalBalance);
+        });
+    }
+
+    private boolean rebuild(long accountId) {
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            try {
+                Boolean updated = snapshotTemplate.execute(status -> {
+                    // Cuenta y diario salen de la misma instantánea; si una
+                    // transferencia confirma después, el guardado falla por
+                    // versión (o por serialización) en lugar de perderla
+                    Account account = accountRepositoryPort.findById(accountId).orElse(null);
+                    if (account == null) {
+                        return false;
+                    }
+                    Money journalBalance = journalRepositoryPort.balanceOf(accountId);
+                    if (account.getBalance().equals(journalBalance)) {
+                        return false;
+                    }
+                    log.info("Reconstruyendo el saldo de la cuenta {}: {} -> {}",
+                            accountId, account.getBalance(), journalBalance);
+                    account.setBalance(journalBalance);
+                    accountRepositoryPort.save(account);
+                    return true;
+                });
+                return Boolean.TRUE.equals(updated);
+            } catch (ConcurrencyFailureException ex) {
+                log.debug("Conflicto al reconstruir la cuenta {} (intento {})", accountId, attempt);
+            }
+        }
+        log.warn("No se pudo reconstruir la cuenta {} tras {} intentos", accountId, MAX_REBUILD_ATTEMPTS);
+        return false;
+    }
+}
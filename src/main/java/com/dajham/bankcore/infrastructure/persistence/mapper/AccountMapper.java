@@ -1,6 +1,7 @@
 package com.dajham.bankcore.infrastructure.persistence.mapper;
 
 import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
 import com.dajham.bankcore.infrastructure.persistence.entity.AccountEntity;
 import org.springframework.stereotype.Component;
 
@@ -28,7 +29,7 @@ public class AccountMapper {
         Account account = new Account();
         account.setId(entity.getId());
         account.setAccountNumber(entity.getAccountNumber());
-        account.setBalance(entity.getBalance());
+        account.setBalance(Money.of(entity.getBalance()));
         account.setUserId(entity.getUserId());
         account.setVersion(entity.getVersion());
 
@@ -49,7 +50,7 @@ public class AccountMapper {
         AccountEntity entity = new AccountEntity();
         entity.setId(domain.getId());
         entity.setAccountNumber(domain.getAccountNumber());
-        entity.setBalance(domain.getBalance());
+        entity.setBalance(domain.getBalance().toBigDecimal());
         entity.setUserId(domain.getUserId());
         entity.setVersion(domain.getVersion());
 
@@ -70,7 +71,7 @@ public class AccountMapper {
         }
 
         entity.setAccountNumber(domain.getAccountNumber());
-        entity.setBalance(domain.getBalance());
+        entity.setBalance(domain.getBalance().toBigDecimal());
         entity.setUserId(domain.getUserId());
         // No actualizamos el ID ni los campos de auditoría
     }
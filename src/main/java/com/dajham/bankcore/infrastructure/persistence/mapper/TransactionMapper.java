@@ -1,9 +1,12 @@
 package com.dajham.bankcore.infrastructure.persistence.mapper;
 
 import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.model.Money;
 import com.dajham.bankcore.infrastructure.persistence.entity.TransactionEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * Mapper para convertir entre entidades de dominio (Transaction) y entidades
  * JPA (TransactionEntity).
@@ -26,9 +29,9 @@ public class TransactionMapper {
         transaction.setId(entity.getId());
         transaction.setSourceAccountId(entity.getSourceAccountId());
         transaction.setTargetAccountId(entity.getTargetAccountId());
-        transaction.setAmount(entity.getAmount());
+        transaction.setAmount(Money.of(entity.getAmount()));
         transaction.setTimestamp(entity.getTimestamp());
-        transaction.setReferenceCode(entity.getReferenceCode());
+        transaction.setReferenceCode(entity.getReferenceCode().toString());
 
         return transaction;
     }
@@ -48,9 +51,9 @@ public class TransactionMapper {
         entity.setId(domain.getId());
         entity.setSourceAccountId(domain.getSourceAccountId());
         entity.setTargetAccountId(domain.getTargetAccountId());
-        entity.setAmount(domain.getAmount());
+        entity.setAmount(domain.getAmount().toBigDecimal());
         entity.setTimestamp(domain.getTimestamp());
-        entity.setReferenceCode(domain.getReferenceCode());
+        entity.setReferenceCode(UUID.fromString(domain.getReferenceCode()));
 
         return entity;
     }
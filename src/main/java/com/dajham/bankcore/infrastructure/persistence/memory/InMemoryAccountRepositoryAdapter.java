@@ -0,0 +1,404 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Adaptador en memoria del puerto de cuentas.
+ *
+ * <p>
+ * Las cuentas se guardan como filas inmutables en un {@link StripedLongMap}
+ * indexado por ID primitivo, con índices secundarios por número de cuenta y por
+ * usuario. Respeta la misma semántica de versión que los adaptadores de base de
+ * datos: cada actualización comprueba e incrementa {@code version}.
+ *
+ * <p>
+ * Dentro de una transacción de Spring las escrituras se acumulan en una unidad
+ * de trabajo visible solo para esa transacción. Antes del commit se bloquean
+ * las particiones afectadas en orden y se validan las versiones; tras el commit
+ * se aplican los cambios y se liberan los cerrojos. Si la transacción se
+ * revierte no queda rastro. Fuera de una transacción cada escritura se aplica
+ * de inmediato. El commit pasa por {@link InMemoryCommitBarrier} para que una
+ * instantánea no lo vea a medias.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "memory")
+public class InMemoryAccountRepositoryAdapter implements AccountRepositoryPort {
+
+    /**
+     * Fila inmutable de una cuenta, con el saldo en unidades mínimas.
+     */
+    record AccountRow(long id, String accountNumber, long balance, long userId, long version) {
+    }
+
+    private final StripedLongMap<AccountRow> rows;
+    private final Map<String, Long> accountNumberIndex = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> userIndex = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties Configuración de los adaptadores en memoria
+     */
+    @Autowired
+    public InMemoryAccountRepositoryAdapter(InMemoryPersistenceProperties properties) {
+        this(properties.stripes());
+    }
+
+    /**
+     * Constructor para uso fuera del contenedor (tests y benchmarks).
+     *
+     * @param stripes Particiones con cerrojo propio (potencia de 2)
+     */
+    public InMemoryAccountRepositoryAdapter(int stripes) {
+        this.rows = new StripedLongMap<>(stripes);
+    }
+
+    @Override
+    public Account save(Account account) {
+        UnitOfWork unitOfWork = currentUnitOfWork(true);
+        AccountRow row;
+        long baseVersion;
+        if (account.getId() == null) {
+            row = new AccountRow(sequence.incrementAndGet(), account.getAccountNumber(),
+                    account.getBalance().minorUnits(), account.getUserId(), 0L);
+            baseVersion = -1;
+            reserveAccountNumber(row);
+        } else {
+            AccountRow current = visibleRow(account.getId(), unitOfWork);
+            long version = account.getVersion() != null ? account.getVersion() : 0L;
+            if (current == null || current.version() != version) {
+                throw staleAccount(account.getId());
+            }
+            row = new AccountRow(account.getId(), account.getAccountNumber(), account.getBalance().minorUnits(),
+                    account.getUserId(), version + 1);
+            baseVersion = current.version();
+        }
+
+        if (unitOfWork != null) {
+            unitOfWork.write(row.id(), row, baseVersion);
+        } else {
+            applyNow(row.id(), new Change(baseVersion, row));
+        }
+        return toDomain(row);
+    }
+
+    /**
+     * No hay nada que enviar: {@link #save} ya comprueba la versión contra la
+     * fila confirmada, y el commit la vuelve a validar con las particiones
+     * bloqueadas.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return Optional.ofNullable(visibleRow(id, currentUnitOfWork(false)))
+                .map(InMemoryAccountRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        Long id = accountNumberIndex.get(normalize(accountNumber));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        UnitOfWork unitOfWork = currentUnitOfWork(true);
+        AccountRow current = visibleRow(id, unitOfWork);
+        if (current == null) {
+            return;
+        }
+        if (unitOfWork != null) {
+            unitOfWork.write(id, null, current.version());
+        } else {
+            applyNow(id, new Change(current.version(), null));
+        }
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return accountNumberIndex.containsKey(normalize(accountNumber));
+    }
+
+    @Override
+    public List<Account> findByUserId(Long userId) {
+        UnitOfWork unitOfWork = currentUnitOfWork(false);
+        Set<Long> ids = new HashSet<>(userIndex.getOrDefault(userId, Set.of()));
+        if (unitOfWork != null) {
+            unitOfWork.pending.forEach((id, change) -> {
+                if (change.row != null && change.row.userId() == userId) {
+                    ids.add(id);
+                }
+            });
+        }
+        List<Account> accounts = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            AccountRow row = visibleRow(id, unitOfWork);
+            if (row != null && row.userId() == userId) {
+                accounts.add(toDomain(row));
+            }
+        }
+        accounts.sort(Comparator.comparing(Account::getId));
+        return accounts;
+    }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        UnitOfWork unitOfWork = currentUnitOfWork(false);
+        for (AccountRow committed : rows.values()) {
+            AccountRow row = visibleRow(committed.id(), unitOfWork);
+            if (row != null) {
+                consumer.accept(row.id(), row.accountNumber());
+            }
+        }
+        if (unitOfWork != null) {
+            unitOfWork.pending.forEach((id, change) -> {
+                if (change.row != null && rows.get(id) == null) {
+                    consumer.accept(id, change.row.accountNumber());
+                }
+            });
+        }
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        UnitOfWork unitOfWork = currentUnitOfWork(false);
+        for (AccountRow committed : rows.values()) {
+            AccountRow row = visibleRow(committed.id(), unitOfWork);
+            if (row != null) {
+                consumer.accept(row.id(), Money.ofMinor(row.balance()));
+            }
+        }
+        if (unitOfWork != null) {
+            unitOfWork.pending.forEach((id, change) -> {
+                if (change.row != null && rows.get(id) == null) {
+                    consumer.accept(id, Money.ofMinor(change.row.balance()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Copia coherente de todas las cuentas confirmadas.
+     */
+    List<AccountRow> snapshot() {
+        return rows.values();
+    }
+
+    /**
+     * Sustituye el contenido por el de una instantánea.
+     */
+    void restore(Collection<AccountRow> snapshot) {
+        rows.clear();
+        accountNumberIndex.clear();
+        userIndex.clear();
+        long maxId = 0;
+        for (AccountRow row : snapshot) {
+            int[] locked = rows.lockForWrite(row.id());
+            try {
+                rows.putLocked(row.id(), row);
+            } finally {
+                rows.unlock(locked);
+            }
+            accountNumberIndex.put(normalize(row.accountNumber()), row.id());
+            userIndex.computeIfAbsent(row.userId(), k -> ConcurrentHashMap.newKeySet()).add(row.id());
+            maxId = Math.max(maxId, row.id());
+        }
+        sequence.set(maxId);
+    }
+
+    private AccountRow visibleRow(Long id, UnitOfWork unitOfWork) {
+        if (unitOfWork != null) {
+            Change change = unitOfWork.pending.get(id);
+            if (change != null) {
+                return change.row;
+            }
+        }
+        return rows.get(id);
+    }
+
+    private void reserveAccountNumber(AccountRow row) {
+        Long existing = accountNumberIndex.putIfAbsent(normalize(row.accountNumber()), row.id());
+        if (existing != null) {
+            throw new DuplicateKeyException("Ya existe una cuenta con número " + row.accountNumber());
+        }
+    }
+
+    private void applyNow(long id, Change change) {
+        Map<Long, Change> changes = Map.of(id, change);
+        int[] locked = rows.lockForWrite(id);
+        try {
+            validate(changes);
+            apply(changes);
+        } catch (RuntimeException ex) {
+            release(changes);
+            throw ex;
+        } finally {
+            rows.unlock(locked);
+        }
+    }
+
+    /**
+     * Comprueba que ninguna fila cambió desde que la transacción la leyó. El
+     * llamador tiene bloqueadas las particiones.
+     */
+    private void validate(Map<Long, Change> changes) {
+        changes.forEach((id, change) -> {
+            AccountRow committed = rows.getLocked(id);
+            long committedVersion = committed != null ? committed.version() : -1;
+            if (committedVersion != change.baseVersion) {
+                throw staleAccount(id);
+            }
+        });
+    }
+
+    private void apply(Map<Long, Change> changes) {
+        changes.forEach((id, change) -> {
+            AccountRow previous = change.row != null
+                    ? rows.getLocked(id)
+                    : rows.removeLocked(id);
+            if (change.row != null) {
+                rows.putLocked(id, change.row);
+            }
+            if (previous != null && (change.row == null
+                    || !previous.accountNumber().equals(change.row.accountNumber()))) {
+                accountNumberIndex.remove(normalize(previous.accountNumber()), id);
+            }
+            if (previous != null && (change.row == null || previous.userId() != change.row.userId())) {
+                Set<Long> ids = userIndex.get(previous.userId());
+                if (ids != null) {
+                    ids.remove(id);
+                }
+            }
+            if (change.row != null) {
+                accountNumberIndex.put(normalize(change.row.accountNumber()), id);
+                userIndex.computeIfAbsent(change.row.userId(), k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        });
+    }
+
+    /**
+     * Libera los números de cuenta reservados por inserciones no aplicadas.
+     */
+    private void release(Map<Long, Change> changes) {
+        changes.forEach((id, change) -> {
+            if (change.baseVersion == -1 && change.row != null) {
+                accountNumberIndex.remove(normalize(change.row.accountNumber()), id);
+            }
+        });
+    }
+
+    private UnitOfWork currentUnitOfWork(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+        if (unitOfWork == null && create) {
+            unitOfWork = new UnitOfWork();
+            TransactionSynchronizationManager.bindResource(this, unitOfWork);
+            TransactionSynchronizationManager.registerSynchronization(unitOfWork);
+            InMemoryCommitBarrier.join();
+        }
+        return unitOfWork;
+    }
+
+    private static OptimisticLockingFailureException staleAccount(Long id) {
+        return new OptimisticLockingFailureException("La cuenta " + id + " fue modificada por otra transacción");
+    }
+
+    private static String normalize(String accountNumber) {
+        return accountNumber.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Account toDomain(AccountRow row) {
+        Account account = new Account(row.id(), row.accountNumber(), Money.ofMinor(row.balance()), row.userId());
+        account.setVersion(row.version());
+        return account;
+    }
+
+    /**
+     * Cambio pendiente sobre una cuenta.
+     *
+     * @param baseVersion Versión confirmada al tocarla por primera vez (-1 si
+     *                    es una inserción)
+     * @param row         Fila resultante ({@code null} si se elimina)
+     */
+    private record Change(long baseVersion, AccountRow row) {
+    }
+
+    /**
+     * Cambios de una transacción, aplicados en dos fases alrededor del commit.
+     */
+    private final class UnitOfWork implements TransactionSynchronization {
+
+        private final Map<Long, Change> pending = new LinkedHashMap<>();
+        private int[] locked;
+
+        /**
+         * Registra el cambio conservando la versión base del primer acceso.
+         */
+        void write(long id, AccountRow row, long baseVersion) {
+            Change existing = pending.get(id);
+            pending.put(id, new Change(existing != null ? existing.baseVersion : baseVersion, row));
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            locked = rows.lockForWrite(pending.keySet().stream().mapToLong(Long::longValue).toArray());
+            try {
+                validate(pending);
+            } catch (RuntimeException ex) {
+                rows.unlock(locked);
+                locked = null;
+                throw ex;
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (locked != null) {
+                apply(pending);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (locked != null) {
+                rows.unlock(locked);
+            }
+            if (status != STATUS_COMMITTED || locked == null) {
+                release(pending);
+            }
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryAccountRepositoryAdapter.this);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Barrera común a los adaptadores en memoria que separa los commits de las
+ * instantáneas.
+ *
+ * <p>
+ * Cada adaptador aplica sus cambios en su propia sincronización, así que un
+ * commit que toca cuentas, transacciones y diario pasa por estados
+ * intermedios. Toda transacción que escribe en un adaptador se une a la
+ * barrera: toma el cerrojo de lectura en {@code beforeCommit}, antes que los
+ * cerrojos de las particiones, y lo suelta en {@code afterCompletion}, cuando
+ * todos los adaptadores ya han aplicado sus cambios. {@link #exclusive} toma el
+ * de escritura, de modo que no ve ningún commit a medias. Las escrituras fuera
+ * de una transacción no pasan por la barrera. {@link InMemoryTransactionManager}
+ * también toma el de escritura durante las transacciones con aislamiento
+ * {@code REPEATABLE READ} o mayor, que así leen una instantánea.
+ */
+final class InMemoryCommitBarrier {
+
+    private static final ReentrantReadWriteLock LOCK = new ReentrantReadWriteLock();
+    private static final Object KEY = new Object();
+
+    private InMemoryCommitBarrier() {
+    }
+
+    /**
+     * Une la transacción en curso a la barrera, si hay sincronización activa y
+     * no se había unido ya.
+     */
+    static void join() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean held;
+
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                LOCK.readLock().lock();
+                held = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (held) {
+                    LOCK.readLock().unlock();
+                }
+                TransactionSynchronizationManager.unbindResourceIfPossible(KEY);
+            }
+        });
+    }
+
+    /**
+     * Ejecuta la acción sin ningún commit en curso.
+     */
+    static <T> T exclusive(Supplier<T> action) {
+        acquireExclusive();
+        try {
+            return action.get();
+        } finally {
+            releaseExclusive();
+        }
+    }
+
+    /**
+     * Espera a los commits en curso e impide nuevos hasta
+     * {@link #releaseExclusive}, que debe invocar el mismo hilo. Mientras
+     * tanto, ese hilo sí puede confirmar sus propias escrituras.
+     */
+    static void acquireExclusive() {
+        LOCK.writeLock().lock();
+    }
+
+    static void releaseExclusive() {
+        LOCK.writeLock().unlock();
+    }
+}
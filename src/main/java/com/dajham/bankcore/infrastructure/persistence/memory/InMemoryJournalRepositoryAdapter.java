@@ -0,0 +1,174 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.Posting;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador en memoria del diario contable.
+ * Los apuntes se guardan en dos arrays primitivos paralelos (cuenta e
+ * importe en unidades mínimas); el ID de un apunte es su posición + 1. La
+ * referencia y la fecha del asiento no se conservan porque ninguna consulta
+ * del puerto las usa.
+ *
+ * <p>
+ * Igual que en {@link InMemoryTransactionRepositoryAdapter}, dentro de una
+ * transacción de Spring los asientos se publican tras el commit. Hasta
+ * entonces la propia transacción ve sus apuntes pendientes a continuación de
+ * los confirmados.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "memory")
+public class InMemoryJournalRepositoryAdapter implements JournalRepositoryPort {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private long[] accountIds = new long[INITIAL_CAPACITY];
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void append(JournalEntry entry) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingEntries().add(entry);
+        } else {
+            insert(entry);
+        }
+    }
+
+    @Override
+    public long lastPostingId() {
+        int pending = 0;
+        for (JournalEntry entry : currentPending()) {
+            pending += entry.getPostings().size();
+        }
+        synchronized (this) {
+            return size + pending;
+        }
+    }
+
+    @Override
+    public Map<Long, Money> sumByAccount(long fromIdExclusive, long toIdInclusive) {
+        long[] ids;
+        long[] values;
+        int from;
+        int to;
+        long position;
+        synchronized (this) {
+            position = size;
+            from = (int) Math.max(0, fromIdExclusive);
+            to = (int) Math.min(size, toIdInclusive);
+            ids = accountIds;
+            values = amounts;
+        }
+        // Las posiciones ya escritas no cambian; si el array crece se copia,
+        // así que basta con leer la referencia bajo el cerrojo
+        Map<Long, long[]> totals = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            totals.computeIfAbsent(ids[i], id -> new long[1])[0] += values[i];
+        }
+        for (JournalEntry entry : currentPending()) {
+            for (Posting posting : entry.getPostings()) {
+                position++;
+                if (position > fromIdExclusive && position <= toIdInclusive) {
+                    totals.computeIfAbsent(posting.accountId(), id -> new long[1])[0] += posting.amount().minorUnits();
+                }
+            }
+        }
+        Map<Long, Money> sums = new HashMap<>(totals.size() * 2);
+        totals.forEach((accountId, total) -> sums.put(accountId, Money.ofMinor(total[0])));
+        return sums;
+    }
+
+    @Override
+    public Money balanceOf(long accountId) {
+        long[] ids;
+        long[] values;
+        int to;
+        synchronized (this) {
+            to = size;
+            ids = accountIds;
+            values = amounts;
+        }
+        long total = 0L;
+        for (int i = 0; i < to; i++) {
+            if (ids[i] == accountId) {
+                total += values[i];
+            }
+        }
+        for (JournalEntry entry : currentPending()) {
+            for (Posting posting : entry.getPostings()) {
+                if (posting.accountId() == accountId) {
+                    total += posting.amount().minorUnits();
+                }
+            }
+        }
+        return Money.ofMinor(total);
+    }
+
+    synchronized long[][] snapshot() {
+        return new long[][] { Arrays.copyOf(accountIds, size), Arrays.copyOf(amounts, size) };
+    }
+
+    synchronized void restore(long[] snapshotAccountIds, long[] snapshotAmounts) {
+        int capacity = Math.max(INITIAL_CAPACITY, snapshotAccountIds.length);
+        accountIds = Arrays.copyOf(snapshotAccountIds, capacity);
+        amounts = Arrays.copyOf(snapshotAmounts, capacity);
+        size = snapshotAccountIds.length;
+    }
+
+    private synchronized void insert(JournalEntry entry) {
+        List<Posting> postings = entry.getPostings();
+        if (size + postings.size() > accountIds.length) {
+            int capacity = Math.max(accountIds.length * 2, size + postings.size());
+            accountIds = Arrays.copyOf(accountIds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+        }
+        for (Posting posting : postings) {
+            accountIds[size] = posting.accountId();
+            amounts[size] = posting.amount().minorUnits();
+            size++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JournalEntry> currentPending() {
+        List<JournalEntry> pending = (List<JournalEntry>) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending : List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JournalEntry> pendingEntries() {
+        List<JournalEntry> pending = (List<JournalEntry>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<JournalEntry> entriesToPublish = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, entriesToPublish);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entriesToPublish.forEach(InMemoryJournalRepositoryAdapter.this::insert);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(
+                            InMemoryJournalRepositoryAdapter.this);
+                }
+            });
+            InMemoryCommitBarrier.join();
+            pending = entriesToPublish;
+        }
+        return pending;
+    }
+}
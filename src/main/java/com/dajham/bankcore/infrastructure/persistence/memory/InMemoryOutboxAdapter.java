@@ -0,0 +1,90 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import com.dajham.bankcore.domain.model.TransferCompleted;
+import com.dajham.bankcore.domain.port.OutboxPort;
+import com.dajham.bankcore.infrastructure.outbox.OutboxMessage;
+import com.dajham.bankcore.infrastructure.outbox.OutboxStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adaptador en memoria del outbox. Los eventos se encolan tras el commit y no
+ * forman parte de la instantánea: los que no se hayan entregado al parar el
+ * proceso se pierden.
+ */
+@Repository
+@ConditionalOnExpression("${bankcore.outbox.enabled:false} && '${bankcore.persistence.adapter:jpa}' == 'memory'")
+public class InMemoryOutboxAdapter implements OutboxPort, OutboxStore {
+
+    private final ArrayDeque<OutboxMessage> queue = new ArrayDeque<>();
+    private long sequence;
+
+    @Override
+    public void publish(TransferCompleted event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingEvents().add(event);
+        } else {
+            enqueue(List.of(event));
+        }
+    }
+
+    @Override
+    public synchronized List<OutboxMessage> fetchBatch(int limit) {
+        List<OutboxMessage> batch = new ArrayList<>(Math.min(limit, queue.size()));
+        Iterator<OutboxMessage> iterator = queue.iterator();
+        while (batch.size() < limit && iterator.hasNext()) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    @Override
+    public synchronized void delete(List<Long> ids) {
+        Set<Long> delivered = new HashSet<>(ids);
+        queue.removeIf(message -> delivered.contains(message.id()));
+    }
+
+    /**
+     * Número de eventos pendientes de entrega.
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    private synchronized void enqueue(List<TransferCompleted> events) {
+        for (TransferCompleted event : events) {
+            queue.addLast(new OutboxMessage(++sequence, event));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TransferCompleted> pendingEvents() {
+        List<TransferCompleted> pending = (List<TransferCompleted>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TransferCompleted> eventsToPublish = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, eventsToPublish);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(eventsToPublish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryOutboxAdapter.this);
+                }
+            });
+            pending = eventsToPublish;
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,22 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración de los adaptadores en memoria
+ * ({@code bankcore.persistence.adapter=memory}).
+ *
+ * @param stripes          Particiones con cerrojo propio (potencia de 2)
+ * @param snapshotPath     Fichero de instantánea; sin valor no se persiste a
+ *                         disco
+ * @param snapshotInterval Milisegundos entre instantáneas
+ */
+@ConfigurationProperties(prefix = "bankcore.persistence.memory")
+public record InMemoryPersistenceProperties(
+        @DefaultValue("64") int stripes,
+        Path snapshotPath,
+        @DefaultValue("60000") long snapshotInterval) {
+}
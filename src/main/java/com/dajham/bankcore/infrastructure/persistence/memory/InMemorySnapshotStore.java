@@ -0,0 +1,169 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryAccountRepositoryAdapter.AccountRow;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionRepositoryAdapter.TransactionRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Instantáneas a disco de los adaptadores en memoria. Restaura el estado al
+ * arrancar y lo vuelca periódicamente y al parar. Cada volcado se escribe en
+ * un fichero temporal y se renombra de forma atómica, de modo que un corte a
+ * mitad de escritura conserva la instantánea anterior.
+ *
+ * <p>
+ * Sin {@code bankcore.persistence.memory.snapshot-path} no hace nada. Los
+ * cambios confirmados después del último volcado se pierden si el proceso
+ * termina de forma abrupta.
+ */
+@Component
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "memory")
+public class InMemorySnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySnapshotStore.class);
+
+    private static final int MAGIC = 0x42434D53; // "BCMS"
+    private static final int FORMAT_VERSION = 3;
+
+    private final InMemoryAccountRepositoryAdapter accounts;
+    private final InMemoryTransactionRepositoryAdapter transactions;
+    private final InMemoryJournalRepositoryAdapter journal;
+    private final Path path;
+
+    /**
+     * Copia del estado confirmado de los tres adaptadores en un mismo instante.
+     */
+    private record State(List<AccountRow> accounts, List<TransactionRow> transactions, long[][] postings) {
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param accounts     Adaptador en memoria de cuentas
+     * @param transactions Adaptador en memoria de transacciones
+     * @param journal      Adaptador en memoria del diario contable
+     * @param properties   Configuración de los adaptadores en memoria
+     */
+    public InMemorySnapshotStore(InMemoryAccountRepositoryAdapter accounts,
+            InMemoryTransactionRepositoryAdapter transactions,
+            InMemoryJournalRepositoryAdapter journal,
+            InMemoryPersistenceProperties properties) {
+        this.accounts = accounts;
+        this.transactions = transactions;
+        this.journal = journal;
+        this.path = properties.snapshotPath();
+    }
+
+    /**
+     * Carga la última instantánea, si existe.
+     */
+    @PostConstruct
+    public void restore() {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Formato de instantánea no reconocido: " + path);
+            }
+            int accountCount = in.readInt();
+            List<AccountRow> accountRows = new ArrayList<>(accountCount);
+            for (int i = 0; i < accountCount; i++) {
+                accountRows.add(new AccountRow(in.readLong(), in.readUTF(), in.readLong(), in.readLong(),
+                        in.readLong()));
+            }
+            int transactionCount = in.readInt();
+            List<TransactionRow> transactionRows = new ArrayList<>(transactionCount);
+            for (int i = 0; i < transactionCount; i++) {
+                transactionRows.add(new TransactionRow(in.readLong(), in.readLong(), in.readLong(),
+                        in.readLong(), LocalDateTime.parse(in.readUTF()), in.readUTF()));
+            }
+            int postingCount = in.readInt();
+            long[] postingAccountIds = new long[postingCount];
+            long[] postingAmounts = new long[postingCount];
+            for (int i = 0; i < postingCount; i++) {
+                postingAccountIds[i] = in.readLong();
+                postingAmounts[i] = in.readLong();
+            }
+            accounts.restore(accountRows);
+            transactions.restore(transactionRows);
+            journal.restore(postingAccountIds, postingAmounts);
+            log.info("Instantánea restaurada desde {}: {} cuentas, {} transacciones, {} apuntes",
+                    path, accountCount, transactionCount, postingCount);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo restaurar la instantánea " + path, ex);
+        }
+    }
+
+    /**
+     * Vuelca el estado confirmado a disco. La copia se toma con
+     * {@link InMemoryCommitBarrier}, de modo que ningún commit queda a medias
+     * entre cuentas, transacciones y diario.
+     */
+    @Scheduled(fixedDelayString = "${bankcore.persistence.memory.snapshot-interval:60000}")
+    @PreDestroy
+    public void snapshot() {
+        if (path == null) {
+            return;
+        }
+        State state = InMemoryCommitBarrier.exclusive(() ->
+                new State(accounts.snapshot(), transactions.snapshot(), journal.snapshot()));
+        List<AccountRow> accountRows = state.accounts();
+        List<TransactionRow> transactionRows = state.transactions();
+        long[][] postings = state.postings();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(accountRows.size());
+                for (AccountRow row : accountRows) {
+                    out.writeLong(row.id());
+                    out.writeUTF(row.accountNumber());
+                    out.writeLong(row.balance());
+                    out.writeLong(row.userId());
+                    out.writeLong(row.version());
+                }
+                out.writeInt(transactionRows.size());
+                for (TransactionRow row : transactionRows) {
+                    out.writeLong(row.id());
+                    out.writeLong(row.sourceAccountId());
+                    out.writeLong(row.targetAccountId());
+                    out.writeLong(row.amount());
+                    out.writeUTF(row.timestamp().toString());
+                    out.writeUTF(row.referenceCode());
+                }
+                out.writeInt(postings[0].length);
+                for (int i = 0; i < postings[0].length; i++) {
+                    out.writeLong(postings[0][i]);
+                    out.writeLong(postings[1][i]);
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Instantánea escrita en {}: {} cuentas, {} transacciones",
+                    path, accountRows.size(), transactionRows.size());
+        } catch (IOException ex) {
+            log.error("No se pudo escribir la instantánea {}", path, ex);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Gestor de transacciones sin recurso subyacente. Solo delimita la transacción
+ * y activa la sincronización, que es lo que necesitan los adaptadores en
+ * memoria para aplicar su unidad de trabajo en el commit. Permite ejecutar los
+ * servicios de aplicación con {@code @Transactional} o
+ * {@code TransactionTemplate} sin base de datos (tests y benchmarks).
+ *
+ * <p>
+ * Con aislamiento {@code REPEATABLE READ} o {@code SERIALIZABLE} la
+ * transacción retiene los commits de las demás mediante
+ * {@link InMemoryCommitBarrier}, de modo que todas sus lecturas ven el mismo
+ * estado. Es para transacciones cortas de verificación, no para el camino de
+ * escritura.
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new InMemoryTransaction(
+                (ResourceHolderSupport) TransactionSynchronizationManager.getResource(this));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((InMemoryTransaction) transaction).holder != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        InMemoryTransaction tx = (InMemoryTransaction) transaction;
+        tx.holder = new ResourceHolderSupport() {
+        };
+        tx.holder.setSynchronizedWithTransaction(true);
+        tx.newHolder = true;
+        TransactionSynchronizationManager.bindResource(this, tx.holder);
+        if (definition.getIsolationLevel() >= TransactionDefinition.ISOLATION_REPEATABLE_READ) {
+            InMemoryCommitBarrier.acquireExclusive();
+            tx.snapshot = true;
+        }
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((InMemoryTransaction) transaction).holder = null;
+        return TransactionSynchronizationManager.unbindResource(this);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(this, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        // Sin recurso: los cambios se aplican desde las sincronizaciones
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // Sin recurso: las sincronizaciones descartan sus cambios
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((InMemoryTransaction) status.getTransaction()).holder.setRollbackOnly();
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        InMemoryTransaction tx = (InMemoryTransaction) transaction;
+        if (tx.newHolder) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        }
+        if (tx.snapshot) {
+            InMemoryCommitBarrier.releaseExclusive();
+        }
+    }
+
+    /**
+     * Objeto de transacción: referencia al marcador enlazado al hilo.
+     */
+    private static final class InMemoryTransaction implements SmartTransactionObject {
+
+        private ResourceHolderSupport holder;
+        private boolean newHolder;
+        private boolean snapshot;
+
+        InMemoryTransaction(ResourceHolderSupport holder) {
+            this.holder = holder;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return holder != null && holder.isRollbackOnly();
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
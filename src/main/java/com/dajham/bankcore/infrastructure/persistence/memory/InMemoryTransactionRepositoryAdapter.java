@@ -0,0 +1,147 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptador en memoria del puerto de transacciones.
+ * Dentro de una transacción de Spring los registros se publican tras el
+ * commit; si la transacción se revierte se descartan (el ID queda sin usar,
+ * igual que con una secuencia de base de datos).
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "memory")
+public class InMemoryTransactionRepositoryAdapter implements TransactionRepositoryPort {
+
+    /**
+     * Fila inmutable de una transacción, con el importe en unidades mínimas.
+     */
+    record TransactionRow(long id, long sourceAccountId, long targetAccountId, long amount,
+            LocalDateTime timestamp, String referenceCode) {
+    }
+
+    private final StripedLongMap<TransactionRow> rows;
+    private final Set<String> referenceCodes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties Configuración de los adaptadores en memoria
+     */
+    @Autowired
+    public InMemoryTransactionRepositoryAdapter(InMemoryPersistenceProperties properties) {
+        this(properties.stripes());
+    }
+
+    /**
+     * Constructor para uso fuera del contenedor (tests y benchmarks).
+     *
+     * @param stripes Particiones con cerrojo propio (potencia de 2)
+     */
+    public InMemoryTransactionRepositoryAdapter(int stripes) {
+        this.rows = new StripedLongMap<>(stripes);
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        TransactionRow row = new TransactionRow(
+                sequence.incrementAndGet(),
+                transaction.getSourceAccountId(),
+                transaction.getTargetAccountId(),
+                transaction.getAmount().minorUnits(),
+                transaction.getTimestamp(),
+                transaction.getReferenceCode());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRows().add(row);
+        } else {
+            insert(row);
+        }
+        return toDomain(row);
+    }
+
+    /**
+     * Consulta el índice de códigos de referencia de las transacciones
+     * confirmadas.
+     */
+    @Override
+    public boolean existsByReferenceCode(String referenceCode) {
+        return referenceCodes.contains(referenceCode);
+    }
+
+    /**
+     * Número de transacciones confirmadas.
+     */
+    public int count() {
+        return rows.values().size();
+    }
+
+    List<TransactionRow> snapshot() {
+        return rows.values();
+    }
+
+    void restore(Collection<TransactionRow> snapshot) {
+        rows.clear();
+        referenceCodes.clear();
+        long maxId = 0;
+        for (TransactionRow row : snapshot) {
+            insert(row);
+            maxId = Math.max(maxId, row.id());
+        }
+        sequence.set(maxId);
+    }
+
+    private void insert(TransactionRow row) {
+        int[] locked = rows.lockForWrite(row.id());
+        try {
+            rows.putLocked(row.id(), row);
+        } finally {
+            rows.unlock(locked);
+        }
+        referenceCodes.add(row.referenceCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TransactionRow> pendingRows() {
+        List<TransactionRow> pending = (List<TransactionRow>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TransactionRow> rowsToPublish = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, rowsToPublish);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rowsToPublish.forEach(InMemoryTransactionRepositoryAdapter.this::insert);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(
+                            InMemoryTransactionRepositoryAdapter.this);
+                }
+            });
+            InMemoryCommitBarrier.join();
+            pending = rowsToPublish;
+        }
+        return pending;
+    }
+
+    private static Transaction toDomain(TransactionRow row) {
+        return new Transaction(row.id(), row.sourceAccountId(), row.targetAccountId(), Money.ofMinor(row.amount()),
+                row.timestamp(), row.referenceCode());
+    }
+}
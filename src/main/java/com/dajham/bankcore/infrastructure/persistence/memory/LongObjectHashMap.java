@@ -0,0 +1,167 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Mapa de claves {@code long} primitivas con direccionamiento abierto y sondeo
+ * lineal. Evita el boxing de {@code Long} y los nodos de {@link java.util.HashMap}:
+ * claves y valores viven en dos arrays paralelos.
+ *
+ * <p>
+ * Los valores no pueden ser {@code null} (un hueco vacío se reconoce por su
+ * valor nulo). Las eliminaciones desplazan hacia atrás el resto del grupo, así
+ * que no quedan marcas de borrado. No es thread-safe.
+ *
+ * @param <V> Tipo de los valores
+ */
+final class LongObjectHashMap<V> {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    LongObjectHashMap() {
+        this(16);
+    }
+
+    LongObjectHashMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR)));
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int i = index(key);
+        Object value;
+        while ((value = values[i]) != null) {
+            if (keys[i] == key) {
+                return (V) value;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Asocia el valor a la clave.
+     *
+     * @return El valor anterior, o {@code null} si no existía
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+        int i = index(key);
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Elimina la clave.
+     *
+     * @return El valor eliminado, o {@code null} si no existía
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int i = index(key);
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                shiftBack(i);
+                size--;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        java.util.Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Rellena el hueco {@code gap} moviendo hacia atrás las entradas siguientes
+     * del grupo cuya posición ideal no queda entre el hueco y su posición actual.
+     */
+    private void shiftBack(int gap) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                break;
+            }
+            int home = index(keys[j]);
+            boolean movable = gap <= j ? (home <= gap || home > j) : (home <= gap && home > j);
+            if (movable) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int j = index(oldKeys[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int index(long key) {
+        // Mezcla de Fibonacci: los IDs secuenciales no se agrupan en huecos
+        // contiguos
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int n) {
+        return Math.max(2, Integer.highestOneBit(n - 1) << 1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Almacén concurrente de claves {@code long}: N particiones, cada una con su
+ * {@link LongObjectHashMap} y su cerrojo de lectura/escritura. Dos cuentas solo
+ * compiten si caen en la misma partición.
+ *
+ * <p>
+ * Las operaciones de varias claves bloquean sus particiones en orden creciente
+ * con {@link #lockForWrite(long...)}, lo que evita interbloqueos entre
+ * transferencias cruzadas.
+ *
+ * @param <V> Tipo de los valores
+ */
+final class StripedLongMap<V> {
+
+    private final LongObjectHashMap<V>[] maps;
+    private final ReentrantReadWriteLock[] locks;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    StripedLongMap(int stripes) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("El número de particiones debe ser potencia de 2: " + stripes);
+        }
+        maps = new LongObjectHashMap[stripes];
+        locks = new ReentrantReadWriteLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            maps[i] = new LongObjectHashMap<>();
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        mask = stripes - 1;
+    }
+
+    V get(long key) {
+        int stripe = stripe(key);
+        ReentrantReadWriteLock.ReadLock lock = locks[stripe].readLock();
+        lock.lock();
+        try {
+            return maps[stripe].get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bloquea para escritura las particiones de las claves dadas, en orden.
+     *
+     * @return Las particiones bloqueadas, para {@link #unlock(int[])}
+     */
+    int[] lockForWrite(long... keys) {
+        int[] stripes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            stripes[i] = stripe(keys[i]);
+        }
+        stripes = Arrays.stream(stripes).sorted().distinct().toArray();
+        for (int stripe : stripes) {
+            locks[stripe].writeLock().lock();
+        }
+        return stripes;
+    }
+
+    void unlock(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            locks[stripes[i]].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lectura sin cerrojo: el llamador ya tiene bloqueada la partición.
+     */
+    V getLocked(long key) {
+        return maps[stripe(key)].get(key);
+    }
+
+    /**
+     * Escritura sin cerrojo: el llamador ya tiene bloqueada la partición.
+     */
+    void putLocked(long key, V value) {
+        maps[stripe(key)].put(key, value);
+    }
+
+    /**
+     * Eliminación sin cerrojo: el llamador ya tiene bloqueada la partición.
+     */
+    V removeLocked(long key) {
+        return maps[stripe(key)].remove(key);
+    }
+
+    /**
+     * Copia coherente de todos los valores: bloquea todas las particiones para
+     * lectura a la vez, de modo que ninguna operación de varias claves queda a
+     * medias en la copia.
+     */
+    List<V> values() {
+        for (ReentrantReadWriteLock lock : locks) {
+            lock.readLock().lock();
+        }
+        try {
+            int size = 0;
+            for (LongObjectHashMap<V> map : maps) {
+                size += map.size();
+            }
+            List<V> values = new ArrayList<>(size);
+            for (LongObjectHashMap<V> map : maps) {
+                map.forEachValue(values::add);
+            }
+            return values;
+        } finally {
+            for (ReentrantReadWriteLock lock : locks) {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < maps.length; i++) {
+            locks[i].writeLock().lock();
+            try {
+                maps[i].clear();
+            } finally {
+                locks[i].writeLock().unlock();
+            }
+        }
+    }
+
+    private int stripe(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 40) & mask;
+    }
+}
@@ -0,0 +1,81 @@
+package com.dajham.bankcore.infrastructure.persistence.partition;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Nombres y límites de las particiones mensuales de {@code transactions}.
+ * Cada mes vive en {@code transactions_pAAAAMM} con el rango
+ * {@code [primer día del mes, primer día del mes siguiente)}.
+ */
+final class MonthlyPartitions {
+
+    static final String PARENT = "transactions";
+    static final String LEGACY = "transactions_legacy";
+    static final String DEFAULT = "transactions_default";
+    static final String REFERENCES = "transaction_references";
+
+    private static final Pattern NAME = Pattern.compile("transactions_p(\\d{4})(\\d{2})");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4})-(\\d{2})-01");
+
+    private MonthlyPartitions() {
+    }
+
+    static String name(YearMonth month) {
+        return String.format("%s_p%04d%02d", PARENT, month.getYear(), month.getMonthValue());
+    }
+
+    static Optional<YearMonth> parse(String tableName) {
+        Matcher matcher = NAME.matcher(tableName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+
+    /**
+     * Literal del límite inferior de un mes, para {@code FOR VALUES}.
+     */
+    static String lowerBound(YearMonth month) {
+        return "'" + month.atDay(1) + " 00:00:00'";
+    }
+
+    /**
+     * Mes en que termina (exclusivo) el rango de una partición, a partir de
+     * la expresión de {@code pg_get_expr(relpartbound, oid)}.
+     */
+    static Optional<YearMonth> upperBound(String partitionBound) {
+        Matcher matcher = UPPER_BOUND.matcher(partitionBound);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+
+    /**
+     * Meses que deben tener partición: desde {@code firstUncovered} (o el
+     * actual, si es posterior) hasta {@code monthsAhead} meses después del
+     * actual.
+     */
+    static List<YearMonth> monthsToCreate(YearMonth current, YearMonth firstUncovered, int monthsAhead) {
+        YearMonth from = firstUncovered.isAfter(current) ? firstUncovered : current;
+        YearMonth to = current.plusMonths(monthsAhead);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * Un mes caduca cuando queda fuera del mes actual y de los
+     * {@code retentionMonths} meses completos anteriores.
+     */
+    static boolean isExpired(YearMonth month, YearMonth current, int retentionMonths) {
+        return month.plusMonths(retentionMonths).isBefore(current);
+    }
+}
@@ -0,0 +1,27 @@
+package com.dajham.bankcore.infrastructure.persistence.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración del particionado mensual de la tabla de transacciones
+ * ({@code bankcore.partitioning}). Solo aplica sobre PostgreSQL.
+ *
+ * @param enabled          Ejecuta el mantenimiento de las particiones; la
+ *                         tabla se convierte con la migración V2
+ * @param monthsAhead      Meses futuros con partición creada por adelantado
+ * @param retentionMonths  Meses completos que se conservan además del actual;
+ *                         los anteriores se archivan
+ * @param archiveDirectory Directorio de los ficheros CSV comprimidos
+ * @param maintenanceCron  Expresión cron del mantenimiento
+ */
+@ConfigurationProperties(prefix = "bankcore.partitioning")
+public record PartitioningProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("3") int monthsAhead,
+        @DefaultValue("24") int retentionMonths,
+        @DefaultValue("./data/archive") Path archiveDirectory,
+        @DefaultValue("0 15 3 * * *") String maintenanceCron) {
+}
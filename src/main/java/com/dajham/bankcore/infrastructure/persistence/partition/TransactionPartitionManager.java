@@ -0,0 +1,239 @@
+package com.dajham.bankcore.infrastructure.persistence.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Mantiene las particiones mensuales de la tabla {@code transactions} en
+ * PostgreSQL y archiva los meses que salen del periodo de retención.
+ *
+ * <p>
+ * La conversión de la tabla en particionada es la migración versionada
+ * {@code db/migration/postgresql/V2__partition_transactions.sql}; esta clase
+ * no cambia el esquema al arrancar. Si la tabla aún no está particionada solo
+ * lo avisa y no hace nada.
+ *
+ * <p>
+ * El mantenimiento crea por adelantado las particiones de los próximos meses
+ * y, para cada mes caducado, exporta sus filas a
+ * {@code transactions_AAAA_MM.csv.gz} en el directorio de archivo, retira sus
+ * códigos de {@code transaction_references}, la separa de la tabla y la
+ * borra. Los ficheros se pueden consultar sin volver a
+ * cargarlos, por ejemplo con {@code file_fdw} ({@code program 'gzip -dc ...'})
+ * o con DuckDB. Se supone una única instancia ejecutando el mantenimiento.
+ *
+ * <p>
+ * La columna {@code timestamp} no tiene zona: {@code Transaction} la toma con
+ * {@code LocalDateTime.now()} en la zona del sistema, así que los meses se
+ * calculan en esa misma zona.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.partitioning.enabled:false} && '${bankcore.persistence.adapter:jpa}' != 'memory'")
+public class TransactionPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionManager.class);
+
+    private static final int EXPORT_FETCH_SIZE = 5_000;
+    private static final String CSV_HEADER =
+            "id,source_account_id,target_account_id,amount,timestamp,reference_code,created_at";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitioningProperties properties;
+    private final Clock clock;
+    private Boolean postgres;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param dataSource         Origen de datos de la aplicación
+     * @param transactionManager Gestor de transacciones activo
+     * @param properties         Configuración del particionado
+     */
+    public TransactionPartitionManager(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            PartitioningProperties properties) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    /**
+     * Ejecuta el primer mantenimiento, para que el mes actual tenga partición
+     * antes de que el servidor web acepte peticiones.
+     */
+    @PostConstruct
+    public void initialize() {
+        if (!isPostgres()) {
+            log.warn("Particionado de transacciones desactivado: la base de datos no es PostgreSQL");
+            return;
+        }
+        if (!isPartitioned()) {
+            log.warn("La tabla transactions no está particionada: aplique la migración"
+                    + " db/migration/postgresql/V2__partition_transactions.sql");
+            return;
+        }
+        maintain();
+    }
+
+    /**
+     * Crea las particiones futuras y archiva las caducadas.
+     */
+    @Scheduled(cron = "${bankcore.partitioning.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!isPostgres() || !isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        createAhead(current);
+        archiveExpired(current);
+    }
+
+    private void createAhead(YearMonth current) {
+        YearMonth firstUncovered = legacyUpperBound().orElse(current);
+        for (YearMonth month : MonthlyPartitions.monthsToCreate(current, firstUncovered, properties.monthsAhead())) {
+            String sql = "CREATE TABLE IF NOT EXISTS " + MonthlyPartitions.name(month)
+                    + " PARTITION OF transactions FOR VALUES FROM (" + MonthlyPartitions.lowerBound(month)
+                    + ") TO (" + MonthlyPartitions.lowerBound(month.plusMonths(1)) + ")";
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(sql));
+            } catch (RuntimeException ex) {
+                // Suele indicar filas de ese mes en la partición DEFAULT
+                log.error("No se pudo crear la partición {}", MonthlyPartitions.name(month), ex);
+            }
+        }
+    }
+
+    private void archiveExpired(YearMonth current) {
+        for (String partition : partitions()) {
+            Optional<YearMonth> month = MonthlyPartitions.parse(partition);
+            if (month.isEmpty() || !MonthlyPartitions.isExpired(month.get(), current, properties.retentionMonths())) {
+                continue;
+            }
+            try {
+                Path file = export(partition, month.get());
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("DELETE FROM " + MonthlyPartitions.REFERENCES + " r USING " + partition
+                            + " p WHERE r.reference_code = p.reference_code");
+                    jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                });
+                log.info("Partición {} archivada en {}", partition, file);
+            } catch (RuntimeException ex) {
+                log.error("No se pudo archivar la partición {}", partition, ex);
+            }
+        }
+    }
+
+    /**
+     * Vuelca la partición a un CSV comprimido. El fichero se escribe aparte y
+     * se renombra al terminar, así que nunca queda un archivo a medias con el
+     * nombre definitivo.
+     */
+    private Path export(String partition, YearMonth month) {
+        Path directory = properties.archiveDirectory();
+        Path target = directory.resolve(String.format("transactions_%04d_%02d.csv.gz",
+                month.getYear(), month.getMonthValue()));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8))) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                // El cursor del controlador solo se usa dentro de una transacción
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                        "SELECT id, source_account_id, target_account_id, amount, \"timestamp\", reference_code, created_at"
+                                + " FROM " + partition + " ORDER BY id",
+                        rs -> {
+                            try {
+                                writer.write(rs.getLong(1) + "," + rs.getLong(2) + "," + rs.getLong(3) + ","
+                                        + rs.getBigDecimal(4).toPlainString() + ","
+                                        + rs.getTimestamp(5).toLocalDateTime() + ","
+                                        + rs.getString(6) + ","
+                                        + rs.getTimestamp(7).toLocalDateTime() + "\n");
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        }));
+            }
+            return Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo exportar la partición " + partition, ex);
+        }
+    }
+
+    private List<String> partitions() {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i"
+                        + " JOIN pg_class c ON c.oid = i.inhrelid"
+                        + " JOIN pg_class p ON p.oid = i.inhparent"
+                        + " WHERE p.relname = 'transactions' AND pg_table_is_visible(p.oid)"
+                        + " ORDER BY c.relname",
+                String.class));
+    }
+
+    /**
+     * Mes en que termina el rango de {@code transactions_legacy}, si existe.
+     */
+    private Optional<YearMonth> legacyUpperBound() {
+        List<String> bounds = transactionTemplate.execute(status -> jdbcTemplate.queryForList(
+                "SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c"
+                        + " WHERE c.relname = 'transactions_legacy' AND c.relispartition AND pg_table_is_visible(c.oid)",
+                String.class));
+        return bounds.isEmpty() ? Optional.empty() : MonthlyPartitions.upperBound(bounds.get(0));
+    }
+
+    private boolean isPartitioned() {
+        Integer count = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid"
+                        + " WHERE c.relname = 'transactions' AND pg_table_is_visible(c.oid)",
+                Integer.class));
+        return count != null && count > 0;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+                        metaData -> metaData.getDatabaseProductName());
+                postgres = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (Exception ex) {
+                log.warn("No se pudo determinar el motor de base de datos", ex);
+                postgres = false;
+            }
+        }
+        return postgres;
+    }
+}
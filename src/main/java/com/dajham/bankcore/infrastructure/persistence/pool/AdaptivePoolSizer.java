@@ -0,0 +1,221 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import com.dajham.bankcore.infrastructure.persistence.pool.PoolSizingDecision.Action;
+import com.dajham.bankcore.infrastructure.resilience.DatabaseGate;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica al pool de Hikari las decisiones de {@link PoolSizeController}.
+ *
+ * <p>
+ * La espera y el tiempo de uso de cada periodo salen de las diferencias entre
+ * evaluaciones de los timers {@code hikaricp.connections.acquire} y
+ * {@code hikaricp.connections.usage}, que Spring Boot registra para el pool.
+ * El nuevo tamaño se aplica con el MXBean de configuración de Hikari:
+ * {@code maximumPoolSize} limita las conexiones nuevas de inmediato, pero al
+ * reducir las conexiones sobrantes solo se cierran al quedar libres más de
+ * {@code idle-timeout}. La compuerta de conexiones, si existe, se redimensiona
+ * con el pool; como con ella los hilos esperan antes de pedir conexión a
+ * Hikari, su espera y su cola se añaden a la observación.
+ */
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final PoolSizeController controller;
+    private final DatabaseGate databaseGate;
+    private final double idleRatio;
+    private final int historySize;
+    private final Deque<PoolSizingDecision> history = new ArrayDeque<>();
+    private final Counter grown;
+    private final Counter shrunk;
+
+    private long lastNanos;
+    private long lastAcquisitions = -1;
+    private double lastWaitNanos;
+    private long lastUsages;
+    private double lastUsageMillis;
+    private long lastGateAcquires;
+    private long lastGateWaitNanos;
+    private volatile int targetSize;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, MeterRegistry meterRegistry,
+                             PoolSizingProperties properties, @Nullable DatabaseGate databaseGate) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.controller = new PoolSizeController(properties);
+        this.databaseGate = databaseGate;
+        this.idleRatio = properties.idleRatio();
+        this.historySize = Math.max(1, properties.history());
+        this.targetSize = dataSource.getMaximumPoolSize();
+
+        Gauge.builder("bankcore.db.pool.utilization", this, AdaptivePoolSizer::utilization)
+                .description("Conexiones en uso respecto al tamaño máximo actual del pool")
+                .register(meterRegistry);
+        Gauge.builder("bankcore.db.pool.target", this, sizer -> sizer.targetSize)
+                .description("Tamaño del pool que pide la demanda observada")
+                .register(meterRegistry);
+        this.grown = Counter.builder("bankcore.db.pool.resizes")
+                .tag("action", "grow")
+                .description("Cambios de tamaño del pool de conexiones")
+                .register(meterRegistry);
+        this.shrunk = Counter.builder("bankcore.db.pool.resizes")
+                .tag("action", "shrink")
+                .description("Cambios de tamaño del pool de conexiones")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${bankcore.db-pool.interval:15s}",
+            initialDelayString = "${bankcore.db-pool.interval:15s}")
+    public void evaluate() {
+        evaluate(System.nanoTime());
+    }
+
+    /**
+     * Toma una observación y aplica la decisión resultante.
+     *
+     * @param nowNanos Instante actual según {@link System#nanoTime()}
+     * @return la decisión, o null si aún no hay un periodo completo que
+     *         evaluar
+     */
+    @Nullable
+    synchronized PoolSizingDecision evaluate(long nowNanos) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        Timer acquire = timer("hikaricp.connections.acquire");
+        Timer usage = timer("hikaricp.connections.usage");
+        if (pool == null || acquire == null || usage == null) {
+            // El pool se arranca con la primera conexión y registra sus métricas entonces
+            return null;
+        }
+
+        long acquisitions = acquire.count();
+        double waitNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+        long usages = usage.count();
+        double usageMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+        long gateAcquires = databaseGate != null ? databaseGate.getAcquireCount() : 0;
+        long gateWaitNanos = databaseGate != null ? databaseGate.getTotalWaitNanos() : 0;
+        if (lastAcquisitions < 0) {
+            remember(nowNanos, acquisitions, waitNanos, usages, usageMillis, gateAcquires, gateWaitNanos);
+            return null;
+        }
+
+        long deltaAcquisitions = acquisitions - lastAcquisitions;
+        long deltaUsages = usages - lastUsages;
+        long deltaGateAcquires = gateAcquires - lastGateAcquires;
+        PoolSample sample = new PoolSample(
+                (nowNanos - lastNanos) / 1e9,
+                deltaAcquisitions,
+                deltaAcquisitions > 0 ? (waitNanos - lastWaitNanos) / deltaAcquisitions / 1e6 : 0,
+                deltaUsages > 0 ? (usageMillis - lastUsageMillis) / deltaUsages : 0,
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(),
+                deltaGateAcquires > 0 ? (gateWaitNanos - lastGateWaitNanos) / (double) deltaGateAcquires / 1e6 : 0,
+                databaseGate != null ? databaseGate.getQueueLength() : 0);
+        remember(nowNanos, acquisitions, waitNanos, usages, usageMillis, gateAcquires, gateWaitNanos);
+
+        PoolSizingDecision decision = controller.evaluate(sample, dataSource.getMaximumPoolSize(), Instant.now());
+        targetSize = decision.targetSize();
+        if (decision.action() != Action.HOLD) {
+            resize(decision);
+        }
+        synchronized (history) {
+            if (history.size() == historySize) {
+                history.removeLast();
+            }
+            history.addFirst(decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Decisiones más recientes primero.
+     */
+    public List<PoolSizingDecision> decisions(int limit) {
+        synchronized (history) {
+            return new ArrayList<>(history).subList(0, Math.min(limit, history.size()));
+        }
+    }
+
+    public int getMinSize() {
+        return controller.getMinSize();
+    }
+
+    public int getMaxSize() {
+        return controller.getMaxSize();
+    }
+
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    public double getBaselineUsageMillis() {
+        return controller.getBaselineUsageMillis();
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    private void resize(PoolSizingDecision decision) {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int newSize = decision.newSize();
+        int minimumIdle = Math.max(1, Math.min(newSize, (int) Math.ceil(newSize * idleRatio)));
+        // minimumIdle nunca supera al máximo, ni siquiera entre las dos llamadas
+        if (decision.action() == Action.GROW) {
+            config.setMaximumPoolSize(newSize);
+            config.setMinimumIdle(minimumIdle);
+            grown.increment();
+        } else {
+            config.setMinimumIdle(minimumIdle);
+            config.setMaximumPoolSize(newSize);
+            shrunk.increment();
+        }
+        if (databaseGate != null) {
+            databaseGate.resize(newSize);
+        }
+        log.info("Pool {} redimensionado de {} a {} conexiones (minimum-idle {}): {}",
+                dataSource.getPoolName(), decision.previousSize(), newSize, minimumIdle, decision.reason());
+    }
+
+    private void remember(long nowNanos, long acquisitions, double waitNanos, long usages, double usageMillis,
+                          long gateAcquires, long gateWaitNanos) {
+        lastNanos = nowNanos;
+        lastAcquisitions = acquisitions;
+        lastWaitNanos = waitNanos;
+        lastUsages = usages;
+        lastUsageMillis = usageMillis;
+        lastGateAcquires = gateAcquires;
+        lastGateWaitNanos = gateWaitNanos;
+    }
+
+    @Nullable
+    private Timer timer(String name) {
+        return meterRegistry.find(name).tag("pool", dataSource.getPoolName()).timer();
+    }
+
+    private double utilization() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int max = dataSource.getMaximumPoolSize();
+        return pool == null || max == 0 ? 0 : (double) pool.getActiveConnections() / max;
+    }
+}
@@ -0,0 +1,40 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+/**
+ * Lo observado en el pool durante un periodo de evaluación.
+ *
+ * @param intervalSeconds Duración real del periodo
+ * @param acquisitions    Conexiones entregadas en el periodo
+ * @param meanWaitMillis  Espera media por una conexión
+ * @param meanUsageMillis Tiempo medio que se retuvo cada conexión; incluye las
+ *                        sentencias y el resto de la transacción
+ * @param active          Conexiones en uso al final del periodo
+ * @param idle            Conexiones libres al final del periodo
+ * @param pending         Hilos esperando una conexión al final del periodo
+ * @param gateWaitMillis  Espera media por un permiso de la compuerta de
+ *                        conexiones; 0 sin compuerta
+ * @param gatePending     Hilos esperando un permiso de la compuerta al final
+ *                        del periodo; 0 sin compuerta
+ */
+public record PoolSample(
+        double intervalSeconds,
+        long acquisitions,
+        double meanWaitMillis,
+        double meanUsageMillis,
+        int active,
+        int idle,
+        int pending,
+        double gateWaitMillis,
+        int gatePending) {
+
+    /**
+     * Conexiones ocupadas de media según la ley de Little: entregas por
+     * segundo por tiempo de uso.
+     */
+    public double demand() {
+        if (intervalSeconds <= 0) {
+            return 0;
+        }
+        return acquisitions / intervalSeconds * meanUsageMillis / 1000.0;
+    }
+}
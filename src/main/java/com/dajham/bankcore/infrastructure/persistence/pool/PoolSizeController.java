@@ -0,0 +1,153 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import com.dajham.bankcore.infrastructure.persistence.pool.PoolSizingDecision.Action;
+
+import java.time.Instant;
+
+/**
+ * Decide el tamaño del pool a partir de la espera por conexión y del tiempo
+ * que se retiene cada una.
+ *
+ * El tamaño objetivo es la demanda de la ley de Little (entregas por segundo
+ * por tiempo de uso) con un margen. El pool crece solo si los hilos esperan
+ * conexión y la base de datos no se ha vuelto más lenta: si el tiempo de uso
+ * supera al de referencia en más de {@code dbTolerance}, el cuello de botella
+ * es PostgreSQL y más conexiones solo empeorarían su latencia. Se reduce hacia
+ * el objetivo cuando no hay espera. Con la compuerta de conexiones los hilos
+ * esperan en ella antes de llegar a Hikari, así que su espera y su cola
+ * cuentan igual que las del pool.
+ *
+ * La histéresis consiste en exigir varias evaluaciones seguidas en la misma
+ * dirección (más para reducir que para crecer) y en limitar el cambio por
+ * decisión a {@code step} conexiones; tras cada cambio las rachas empiezan de
+ * cero. No es seguro para hilos: lo invoca una única tarea programada.
+ */
+public class PoolSizeController {
+
+    private final int minSize;
+    private final int maxSize;
+    private final double waitThresholdMillis;
+    private final double dbTolerance;
+    private final double headroom;
+    private final int step;
+    private final int growAfter;
+    private final int shrinkAfter;
+    private final int baselineWindow;
+
+    private double baselineUsageMillis;
+    private int growStreak;
+    private int shrinkStreak;
+
+    public PoolSizeController(PoolSizingProperties properties) {
+        if (properties.minSize() < 1 || properties.maxSize() < properties.minSize()) {
+            throw new IllegalArgumentException("Límites del pool de conexiones inválidos");
+        }
+        this.minSize = properties.minSize();
+        this.maxSize = properties.maxSize();
+        this.waitThresholdMillis = properties.waitThreshold().toNanos() / 1_000_000.0;
+        this.dbTolerance = properties.dbTolerance();
+        this.headroom = properties.headroom();
+        this.step = Math.max(1, properties.step());
+        this.growAfter = Math.max(1, properties.growAfter());
+        this.shrinkAfter = Math.max(1, properties.shrinkAfter());
+        this.baselineWindow = Math.max(1, properties.baselineWindow());
+    }
+
+    /**
+     * Evalúa una observación.
+     *
+     * @param sample      Lo observado desde la evaluación anterior
+     * @param currentSize Tamaño máximo actual del pool
+     * @param at          Momento de la evaluación
+     * @return la decisión; {@code newSize} es el tamaño a aplicar
+     */
+    public PoolSizingDecision evaluate(PoolSample sample, int currentSize, Instant at) {
+        int target = clamp((int) Math.ceil(sample.demand() * headroom));
+        boolean degraded = isDegraded(sample);
+        updateBaseline(sample);
+
+        double waitMillis = Math.max(sample.meanWaitMillis(), sample.gateWaitMillis());
+        int pending = sample.pending() + sample.gatePending();
+        boolean waiting = waitMillis >= waitThresholdMillis || pending > 0;
+        if (waiting) {
+            shrinkStreak = 0;
+            if (degraded) {
+                growStreak = 0;
+                return hold(at, currentSize, target, sample, String.format(
+                        "Espera de %.1f ms, pero el uso de conexión (%.1f ms) supera la referencia (%.1f ms)",
+                        waitMillis, sample.meanUsageMillis(), baselineUsageMillis));
+            }
+            if (currentSize >= maxSize) {
+                growStreak = 0;
+                return hold(at, currentSize, target, sample, "Espera por conexión con el pool en el máximo");
+            }
+            if (++growStreak < growAfter) {
+                return hold(at, currentSize, target, sample,
+                        "Espera por conexión " + growStreak + "/" + growAfter);
+            }
+            // Con espera la demanda observada está acotada por el propio pool,
+            // así que crece al menos una conexión aunque el objetivo no lo pida
+            int newSize = Math.min(maxSize, currentSize + Math.max(1, Math.min(step, target - currentSize)));
+            return change(at, Action.GROW, currentSize, newSize, target, sample, String.format(
+                    "Espera media de %.1f ms y %d hilos esperando", waitMillis, pending));
+        }
+
+        growStreak = 0;
+        if (target < currentSize) {
+            if (++shrinkStreak < shrinkAfter) {
+                return hold(at, currentSize, target, sample,
+                        "Holgura " + shrinkStreak + "/" + shrinkAfter);
+            }
+            int newSize = Math.max(target, currentSize - step);
+            return change(at, Action.SHRINK, currentSize, newSize, target, sample, String.format(
+                    "Sin espera y demanda de %.1f conexiones", sample.demand()));
+        }
+
+        shrinkStreak = 0;
+        return hold(at, currentSize, target, sample, "Tamaño adecuado");
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public double getBaselineUsageMillis() {
+        return baselineUsageMillis;
+    }
+
+    private boolean isDegraded(PoolSample sample) {
+        return sample.acquisitions() > 0
+                && baselineUsageMillis > 0
+                && sample.meanUsageMillis() > baselineUsageMillis * dbTolerance;
+    }
+
+    private void updateBaseline(PoolSample sample) {
+        if (sample.acquisitions() == 0) {
+            return;
+        }
+        if (baselineUsageMillis == 0) {
+            baselineUsageMillis = sample.meanUsageMillis();
+        } else {
+            baselineUsageMillis += (sample.meanUsageMillis() - baselineUsageMillis) / baselineWindow;
+        }
+    }
+
+    private PoolSizingDecision hold(Instant at, int size, int target, PoolSample sample, String reason) {
+        return new PoolSizingDecision(at, Action.HOLD, size, size, target, reason, sample);
+    }
+
+    private PoolSizingDecision change(Instant at, Action action, int size, int newSize, int target,
+                                      PoolSample sample, String reason) {
+        growStreak = 0;
+        shrinkStreak = 0;
+        return new PoolSizingDecision(at, action, size, newSize, target, reason, sample);
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+}
@@ -0,0 +1,41 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import com.dajham.bankcore.infrastructure.resilience.DatabaseGate;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Dimensionado adaptativo del pool de Hikari. El {@link DataSource} del
+ * contexto puede estar envuelto (recuento de sentencias, Server-Timing), por
+ * lo que el pool se obtiene con {@code unwrap}.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.db-pool.enabled:true}")
+public class PoolSizingConfig {
+
+    @Bean
+    public AdaptivePoolSizer adaptivePoolSizer(DataSource dataSource, MeterRegistry meterRegistry,
+                                               PoolSizingProperties properties,
+                                               @Nullable DatabaseGate databaseGate) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new IllegalStateException(
+                    "bankcore.db-pool requiere un pool de Hikari; desactívelo con bankcore.db-pool.enabled=false");
+        }
+        return new AdaptivePoolSizer(dataSource.unwrap(HikariDataSource.class), meterRegistry, properties,
+                databaseGate);
+    }
+
+    @Bean
+    public PoolSizingEndpoint poolSizingEndpoint(AdaptivePoolSizer adaptivePoolSizer) {
+        return new PoolSizingEndpoint(adaptivePoolSizer);
+    }
+}
@@ -0,0 +1,30 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import java.time.Instant;
+
+/**
+ * Resultado de una evaluación del pool.
+ *
+ * @param at           Momento de la evaluación
+ * @param action       Qué se hizo con el tamaño
+ * @param previousSize Tamaño máximo antes de la decisión
+ * @param newSize      Tamaño máximo tras la decisión
+ * @param targetSize   Tamaño objetivo según la demanda observada
+ * @param reason       Motivo legible de la decisión
+ * @param sample       Observación en la que se basa
+ */
+public record PoolSizingDecision(
+        Instant at,
+        Action action,
+        int previousSize,
+        int newSize,
+        int targetSize,
+        String reason,
+        PoolSample sample) {
+
+    public enum Action {
+        GROW,
+        SHRINK,
+        HOLD
+    }
+}
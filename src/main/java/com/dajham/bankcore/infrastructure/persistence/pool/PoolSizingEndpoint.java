@@ -0,0 +1,72 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Endpoint de actuator {@code dbpool}: estado del pool de conexiones y las
+ * últimas decisiones del dimensionado adaptativo, incluidas las que mantienen
+ * el tamaño ({@code GET /actuator/dbpool?limit=N}).
+ */
+@Endpoint(id = "dbpool")
+public class PoolSizingEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final AdaptivePoolSizer sizer;
+
+    public PoolSizingEndpoint(AdaptivePoolSizer sizer) {
+        this.sizer = sizer;
+    }
+
+    /**
+     * @param pool                Nombre del pool
+     * @param minSize             Límite inferior del dimensionado
+     * @param maxSize             Límite superior del dimensionado
+     * @param maximumPoolSize     Tamaño máximo actual del pool
+     * @param minimumIdle         Conexiones libres que mantiene el pool
+     * @param targetSize          Tamaño que pide la demanda de la última
+     *                            evaluación
+     * @param baselineUsageMillis Tiempo de uso de conexión de referencia
+     * @param active              Conexiones en uso
+     * @param idle                Conexiones libres
+     * @param pending             Hilos esperando una conexión
+     * @param decisions           Decisiones más recientes primero
+     */
+    public record PoolStatus(
+            String pool,
+            int minSize,
+            int maxSize,
+            int maximumPoolSize,
+            int minimumIdle,
+            int targetSize,
+            double baselineUsageMillis,
+            int active,
+            int idle,
+            int pending,
+            List<PoolSizingDecision> decisions) {
+    }
+
+    @ReadOperation
+    public PoolStatus status(@Nullable Integer limit) {
+        HikariDataSource dataSource = sizer.getDataSource();
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return new PoolStatus(
+                dataSource.getPoolName(),
+                sizer.getMinSize(),
+                sizer.getMaxSize(),
+                dataSource.getMaximumPoolSize(),
+                dataSource.getMinimumIdle(),
+                sizer.getTargetSize(),
+                sizer.getBaselineUsageMillis(),
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                pool != null ? pool.getThreadsAwaitingConnection() : 0,
+                sizer.decisions(limit != null && limit > 0 ? limit : DEFAULT_LIMIT));
+    }
+}
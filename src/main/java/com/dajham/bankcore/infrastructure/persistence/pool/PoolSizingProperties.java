@@ -0,0 +1,49 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Dimensionado adaptativo del pool de Hikari ({@code bankcore.db-pool}).
+ *
+ * @param enabled       Activa el control; sin él el pool mantiene el tamaño
+ *                      de {@code spring.datasource.hikari}
+ * @param minSize       Tamaño mínimo al que puede reducirse el pool
+ * @param maxSize       Tamaño máximo al que puede crecer el pool
+ * @param interval      Periodo entre evaluaciones
+ * @param waitThreshold Espera media por conexión a partir de la cual el pool
+ *                      se considera insuficiente
+ * @param dbTolerance   Cuánto puede crecer el tiempo de uso de las conexiones
+ *                      respecto al de referencia antes de dejar de crecer: si
+ *                      la base de datos ya responde más lento, más conexiones
+ *                      solo añaden carga
+ * @param headroom      Margen sobre la demanda estimada (ley de Little) al
+ *                      calcular el tamaño objetivo
+ * @param step          Conexiones que se añaden o retiran como máximo por
+ *                      decisión
+ * @param growAfter     Evaluaciones seguidas con espera antes de crecer
+ * @param shrinkAfter   Evaluaciones seguidas con holgura antes de reducir
+ * @param idleRatio     Fracción del tamaño que se mantiene como
+ *                      {@code minimum-idle}
+ * @param baselineWindow Evaluaciones que promedia el tiempo de uso de
+ *                      referencia
+ * @param history       Decisiones que conserva el endpoint
+ */
+@ConfigurationProperties(prefix = "bankcore.db-pool")
+public record PoolSizingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4") int minSize,
+        @DefaultValue("20") int maxSize,
+        @DefaultValue("15s") Duration interval,
+        @DefaultValue("5ms") Duration waitThreshold,
+        @DefaultValue("1.5") double dbTolerance,
+        @DefaultValue("1.25") double headroom,
+        @DefaultValue("4") int step,
+        @DefaultValue("2") int growAfter,
+        @DefaultValue("8") int shrinkAfter,
+        @DefaultValue("0.5") double idleRatio,
+        @DefaultValue("20") int baselineWindow,
+        @DefaultValue("100") int history) {
+}
@@ -0,0 +1,69 @@
+package com.dajham.bankcore.infrastructure.persistence.r2dbc;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.ReactiveAccountRepositoryPort;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Adaptador R2DBC que implementa el puerto reactivo de cuentas.
+ * Lee la misma tabla que la entidad JPA.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "r2dbc")
+public class R2dbcAccountRepositoryAdapter implements ReactiveAccountRepositoryPort {
+
+    private static final String SELECT_COLUMNS = "SELECT id, account_number, balance, user_id, version FROM accounts";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param databaseClient Cliente R2DBC no bloqueante
+     */
+    public R2dbcAccountRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Account> findById(Long id) {
+        return databaseClient.sql(SELECT_COLUMNS + " WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcAccountRepositoryAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<Account> findByAccountNumber(String accountNumber) {
+        return databaseClient.sql(SELECT_COLUMNS + " WHERE UPPER(account_number) = UPPER(:accountNumber)")
+                .bind("accountNumber", accountNumber)
+                .map(R2dbcAccountRepositoryAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Flux<Account> findByUserId(Long userId) {
+        return databaseClient.sql(SELECT_COLUMNS + " WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(R2dbcAccountRepositoryAdapter::toDomain)
+                .all();
+    }
+
+    private static Account toDomain(Readable row) {
+        Account account = new Account(
+                row.get("id", Long.class),
+                row.get("account_number", String.class),
+                Money.of(row.get("balance", BigDecimal.class)),
+                row.get("user_id", Long.class));
+        account.setVersion(row.get("version", Long.class));
+        return account;
+    }
+}
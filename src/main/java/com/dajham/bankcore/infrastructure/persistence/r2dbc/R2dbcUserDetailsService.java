@@ -0,0 +1,58 @@
+package com.dajham.bankcore.infrastructure.persistence.r2dbc;
+
+import com.dajham.bankcore.infrastructure.persistence.entity.UserEntity;
+import com.dajham.bankcore.infrastructure.security.OperatorProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación reactiva de la carga de usuarios para Spring Security.
+ * Devuelve {@link UserEntity} como principal, igual que
+ * {@code CustomUserDetailsService}, para que los controladores obtengan el ID
+ * del usuario sin una segunda consulta.
+ */
+@Service
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "r2dbc")
+public class R2dbcUserDetailsService implements ReactiveUserDetailsService {
+
+    private final DatabaseClient databaseClient;
+    private final OperatorProperties operators;
+
+    public R2dbcUserDetailsService(DatabaseClient databaseClient, OperatorProperties operators) {
+        this.databaseClient = databaseClient;
+        this.operators = operators;
+    }
+
+    /**
+     * Carga un usuario por su username.
+     *
+     * @param username El nombre de usuario a buscar
+     * @return UserDetails con la información del usuario
+     */
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return databaseClient.sql("""
+                SELECT id, username, password_hash, email, full_name, enabled
+                FROM users WHERE username = :username""")
+                .bind("username", username)
+                .map(row -> {
+                    UserEntity user = new UserEntity(
+                            row.get("username", String.class),
+                            row.get("password_hash", String.class),
+                            row.get("email", String.class));
+                    user.setId(row.get("id", Long.class));
+                    user.setFullName(row.get("full_name", String.class));
+                    user.setEnabled(row.get("enabled", Boolean.class));
+                    user.setOperator(operators.isOperator(user.getUsername()));
+                    return (UserDetails) user;
+                })
+                .one()
+                .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException(
+                        "Usuario no encontrado con username: " + username)));
+    }
+}
@@ -1,54 +1,94 @@
 package com.dajham.bankcore.infrastructure.persistence.repository;
 
 import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
 import com.dajham.bankcore.domain.port.AccountRepositoryPort;
 import com.dajham.bankcore.infrastructure.persistence.entity.AccountEntity;
 import com.dajham.bankcore.infrastructure.persistence.mapper.AccountMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.math.BigDecimal;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 /**
  * Adaptador que implementa el puerto de repositorio del dominio.
  * Esta clase conecta la capa de dominio con la capa de infraestructura (Spring
  * Data JPA).
  * Implementa el patrón Adapter de Clean Architecture.
+ *
+ * <p>
+ * Las cuentas leídas o guardadas en una transacción quedan en un
+ * {@link TransactionalIdentityMap}; al guardarlas de nuevo se actualiza esa
+ * misma entidad en lugar de hacer {@code merge()} de una copia, y Hibernate
+ * envía un único UPDATE versionado en el flush.
  */
 @Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
 
     private final SpringDataAccountRepository jpaRepository;
     private final AccountMapper mapper;
+    private final TransactionalIdentityMap<AccountEntity> identityMap;
 
     /**
      * Constructor con inyección de dependencias.
      * 
      * @param jpaRepository El repositorio Spring Data JPA
      * @param mapper        El mapper para conversión entre dominio y entidad JPA
+     * @param entityManager El EntityManager compartido de la transacción
      */
     public AccountRepositoryAdapter(
             SpringDataAccountRepository jpaRepository,
-            AccountMapper mapper) {
+            AccountMapper mapper,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.identityMap = new TransactionalIdentityMap<>(entityManager);
     }
 
     @Override
     public Account save(Account account) {
-        AccountEntity entity = mapper.toEntity(account);
-        AccountEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        AccountEntity managed = identityMap.find(account.getId());
+        if (managed != null) {
+            // Misma comprobación que haría merge(): la versión del dominio
+            // debe ser la de la entidad cargada
+            if (!Objects.equals(managed.getVersion(), account.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(AccountEntity.class, account.getId());
+            }
+            mapper.updateEntity(managed, account);
+            return mapper.toDomain(managed);
+        }
+        AccountEntity savedEntity = jpaRepository.save(mapper.toEntity(account));
+        return mapper.toDomain(identityMap.register(savedEntity.getId(), savedEntity));
+    }
+
+    /**
+     * Ejecuta el flush del contexto de persistencia: Hibernate envía los
+     * UPDATE versionados de las cuentas modificadas en un batch.
+     */
+    @Override
+    public void flush() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            jpaRepository.flush();
+        }
     }
 
     @Override
     public Optional<Account> findById(Long id) {
         return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+                .map(this::track);
     }
 
     @Override
     public Optional<Account> findByAccountNumber(String accountNumber) {
         return jpaRepository.findByAccountNumber(accountNumber)
-                .map(mapper::toDomain);
+                .map(this::track);
     }
 
     @Override
@@ -65,7 +105,25 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
     public java.util.List<Account> findByUserId(Long userId) {
         return jpaRepository.findByUserId(userId)
                 .stream()
-                .map(mapper::toDomain)
+                .map(this::track)
                 .toList();
     }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        try (Stream<Object[]> keys = jpaRepository.streamAccountKeys()) {
+            keys.forEach(row -> consumer.accept((Long) row[0], (String) row[1]));
+        }
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        try (Stream<Object[]> balances = jpaRepository.streamAccountBalances()) {
+            balances.forEach(row -> consumer.accept((Long) row[0], Money.of((BigDecimal) row[1])));
+        }
+    }
+
+    private Account track(AccountEntity entity) {
+        return mapper.toDomain(identityMap.register(entity.getId(), entity));
+    }
 }
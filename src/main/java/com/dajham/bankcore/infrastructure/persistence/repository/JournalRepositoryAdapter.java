@@ -0,0 +1,64 @@
+package com.dajham.bankcore.infrastructure.persistence.repository;
+
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.Posting;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.entity.PostingEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador que implementa el puerto del diario contable con Spring Data JPA.
+ */
+@Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
+public class JournalRepositoryAdapter implements JournalRepositoryPort {
+
+    private final SpringDataPostingRepository jpaRepository;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository El repositorio Spring Data JPA
+     */
+    public JournalRepositoryAdapter(SpringDataPostingRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void append(JournalEntry entry) {
+        List<PostingEntity> entities = new ArrayList<>(entry.getPostings().size());
+        for (Posting posting : entry.getPostings()) {
+            entities.add(new PostingEntity(entry.getReference(), posting.accountId(),
+                    posting.amount().toBigDecimal(), entry.getTimestamp()));
+        }
+        jpaRepository.saveAll(entities);
+    }
+
+    @Override
+    public long lastPostingId() {
+        return jpaRepository.findLastId();
+    }
+
+    @Override
+    public Map<Long, Money> sumByAccount(long fromIdExclusive, long toIdInclusive) {
+        List<Object[]> rows = jpaRepository.sumByAccount(fromIdExclusive, toIdInclusive);
+        Map<Long, Money> sums = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            sums.put((Long) row[0], Money.of((BigDecimal) row[1]));
+        }
+        return sums;
+    }
+
+    @Override
+    public Money balanceOf(long accountId) {
+        return Money.of(jpaRepository.sumForAccount(accountId));
+    }
+}
@@ -0,0 +1,61 @@
+package com.dajham.bankcore.infrastructure.persistence.repository;
+
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.TransferCompleted;
+import com.dajham.bankcore.domain.port.OutboxPort;
+import com.dajham.bankcore.infrastructure.outbox.OutboxMessage;
+import com.dajham.bankcore.infrastructure.outbox.OutboxStore;
+import com.dajham.bankcore.infrastructure.persistence.entity.OutboxEventEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Adaptador que implementa el outbox con Spring Data JPA.
+ */
+@Repository
+@ConditionalOnExpression("${bankcore.outbox.enabled:false} && '${bankcore.persistence.adapter:jpa}' == 'jpa'")
+public class OutboxRepositoryAdapter implements OutboxPort, OutboxStore {
+
+    private final SpringDataOutboxRepository jpaRepository;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jpaRepository El repositorio Spring Data JPA
+     */
+    public OutboxRepositoryAdapter(SpringDataOutboxRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void publish(TransferCompleted event) {
+        jpaRepository.save(new OutboxEventEntity(
+                event.transactionId(),
+                event.referenceCode(),
+                event.sourceAccountId(),
+                event.targetAccountId(),
+                event.amount().toBigDecimal(),
+                event.occurredAt()));
+    }
+
+    @Override
+    public List<OutboxMessage> fetchBatch(int limit) {
+        return jpaRepository.findByOrderByIdAsc(Limit.of(limit)).stream()
+                .map(entity -> new OutboxMessage(entity.getId(), new TransferCompleted(
+                        entity.getTransactionId(),
+                        entity.getReferenceCode(),
+                        entity.getSourceAccountId(),
+                        entity.getTargetAccountId(),
+                        Money.of(entity.getAmount()),
+                        entity.getOccurredAt())))
+                .toList();
+    }
+
+    @Override
+    public void delete(List<Long> ids) {
+        jpaRepository.deleteAllByIdInBatch(ids);
+    }
+}
@@ -3,9 +3,12 @@ package com.dajham.bankcore.infrastructure.persistence.repository;
 import com.dajham.bankcore.infrastructure.persistence.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio Spring Data JPA para operaciones de persistencia de cuentas.
@@ -38,4 +41,24 @@ public interface SpringDataAccountRepository extends JpaRepository<AccountEntity
      * @return Lista de cuentas del usuario
      */
     java.util.List<AccountEntity> findByUserId(Long userId);
+
+    /**
+     * Recorre ID y número de todas las cuentas con un cursor por bloques.
+     * El stream debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return Pares {@code [id, accountNumber]}
+     */
+    @Query("SELECT a.id, a.accountNumber FROM AccountEntity a")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<Object[]> streamAccountKeys();
+
+    /**
+     * Recorre ID y saldo de todas las cuentas con un cursor por bloques.
+     * El stream debe consumirse y cerrarse dentro de una transacción.
+     *
+     * @return Pares {@code [id, balance]}
+     */
+    @Query("SELECT a.id, a.balance FROM AccountEntity a")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<Object[]> streamAccountBalances();
 }
@@ -0,0 +1,17 @@
+package com.dajham.bankcore.infrastructure.persistence.repository;
+
+import com.dajham.bankcore.infrastructure.persistence.entity.OutboxEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio Spring Data JPA para el outbox de eventos.
+ */
+@Repository
+public interface SpringDataOutboxRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    List<OutboxEventEntity> findByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,27 @@
+package com.dajham.bankcore.infrastructure.persistence.repository;
+
+import com.dajham.bankcore.infrastructure.persistence.entity.PostingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repositorio Spring Data JPA para los apuntes del diario contable.
+ */
+@Repository
+public interface SpringDataPostingRepository extends JpaRepository<PostingEntity, Long> {
+
+    @Query("select coalesce(max(p.id), 0) from PostingEntity p")
+    long findLastId();
+
+    @Query("select p.accountId, sum(p.amount) from PostingEntity p"
+            + " where p.id > :fromId and p.id <= :toId group by p.accountId")
+    List<Object[]> sumByAccount(@Param("fromId") long fromIdExclusive, @Param("toId") long toIdInclusive);
+
+    @Query("select coalesce(sum(p.amount), 0) from PostingEntity p where p.accountId = :accountId")
+    BigDecimal sumForAccount(@Param("accountId") long accountId);
+}
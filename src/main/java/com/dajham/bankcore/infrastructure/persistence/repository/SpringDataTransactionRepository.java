@@ -4,10 +4,14 @@ import com.dajham.bankcore.infrastructure.persistence.entity.TransactionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * Repositorio Spring Data JPA para operaciones de persistencia de
  * transacciones.
  */
 @Repository
 public interface SpringDataTransactionRepository extends JpaRepository<TransactionEntity, Long> {
+
+    boolean existsByReferenceCode(UUID referenceCode);
 }
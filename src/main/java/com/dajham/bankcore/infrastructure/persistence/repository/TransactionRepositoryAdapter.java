@@ -5,6 +5,9 @@ import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
 import com.dajham.bankcore.infrastructure.persistence.entity.TransactionEntity;
 import com.dajham.bankcore.infrastructure.persistence.mapper.TransactionMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.UUID;
 
 /**
  * Adaptador que implementa el puerto de repositorio de transacciones del
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Repository;
  * Conecta la capa de dominio con Spring Data JPA.
  */
 @Repository
+@ConditionalOnProperty(name = "bankcore.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
 
     private final SpringDataTransactionRepository jpaRepository;
@@ -36,4 +40,9 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
         TransactionEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
+
+    @Override
+    public boolean existsByReferenceCode(String referenceCode) {
+        return jpaRepository.existsByReferenceCode(UUID.fromString(referenceCode));
+    }
 }
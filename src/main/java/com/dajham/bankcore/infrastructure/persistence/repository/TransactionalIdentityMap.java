@@ -0,0 +1,74 @@
+package com.dajham.bankcore.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mapa de identidad de las entidades JPA cargadas o guardadas en la
+ * transacción actual.
+ *
+ * <p>
+ * Permite a los adaptadores aplicar los cambios del dominio sobre la entidad
+ * gestionada en lugar de construir una copia y pasarla por {@code merge()}.
+ * Las escrituras se envían una sola vez, en el flush de la transacción, por la
+ * comprobación de cambios de Hibernate. El mapa se asocia a la transacción
+ * como recurso y se descarta al terminarla. Una entidad solo se devuelve si
+ * sigue gestionada por el {@link EntityManager}, de modo que un
+ * {@code clear()} o una transacción anidada vuelven al camino normal.
+ *
+ * @param <E> Tipo de la entidad JPA
+ */
+final class TransactionalIdentityMap<E> {
+
+    private final EntityManager entityManager;
+
+    TransactionalIdentityMap(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Registra la entidad gestionada con su ID. Fuera de una transacción no
+     * hace nada.
+     */
+    E register(Long id, E entity) {
+        if (id == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return entity;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, E> entities = (Map<Long, E>) TransactionSynchronizationManager.getResource(this);
+        if (entities == null) {
+            entities = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, entities);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalIdentityMap.this);
+                }
+            });
+        }
+        entities.put(id, entity);
+        return entity;
+    }
+
+    /**
+     * Devuelve la entidad registrada en esta transacción si sigue gestionada.
+     *
+     * @return La entidad, o {@code null} si no se cargó en esta transacción
+     */
+    E find(Long id) {
+        if (id == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, E> entities = (Map<Long, E>) TransactionSynchronizationManager.getResource(this);
+        if (entities == null) {
+            return null;
+        }
+        E entity = entities.get(id);
+        return entity != null && entityManager.contains(entity) ? entity : null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.dajham.bankcore.infrastructure.persistence.schema;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Convierte {@code transactions.reference_code} de texto a {@code uuid} en
+ * bases de datos PostgreSQL creadas antes de que la columna fuera binaria.
+ *
+ * <p>
+ * {@code ddl-auto: update} no cambia el tipo de una columna existente, así
+ * que la conversión se hace aquí, antes de que arranque Hibernate. Todos los
+ * códigos existentes son UUID en forma textual y se convierten sin pérdida;
+ * la tabla se reescribe una vez. En otros motores o con la columna ya
+ * convertida no hace nada.
+ */
+@Component
+@Profile("!reactive")
+public class ReferenceCodeColumnMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceCodeColumnMigration.class);
+
+    /**
+     * Hace que el EntityManagerFactory espere a la migración.
+     */
+    @Component
+    @Profile("!reactive")
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependency() {
+            super(ReferenceCodeColumnMigration.class);
+        }
+    }
+
+    private final DataSource dataSource;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param dataSource Origen de datos de la aplicación
+     */
+    public ReferenceCodeColumnMigration(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Convierte la columna si sigue siendo de texto.
+     */
+    @PostConstruct
+    public void migrate() {
+        if (!isPostgres()) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // Comprobación y conversión en una sola transacción
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            List<String> types = jdbcTemplate.queryForList(
+                    "SELECT data_type FROM information_schema.columns WHERE table_schema = current_schema()"
+                            + " AND table_name = 'transactions' AND column_name = 'reference_code'",
+                    String.class);
+            if (types.isEmpty() || "uuid".equals(types.get(0))) {
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE transactions ALTER COLUMN reference_code TYPE uuid"
+                    + " USING reference_code::uuid");
+            log.info("Columna transactions.reference_code convertida de {} a uuid", types.get(0));
+        });
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (Exception ex) {
+            log.warn("No se pudo determinar el motor de base de datos", ex);
+            return false;
+        }
+    }
+}
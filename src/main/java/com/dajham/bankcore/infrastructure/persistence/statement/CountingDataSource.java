@@ -0,0 +1,96 @@
+package com.dajham.bankcore.infrastructure.persistence.statement;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link DataSource} que anota en {@link StatementCounter} cada sentencia que
+ * se prepara o se ejecuta a través de sus conexiones.
+ *
+ * <p>
+ * Cuenta sentencias enviadas, no filas: un lote JDBC con varias filas es una
+ * sola sentencia preparada. Al extender {@link DelegatingDataSource}, las
+ * métricas del pool siguen encontrando el {@code HikariDataSource} de debajo.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARE = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    public CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (PREPARE.contains(name)) {
+                StatementCounter.record((String) args[0]);
+            }
+            Object result = CountingDataSource.invoke(target, method, args);
+            if (name.equals("createStatement")) {
+                return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                        new Class<?>[] { Statement.class }, new StatementHandler((Statement) result));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Sentencias sin preparar: se cuentan al ejecutarse o añadirse al lote con
+     * su SQL. {@code executeBatch} no se cuenta aparte.
+     */
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (EXECUTE.contains(method.getName()) && args != null && args.length > 0
+                    && args[0] instanceof String sql) {
+                StatementCounter.record(sql);
+            }
+            return CountingDataSource.invoke(target, method, args);
+        }
+    }
+}
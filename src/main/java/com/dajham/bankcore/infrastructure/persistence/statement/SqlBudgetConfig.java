@@ -0,0 +1,59 @@
+package com.dajham.bankcore.infrastructure.persistence.statement;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Presupuesto de sentencias SQL por petición y métricas de sentencias por
+ * transacción. Se activa con {@code bankcore.sql-budget.enabled=true}: cada
+ * conexión pasa por un proxy, así que está pensado para entornos de prueba y
+ * diagnóstico más que para producción.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("${bankcore.sql-budget.enabled:false}")
+public class SqlBudgetConfig {
+
+    /**
+     * Estático para que envuelva el {@link DataSource} antes de que lo usen
+     * JPA y los adaptadores JDBC.
+     */
+    @Bean
+    static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Por delante de la cadena de Spring Security, para contar también la
+     * carga del usuario en el filtro JWT.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(
+            SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(properties, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public TransactionStatementMetrics transactionStatementMetrics(MeterRegistry meterRegistry) {
+        return new TransactionStatementMetrics(meterRegistry);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dajham.bankcore.infrastructure.persistence.statement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Cuenta las sentencias SQL de cada petición HTTP y avisa de las que superan
+ * su presupuesto o repiten la misma forma de sentencia (posible N+1).
+ *
+ * <p>
+ * Se registra antes que la cadena de Spring Security para que la carga del
+ * usuario en el filtro JWT cuente. El total queda además en el atributo
+ * {@link #STATEMENTS_ATTRIBUTE} de la petición, que usan los tests.
+ *
+ * <p>
+ * Métricas, etiquetadas con el método y el patrón del endpoint:
+ * {@code bankcore.sql.request.statements},
+ * {@code bankcore.sql.budget.exceeded} y {@code bankcore.sql.repeated}.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    /** Atributo de la petición con el número de sentencias ejecutadas. */
+    public static final String STATEMENTS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".statements";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final List<SqlBudgetProperties.Endpoint> endpoints;
+    private final int defaultBudget;
+    private final int repeatThreshold;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.endpoints = properties.endpoints();
+        this.defaultBudget = properties.defaultBudget();
+        this.repeatThreshold = properties.repeatThreshold();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                inspect(request, scope);
+            }
+        }
+    }
+
+    private void inspect(HttpServletRequest request, StatementCounter.Scope scope) {
+        long statements = scope.statements();
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("bankcore.sql.request.statements")
+                .description("Sentencias SQL por petición")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = budgetFor(request);
+        if (statements > budget) {
+            Counter.builder("bankcore.sql.budget.exceeded")
+                    .description("Peticiones que superan su presupuesto de sentencias SQL")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} ejecutó {} sentencias SQL (presupuesto {}): {}",
+                    method, request.getRequestURI(), statements, budget, describe(scope.shapes()));
+        }
+
+        Map<String, Integer> repeated = scope.shapes().entrySet().stream()
+                .filter(entry -> entry.getValue() >= repeatThreshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (!repeated.isEmpty()) {
+            Counter.builder("bankcore.sql.repeated")
+                    .description("Peticiones que repiten una misma forma de sentencia SQL")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} repite sentencias SQL (posible N+1): {}",
+                    method, request.getRequestURI(), describe(repeated));
+        }
+    }
+
+    private int budgetFor(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (SqlBudgetProperties.Endpoint endpoint : endpoints) {
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(endpoint.pattern(), path)) {
+                return endpoint.maxStatements();
+            }
+        }
+        return defaultBudget;
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        return shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,37 @@
+package com.dajham.bankcore.infrastructure.persistence.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Presupuesto de sentencias SQL por petición ({@code bankcore.sql-budget}).
+ *
+ * @param enabled          Cuenta las sentencias de cada petición y
+ *                         transacción; añade un proxy a cada conexión
+ * @param defaultBudget    Máximo de sentencias para las peticiones sin
+ *                         presupuesto propio
+ * @param repeatThreshold  Ejecuciones de una misma forma de sentencia en una
+ *                         petición a partir de las cuales se avisa (posible
+ *                         N+1)
+ * @param endpoints        Presupuestos por endpoint, evaluados en orden (gana
+ *                         el primero que coincida)
+ */
+@ConfigurationProperties(prefix = "bankcore.sql-budget")
+public record SqlBudgetProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20") int defaultBudget,
+        @DefaultValue("3") int repeatThreshold,
+        @DefaultValue List<Endpoint> endpoints) {
+
+    /**
+     * Presupuesto de un endpoint.
+     *
+     * @param pattern       Patrón Ant de las rutas
+     * @param method        Método HTTP al que aplica; {@code null} para todos
+     * @param maxStatements Máximo de sentencias por petición
+     */
+    public record Endpoint(String pattern, String method, int maxStatements) {
+    }
+}
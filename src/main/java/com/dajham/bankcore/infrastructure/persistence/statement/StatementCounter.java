@@ -0,0 +1,110 @@
+package com.dajham.bankcore.infrastructure.persistence.statement;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Contador por hilo de las sentencias SQL enviadas a la base de datos.
+ *
+ * <p>
+ * El total del hilo solo crece: quien quiera contar un tramo (una petición,
+ * una transacción) toma {@link #count()} al empezar y al terminar. Además,
+ * mientras hay un {@link Scope} abierto se agrupan las sentencias por forma
+ * (el SQL sin literales ni listas de parámetros) para detectar las que se
+ * repiten.
+ */
+public final class StatementCounter {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+
+    private static final ThreadLocal<long[]> TOTAL = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * Sentencias agrupadas por forma durante un tramo de ejecución.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final long start;
+        private final Map<String, Integer> shapes = new HashMap<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+            this.start = count();
+        }
+
+        /**
+         * Sentencias ejecutadas desde que se abrió el ámbito.
+         */
+        public long statements() {
+            return count() - start;
+        }
+
+        /**
+         * Número de ejecuciones de cada forma de sentencia.
+         */
+        public Map<String, Integer> shapes() {
+            return shapes;
+        }
+
+        @Override
+        public void close() {
+            if (SCOPE.get() == this) {
+                if (parent != null) {
+                    SCOPE.set(parent);
+                } else {
+                    SCOPE.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Abre un ámbito en el hilo actual; se cierra con {@link Scope#close()}.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(SCOPE.get());
+        SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * Total de sentencias enviadas por el hilo actual.
+     */
+    public static long count() {
+        return TOTAL.get()[0];
+    }
+
+    /**
+     * Anota una sentencia.
+     *
+     * @param sql El SQL tal como se preparó o ejecutó
+     */
+    static void record(String sql) {
+        TOTAL.get()[0]++;
+        Scope scope = SCOPE.get();
+        if (scope != null && sql != null) {
+            scope.shapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Normaliza el SQL para agrupar sentencias iguales salvo por sus valores.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return shape.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,69 @@
+package com.dajham.bankcore.infrastructure.persistence.statement;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Cuenta las sentencias SQL de cada transacción y las publica como
+ * {@code bankcore.sql.transaction.statements{name}}. Los servicios de
+ * aplicación son transaccionales, así que el nombre de la transacción
+ * identifica el método de servicio ({@code TransferService.transfer}).
+ *
+ * <p>
+ * Solo el gestor notifica las transacciones nuevas; las que se unen a otra
+ * cuentan dentro de ella. Las anidadas con {@code REQUIRES_NEW} se apilan y
+ * la exterior incluye las sentencias de la interior.
+ */
+public class TransactionStatementMetrics implements TransactionExecutionListener {
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+    private final MeterRegistry meterRegistry;
+
+    public TransactionStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null) {
+            starts.get().push(StatementCounter.count());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        complete(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        complete(transaction);
+    }
+
+    private void complete(TransactionExecution transaction) {
+        Long start = starts.get().poll();
+        if (start == null) {
+            return;
+        }
+        String name = transaction.getTransactionName();
+        DistributionSummary.builder("bankcore.sql.transaction.statements")
+                .description("Sentencias SQL por transacción")
+                .tag("name", name != null && !name.isEmpty() ? shortName(name) : "unnamed")
+                .register(meterRegistry)
+                .record(StatementCounter.count() - start);
+    }
+
+    /**
+     * {@code paquete.Clase.metodo} queda en {@code Clase.metodo}.
+     */
+    private static String shortName(String name) {
+        int method = name.lastIndexOf('.');
+        int type = method > 0 ? name.lastIndexOf('.', method - 1) : -1;
+        return name.substring(type + 1);
+    }
+}
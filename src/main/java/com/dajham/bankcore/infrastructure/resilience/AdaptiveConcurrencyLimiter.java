@@ -0,0 +1,119 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limitador de concurrencia adaptativo basado en el gradiente de latencia.
+ *
+ * Compara la latencia de cada muestra con una media de largo plazo: si la
+ * latencia crece (se está formando cola en el pool o en PostgreSQL) el límite
+ * baja; si se mantiene, el límite sube en {@code sqrt(limite)} para sondear
+ * capacidad adicional. Las peticiones que exceden el límite se rechazan de
+ * inmediato en lugar de esperar.
+ *
+ * La admisión es un CAS sobre el número de operaciones en curso y la
+ * actualización del límite usa {@code tryLock}, por lo que nunca bloquea ni
+ * fija (pinning) hilos virtuales.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int longWindow;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        if (properties.minLimit() < 1 || properties.maxLimit() < properties.minLimit()) {
+            throw new IllegalArgumentException("Límites de concurrencia inválidos");
+        }
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.smoothing = properties.smoothing();
+        this.rttTolerance = properties.rttTolerance();
+        this.longWindow = Math.max(1, properties.longWindow());
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, properties.initialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Intenta admitir una operación.
+     *
+     * @return true si se admitió; el llamador debe invocar
+     *         {@link #release(long)} al terminar
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera una operación admitida y registra su latencia.
+     *
+     * @param rttNanos Duración de la operación en nanosegundos
+     */
+    public void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (rttNanos > 0 && sampleLock.tryLock()) {
+            try {
+                onSample(rttNanos, inFlightAtRelease);
+            } finally {
+                sampleLock.unlock();
+            }
+        }
+    }
+
+    private void onSample(long rttNanos, int inFlightAtRelease) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / longWindow;
+        }
+        // Si la referencia quedó muy por encima (tras una sobrecarga), se
+        // acelera su recuperación
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // Con poca carga la latencia no aporta información sobre la capacidad
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
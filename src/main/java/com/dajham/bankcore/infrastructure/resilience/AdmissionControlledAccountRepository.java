@@ -0,0 +1,81 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Decorador de {@link AccountRepositoryPort} que somete cada llamada al
+ * control de admisión de la base de datos.
+ */
+class AdmissionControlledAccountRepository implements AccountRepositoryPort {
+
+    private final AccountRepositoryPort delegate;
+    private final DatabaseAdmissionControl admissionControl;
+
+    AdmissionControlledAccountRepository(AccountRepositoryPort delegate, DatabaseAdmissionControl admissionControl) {
+        this.delegate = delegate;
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public Account save(Account account) {
+        return admissionControl.execute(() -> delegate.save(account));
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return admissionControl.execute(() -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return admissionControl.execute(() -> delegate.findByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public void flush() {
+        admissionControl.execute(() -> {
+            delegate.flush();
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        admissionControl.execute(() -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return admissionControl.execute(() -> delegate.existsByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public List<Account> findByUserId(Long userId) {
+        return admissionControl.execute(() -> delegate.findByUserId(userId));
+    }
+
+    @Override
+    public void forEachAccountKey(BiConsumer<Long, String> consumer) {
+        admissionControl.execute(() -> {
+            delegate.forEachAccountKey(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public void forEachAccountBalance(BiConsumer<Long, Money> consumer) {
+        admissionControl.execute(() -> {
+            delegate.forEachAccountBalance(consumer);
+            return null;
+        });
+    }
+}
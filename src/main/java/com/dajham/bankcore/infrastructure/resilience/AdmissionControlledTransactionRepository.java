@@ -0,0 +1,30 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+
+/**
+ * Decorador de {@link TransactionRepositoryPort} que somete cada llamada al
+ * control de admisión de la base de datos.
+ */
+class AdmissionControlledTransactionRepository implements TransactionRepositoryPort {
+
+    private final TransactionRepositoryPort delegate;
+    private final DatabaseAdmissionControl admissionControl;
+
+    AdmissionControlledTransactionRepository(TransactionRepositoryPort delegate,
+            DatabaseAdmissionControl admissionControl) {
+        this.delegate = delegate;
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        return admissionControl.execute(() -> delegate.save(transaction));
+    }
+
+    @Override
+    public boolean existsByReferenceCode(String referenceCode) {
+        return admissionControl.execute(() -> delegate.existsByReferenceCode(referenceCode));
+    }
+}
@@ -0,0 +1,28 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración del límite de concurrencia adaptativo frente a la base de
+ * datos ({@code bankcore.db-limiter}).
+ *
+ * @param enabled      Activa o desactiva el control de admisión
+ * @param initialLimit Límite inicial de transacciones concurrentes
+ * @param minLimit     Límite mínimo al que puede reducirse
+ * @param maxLimit     Límite máximo al que puede crecer
+ * @param smoothing    Factor de suavizado (0-1) al aplicar un nuevo límite
+ * @param rttTolerance Cuánto puede crecer la latencia respecto a la de
+ *                     referencia antes de reducir el límite
+ * @param longWindow   Número de muestras de la media de latencia de referencia
+ */
+@ConfigurationProperties(prefix = "bankcore.db-limiter")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("20") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("600") int longWindow) {
+}
@@ -0,0 +1,118 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Control de admisión para el acceso a la base de datos.
+ *
+ * Combina dos mecanismos opcionales: el limitador adaptativo, que rechaza de
+ * inmediato lo que excede la capacidad estimada, y la compuerta, que hace
+ * esperar brevemente a lo admitido hasta que haya una conexión libre.
+ *
+ * La admisión se hace en los puertos de persistencia y no cambia cómo se
+ * obtienen las conexiones. Dentro de una transacción, el permiso se obtiene en
+ * la primera llamada a un puerto y se libera al completarse la transacción;
+ * para entonces el gestor de transacciones ya tiene su conexión, así que el
+ * límite acota las transacciones que trabajan a la vez contra la base de datos
+ * y la latencia medida incluye la espera del commit. Una transacción rechazada
+ * se revierte y devuelve su conexión sin haber ejecutado ninguna sentencia.
+ * Fuera de una transacción, el permiso cubre solo la llamada.
+ */
+public class DatabaseAdmissionControl {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final DatabaseGate gate;
+    private final boolean limiterEnabled;
+
+    /**
+     * @param limiter        El limitador adaptativo
+     * @param gate           La compuerta de conexiones, o {@code null} si está
+     *                       desactivada
+     * @param limiterEnabled Si el limitador está activo
+     */
+    public DatabaseAdmissionControl(AdaptiveConcurrencyLimiter limiter, DatabaseGate gate, boolean limiterEnabled) {
+        this.limiter = limiter;
+        this.gate = gate;
+        this.limiterEnabled = limiterEnabled;
+    }
+
+    /**
+     * Ejecuta una operación de persistencia bajo el control de admisión.
+     *
+     * @param operation La operación a ejecutar
+     * @param <T>       Tipo del resultado
+     * @return El resultado de la operación
+     * @throws DatabaseOverloadedException si no hay capacidad disponible
+     */
+    public <T> T execute(Supplier<T> operation) {
+        if (!limiterEnabled && gate == null) {
+            return operation.get();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (!TransactionSynchronizationManager.hasResource(this)) {
+                admit();
+                TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionPermit(System.nanoTime()));
+            }
+            return operation.get();
+        }
+
+        admit();
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            release(System.nanoTime() - start);
+        }
+    }
+
+    private void admit() {
+        if (limiterEnabled && !limiter.tryAcquire()) {
+            throw new DatabaseOverloadedException(
+                    "La base de datos está al límite de su capacidad (" + limiter.getLimit()
+                            + " operaciones concurrentes)");
+        }
+        if (gate != null) {
+            try {
+                gate.acquire();
+            } catch (DatabaseOverloadedException e) {
+                if (limiterEnabled) {
+                    // La espera no es una muestra válida de latencia
+                    limiter.release(0L);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void release(long rttNanos) {
+        if (gate != null) {
+            gate.release();
+        }
+        if (limiterEnabled) {
+            limiter.release(rttNanos);
+        }
+    }
+
+    /**
+     * Libera el permiso de la transacción al completarse (commit o rollback).
+     */
+    private final class TransactionPermit implements TransactionSynchronization {
+
+        private final long startNanos;
+
+        private TransactionPermit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DatabaseAdmissionControl.this);
+            release(System.nanoTime() - startNanos);
+        }
+    }
+}
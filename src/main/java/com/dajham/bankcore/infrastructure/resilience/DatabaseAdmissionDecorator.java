@@ -0,0 +1,35 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.decorator.RepositoryPortDecorator;
+
+/**
+ * Envuelve las implementaciones de los puertos de persistencia con el control
+ * de admisión, sea cual sea el adaptador activo. Es el primer decorador que
+ * se aplica, de modo que queda pegado al adaptador y solo mide lo que llega a
+ * la base de datos.
+ */
+class DatabaseAdmissionDecorator implements RepositoryPortDecorator {
+
+    private final DatabaseAdmissionControl admissionControl;
+
+    DatabaseAdmissionDecorator(DatabaseAdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public AccountRepositoryPort decorate(AccountRepositoryPort port) {
+        return new AdmissionControlledAccountRepository(port, admissionControl);
+    }
+
+    @Override
+    public TransactionRepositoryPort decorate(TransactionRepositoryPort port) {
+        return new AdmissionControlledTransactionRepository(port, admissionControl);
+    }
+
+    @Override
+    public int getOrder() {
+        return ADMISSION_ORDER;
+    }
+}
@@ -0,0 +1,129 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compuerta de acceso a la base de datos dimensionada al pool de conexiones.
+ *
+ * Con hilos virtuales el número de peticiones concurrentes deja de estar
+ * acotado por el pool de Tomcat, y miles de hilos acabarían esperando dentro
+ * de Hikari. La compuerta los detiene antes, en un {@link Semaphore} justo que
+ * aparca los hilos virtuales sin fijar (pinning) su hilo portador, y con un
+ * tiempo de espera propio.
+ * Si el pool se redimensiona, la compuerta se ajusta con {@link #resize(int)}.
+ * Las transacciones obtienen su conexión al comenzar, antes de llegar a la
+ * compuerta; para ellas la compuerta acota el trabajo concurrente en los
+ * puertos y la espera de conexión la acota el {@code connection-timeout}.
+ *
+ * Como los hilos esperan aquí y no en Hikari, la compuerta acumula también el
+ * número de peticiones y el tiempo que esperaron, para que quien dimensiona el
+ * pool vea la espera real.
+ */
+public class DatabaseGate {
+
+    private final ResizableSemaphore semaphore;
+    private final long acquireTimeoutNanos;
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private volatile int permits;
+
+    public DatabaseGate(DatabaseGateProperties properties) {
+        if (properties.permits() < 1) {
+            throw new IllegalArgumentException("La compuerta necesita al menos un permiso");
+        }
+        this.permits = properties.permits();
+        this.semaphore = new ResizableSemaphore(permits);
+        this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+    }
+
+    /**
+     * Espera un permiso como máximo el tiempo configurado.
+     *
+     * @throws DatabaseOverloadedException si no se obtuvo el permiso a tiempo
+     */
+    public void acquire() {
+        acquireCount.increment();
+        try {
+            // Con tiempo cero respeta el orden de llegada, a diferencia de tryAcquire()
+            if (semaphore.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                if (!semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    throw new DatabaseOverloadedException(
+                            "Tiempo de espera agotado esperando acceso a la base de datos");
+                }
+            } finally {
+                waitNanos.add(System.nanoTime() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseOverloadedException("Interrumpido esperando acceso a la base de datos");
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    /**
+     * Cambia el número de permisos. Al reducirlo, los permisos en uso no se
+     * retiran: los siguientes {@code release()} los absorben.
+     *
+     * @param newPermits Nuevo número de permisos
+     */
+    public synchronized void resize(int newPermits) {
+        if (newPermits < 1) {
+            throw new IllegalArgumentException("La compuerta necesita al menos un permiso");
+        }
+        int delta = newPermits - permits;
+        if (delta > 0) {
+            semaphore.release(delta);
+        } else if (delta < 0) {
+            semaphore.reducePermits(-delta);
+        }
+        permits = newPermits;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return semaphore.getQueueLength();
+    }
+
+    /**
+     * Llamadas a {@link #acquire()} desde el arranque, incluidas las que
+     * agotaron el tiempo de espera.
+     */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * Tiempo total que han esperado esas llamadas, en nanosegundos.
+     */
+    public long getTotalWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la compuerta de acceso a la base de datos
+ * ({@code bankcore.db-gate}).
+ *
+ * @param enabled        Activa o desactiva la compuerta
+ * @param permits        Número de permisos; debe coincidir con el tamaño máximo
+ *                       del pool de Hikari; con {@code bankcore.db-pool} es
+ *                       solo el valor inicial
+ * @param acquireTimeout Tiempo máximo de espera por un permiso
+ */
+@ConfigurationProperties(prefix = "bankcore.db-gate")
+public record DatabaseGateProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int permits,
+        @DefaultValue("2s") Duration acquireTimeout) {
+}
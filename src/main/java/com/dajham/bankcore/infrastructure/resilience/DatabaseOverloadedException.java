@@ -0,0 +1,12 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+/**
+ * Excepción lanzada cuando el control de admisión rechaza una operación porque
+ * la base de datos ha alcanzado su límite de concurrencia.
+ */
+public class DatabaseOverloadedException extends RuntimeException {
+
+    public DatabaseOverloadedException(String message) {
+        super(message);
+    }
+}
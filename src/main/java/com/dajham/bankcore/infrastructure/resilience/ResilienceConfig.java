@@ -0,0 +1,73 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import com.dajham.bankcore.infrastructure.persistence.decorator.RepositoryPortDecorator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Configuración del control de admisión frente a la base de datos.
+ * Registra el limitador adaptativo, sus métricas y el decorador de los
+ * puertos de persistencia.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter databaseConcurrencyLimiter(
+            ConcurrencyLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        Gauge.builder("bankcore.db.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Límite actual de transacciones concurrentes contra la base de datos")
+                .register(meterRegistry);
+        Gauge.builder("bankcore.db.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Transacciones en curso admitidas por el limitador")
+                .register(meterRegistry);
+        FunctionCounter.builder("bankcore.db.limiter.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .description("Operaciones rechazadas por exceder el límite de concurrencia")
+                .register(meterRegistry);
+
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bankcore.db-gate.enabled", havingValue = "true")
+    public DatabaseGate databaseGate(DatabaseGateProperties properties, MeterRegistry meterRegistry) {
+        DatabaseGate gate = new DatabaseGate(properties);
+
+        Gauge.builder("bankcore.db.gate.available", gate, DatabaseGate::getAvailablePermits)
+                .description("Permisos libres de la compuerta de acceso a la base de datos")
+                .register(meterRegistry);
+        Gauge.builder("bankcore.db.gate.waiting", gate, DatabaseGate::getQueueLength)
+                .description("Hilos esperando un permiso de la compuerta")
+                .register(meterRegistry);
+
+        return gate;
+    }
+
+    @Bean
+    public DatabaseAdmissionControl databaseAdmissionControl(
+            AdaptiveConcurrencyLimiter databaseConcurrencyLimiter,
+            @Nullable DatabaseGate databaseGate,
+            ConcurrencyLimitProperties properties) {
+        return new DatabaseAdmissionControl(databaseConcurrencyLimiter, databaseGate, properties.enabled());
+    }
+
+    /**
+     * Solo si el limitador o la compuerta están activos. Los adaptadores en
+     * memoria no usan la base de datos y no se envuelven.
+     */
+    @Bean
+    @ConditionalOnExpression("(${bankcore.db-limiter.enabled:false} || ${bankcore.db-gate.enabled:false})"
+            + " && '${bankcore.persistence.adapter:jpa}' != 'memory'")
+    public RepositoryPortDecorator databaseAdmissionDecorator(DatabaseAdmissionControl databaseAdmissionControl) {
+        return new DatabaseAdmissionDecorator(databaseAdmissionControl);
+    }
+}
@@ -1,9 +1,12 @@
 package com.dajham.bankcore.infrastructure.security;
 
+import com.dajham.bankcore.infrastructure.jfr.JwtVerificationEvent;
+import com.dajham.bankcore.infrastructure.timing.ServerTiming;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +23,7 @@ import java.io.IOException;
  * Se ejecuta una vez por petición (OncePerRequestFilter).
  */
 @Component
+@Profile("!reactive")
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
@@ -56,7 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Extraer el header Authorization
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
+        String username = null;
 
         // 2. Validar que el header exista y tenga formato Bearer
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -66,28 +70,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 3. Extraer el token JWT (remover "Bearer " del inicio)
         jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
-
-        // 4. Si el username existe y no hay autenticación previa
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-            // Cargar detalles del usuario desde la base de datos
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            // Validar el token
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-
-                // Crear objeto de autenticación
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities());
-
-                // Agregar detalles de la petición (IP, session, etc.)
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // Establecer la autenticación en el contexto de seguridad
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        JwtVerificationEvent event = JwtVerificationEvent.start();
+        ServerTiming timing = ServerTiming.current();
+        long start = timing != null ? System.nanoTime() : 0;
+        String outcome = "SKIPPED";
+        try {
+            username = jwtService.extractUsername(jwt);
+
+            // 4. Si el username existe y no hay autenticación previa
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                // Cargar detalles del usuario desde la base de datos
+                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+
+                // Validar el token
+                outcome = "REJECTED";
+                if (jwtService.isTokenValid(jwt, userDetails)) {
+
+                    // Crear objeto de autenticación
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities());
+
+                    // Agregar detalles de la petición (IP, session, etc.)
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    // 5. Establecer la autenticación en el contexto de seguridad
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = "AUTHENTICATED";
+                }
+            }
+        } catch (RuntimeException ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.complete(username, outcome);
+            if (timing != null) {
+                timing.add(ServerTiming.Stage.AUTH, start);
             }
         }
 
@@ -0,0 +1,34 @@
+package com.dajham.bankcore.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Usuarios operadores ({@code bankcore.operators}). Además del rol USER
+ * reciben el rol OPERATOR, el único que da acceso a los endpoints de
+ * diagnóstico de actuator. Los usuarios que se registran por la API nunca lo
+ * tienen.
+ *
+ * @param usernames Nombres de usuario con rol OPERATOR
+ */
+@ConfigurationProperties(prefix = "bankcore.operators")
+public record OperatorProperties(@DefaultValue List<String> usernames) {
+
+    /**
+     * Rol de los operadores, sin el prefijo {@code ROLE_}.
+     */
+    public static final String ROLE = "OPERATOR";
+
+    public OperatorProperties {
+        usernames = List.copyOf(usernames);
+    }
+
+    /**
+     * @return true si el usuario es operador
+     */
+    public boolean isOperator(String username) {
+        return usernames.contains(username);
+    }
+}
@@ -0,0 +1,59 @@
+package com.dajham.bankcore.infrastructure.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Filtro JWT para la pila WebFlux (perfil {@code reactive}).
+ * Sigue los mismos pasos que {@link JwtAuthenticationFilter}, pero carga el
+ * usuario sin bloquear y publica la autenticación en el contexto de Reactor.
+ *
+ * <p>
+ * No se registra como bean: WebFlux añade todo bean {@link WebFilter} a la
+ * cadena global, y este filtro solo debe ejecutarse dentro de la cadena de
+ * seguridad.
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtService jwtService;
+    private final ReactiveUserDetailsService userDetailsService;
+
+    public ReactiveJwtAuthenticationFilter(JwtService jwtService, ReactiveUserDetailsService userDetailsService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        final String jwt = authHeader.substring(7);
+        final String username = jwtService.extractUsername(jwt);
+        if (username == null) {
+            return chain.filter(exchange);
+        }
+
+        return userDetailsService.findByUsername(username)
+                .onErrorResume(UsernameNotFoundException.class, ex -> Mono.empty())
+                .filter(userDetails -> jwtService.isTokenValid(jwt, userDetails))
+                .<Authentication>map(userDetails -> new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()))
+                .map(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)))
+                .defaultIfEmpty(Mono.defer(() -> chain.filter(exchange)))
+                .flatMap(continuation -> continuation);
+    }
+}
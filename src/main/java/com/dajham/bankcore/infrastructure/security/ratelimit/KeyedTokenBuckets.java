@@ -0,0 +1,98 @@
+package com.dajham.bankcore.infrastructure.security.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Conjunto de token buckets indexados por clave (IP o usuario) que comparten
+ * un mismo límite.
+ * Los buckets se crean bajo demanda y se descartan cuando llevan inactivos más
+ * del tiempo configurado. Si se alcanza el máximo, las claves nuevas se
+ * rechazan hasta que haya sitio.
+ */
+final class KeyedTokenBuckets {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitProperties.Limit limit;
+    private final int maxBuckets;
+    private final long fullWaitNanos;
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime() - SWEEP_INTERVAL_NANOS);
+
+    KeyedTokenBuckets(RateLimitProperties.Limit limit, int maxBuckets) {
+        this.limit = limit;
+        this.maxBuckets = maxBuckets;
+        this.fullWaitNanos = Math.max(SWEEP_INTERVAL_NANOS, (long) (1_000_000_000L / limit.refillPerSecond()));
+    }
+
+    /**
+     * Consume un token del bucket asociado a la clave.
+     *
+     * @param key      La clave del cliente
+     * @param nowNanos Instante actual según {@link System#nanoTime()}
+     * @return 0 si se concedió el token; en caso contrario, los nanosegundos de
+     *         espera sugeridos
+     */
+    long tryConsume(String key, long nowNanos) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (!hasRoom(nowNanos)) {
+                // Sin espacio para más clientes: se rechaza la clave nueva. Dejarla
+                // pasar sin límite permitiría desactivarlo llenando el mapa de
+                // claves distintas.
+                return fullWaitNanos;
+            }
+            bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(limit.capacity(), limit.refillPerSecond(), nowNanos));
+        }
+        return bucket.tryConsume(nowNanos);
+    }
+
+    /**
+     * Devuelve el token consumido con {@link #tryConsume} para la clave.
+     *
+     * @param key La clave del cliente
+     */
+    void refund(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.refund();
+        }
+    }
+
+    /**
+     * Indica si cabe un bucket más. Con el mapa lleno descarta antes los buckets
+     * que ya se han repuesto por completo, que no se distinguen de uno nuevo;
+     * el barrido se hace como mucho una vez por {@link #SWEEP_INTERVAL_NANOS}
+     * para que una avalancha de claves nuevas no recorra el mapa en cada
+     * petición.
+     */
+    private boolean hasRoom(long nowNanos) {
+        if (buckets.size() < maxBuckets) {
+            return true;
+        }
+        long last = lastSweepNanos.get();
+        if (nowNanos - last >= SWEEP_INTERVAL_NANOS && lastSweepNanos.compareAndSet(last, nowNanos)) {
+            evictIdle(nowNanos, 0L);
+        }
+        return buckets.size() < maxBuckets;
+    }
+
+    /**
+     * Elimina los buckets inactivos.
+     *
+     * @return El número de buckets eliminados
+     */
+    int evictIdle(long nowNanos, long idleNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos, idleNanos));
+        return before - buckets.size();
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.dajham.bankcore.infrastructure.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuración de la limitación de peticiones ({@code bankcore.rate-limit}).
+ *
+ * @param enabled     Activa o desactiva el filtro
+ * @param idleTimeout Tiempo de inactividad tras el cual se descarta un bucket
+ * @param maxBuckets  Número máximo de buckets por grupo y ámbito; al llegar a
+ *                    él se rechazan las claves nuevas
+ * @param groups      Grupos de endpoints, evaluados en orden (gana el primero
+ *                    que coincida)
+ */
+@ConfigurationProperties(prefix = "bankcore.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("100000") int maxBuckets,
+        @DefaultValue List<Group> groups) {
+
+    /**
+     * Grupo de endpoints con sus propios límites.
+     *
+     * @param name    Nombre del grupo (se usa como tag en las métricas)
+     * @param pattern Patrón Ant de las rutas del grupo
+     * @param method  Método HTTP al que aplica; {@code null} para todos
+     * @param perIp   Límite por dirección IP; {@code null} para no limitar
+     * @param perUser Límite por usuario autenticado; {@code null} para no limitar
+     */
+    public record Group(
+            String name,
+            String pattern,
+            String method,
+            Limit perIp,
+            Limit perUser) {
+    }
+
+    /**
+     * Parámetros de un token bucket.
+     *
+     * @param capacity        Tamaño máximo de la ráfaga
+     * @param refillPerSecond Tokens repuestos por segundo
+     */
+    public record Limit(long capacity, double refillPerSecond) {
+    }
+}
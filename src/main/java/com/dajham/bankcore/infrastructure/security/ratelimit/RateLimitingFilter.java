@@ -0,0 +1,212 @@
+package com.dajham.bankcore.infrastructure.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de limitación de peticiones por IP y por usuario autenticado.
+ * El límite por IP se aplica antes que {@code JwtAuthenticationFilter}, de modo
+ * que un cliente que excede su cuota recibe un 429 sin haber consumido
+ * validación de JWT ni consultas a la base de datos.
+ *
+ * El límite por usuario lo aplica {@link #userLimitFilter()} después de la
+ * autenticación, con el usuario verificado como clave: identificar al usuario
+ * por el token sin verificar permitiría saltarse el límite enviando un token
+ * distinto en cada petición.
+ */
+@Component
+@Profile("!reactive")
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    private static final String GROUP_ATTRIBUTE = RateLimitingFilter.class.getName() + ".group";
+
+    private final boolean enabled;
+    private final long idleTimeoutNanos;
+    private final List<EndpointGroup> groups;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final OncePerRequestFilter userLimitFilter = new UserLimitFilter();
+
+    public RateLimitingFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.idleTimeoutNanos = properties.idleTimeout().toNanos();
+        this.groups = properties.groups().stream()
+                .map(group -> new EndpointGroup(group, properties.maxBuckets(), meterRegistry))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        EndpointGroup group = enabled ? resolveGroup(request) : null;
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Límite por IP: no requiere leer el token. El token se consume aquí,
+        // antes de validar el JWT, para que las peticiones con tokens falsos
+        // también cuenten contra su IP
+        if (group.perIp != null) {
+            long waitNanos = group.perIp.tryConsume(request.getRemoteAddr(), System.nanoTime());
+            if (waitNanos > 0) {
+                group.ipRejections.increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        request.setAttribute(GROUP_ATTRIBUTE, group);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Filtro del límite por usuario. Va después de {@code JwtAuthenticationFilter}
+     * y usa como clave el usuario ya verificado, de modo que cambiar de token no
+     * da un bucket nuevo. Si rechaza la petición devuelve el token de la IP que
+     * consumió este filtro, para que el rechazo por usuario no gaste la cuota de
+     * la IP.
+     *
+     * @return Filtro que comparte los grupos y buckets de este
+     */
+    public OncePerRequestFilter userLimitFilter() {
+        return userLimitFilter;
+    }
+
+    /**
+     * Descarta periódicamente los buckets inactivos para acotar la memoria.
+     */
+    @Scheduled(fixedDelayString = "${bankcore.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (EndpointGroup group : groups) {
+            if (group.perIp != null) {
+                group.perIp.evictIdle(now, idleTimeoutNanos);
+            }
+            if (group.perUser != null) {
+                group.perUser.evictIdle(now, idleTimeoutNanos);
+            }
+        }
+    }
+
+    private EndpointGroup resolveGroup(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointGroup group : groups) {
+            if ((group.method == null || group.method.equals(request.getMethod()))
+                    && pathMatcher.match(group.pattern, path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Responde 429 con {@code Retry-After} y un ProblemDetail (RFC 7807)
+     * equivalente al que genera {@code GlobalExceptionHandler}.
+     */
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        byte[] body = ("{\"type\":\"https://bankcore.dajham.com/errors/rate-limit\","
+                + "\"title\":\"Demasiadas Solicitudes\","
+                + "\"status\":429,"
+                + "\"detail\":\"Se excedió el límite de solicitudes. Intente nuevamente en "
+                + retryAfterSeconds + " segundos.\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Segunda fase, tras la autenticación: límite por usuario verificado.
+     */
+    private final class UserLimitFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(
+                @NonNull HttpServletRequest request,
+                @NonNull HttpServletResponse response,
+                @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+            EndpointGroup group = (EndpointGroup) request.getAttribute(GROUP_ATTRIBUTE);
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (group == null || group.perUser == null || authentication == null
+                    || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            long waitNanos = group.perUser.tryConsume(authentication.getName(), System.nanoTime());
+            if (waitNanos > 0) {
+                if (group.perIp != null) {
+                    group.perIp.refund(request.getRemoteAddr());
+                }
+                group.userRejections.increment();
+                reject(response, waitNanos);
+                return;
+            }
+
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Grupo de endpoints resuelto a partir de la configuración, con sus buckets
+     * y contadores ya creados.
+     */
+    private static final class EndpointGroup {
+
+        private final String pattern;
+        private final String method;
+        private final KeyedTokenBuckets perIp;
+        private final KeyedTokenBuckets perUser;
+        private final Counter ipRejections;
+        private final Counter userRejections;
+
+        private EndpointGroup(RateLimitProperties.Group group, int maxBuckets, MeterRegistry meterRegistry) {
+            this.pattern = group.pattern();
+            this.method = group.method() != null ? group.method().toUpperCase() : null;
+            this.perIp = group.perIp() != null ? new KeyedTokenBuckets(group.perIp(), maxBuckets) : null;
+            this.perUser = group.perUser() != null ? new KeyedTokenBuckets(group.perUser(), maxBuckets) : null;
+            this.ipRejections = Counter.builder("bankcore.ratelimit.rejected")
+                    .description("Peticiones rechazadas por limitación de tasa")
+                    .tag("group", group.name())
+                    .tag("scope", "ip")
+                    .register(meterRegistry);
+            this.userRejections = Counter.builder("bankcore.ratelimit.rejected")
+                    .description("Peticiones rechazadas por limitación de tasa")
+                    .tag("group", group.name())
+                    .tag("scope", "user")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dajham.bankcore.infrastructure.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin bloqueos implementado con el algoritmo GCRA (Generic Cell
+ * Rate Algorithm).
+ * Todo el estado del bucket es un único {@code long} (el "tiempo teórico de
+ * llegada"), por lo que consumir un token es una sola operación CAS y no
+ * genera objetos.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * Crea un bucket lleno.
+     *
+     * @param capacity        Número máximo de tokens acumulables (ráfaga)
+     * @param refillPerSecond Tokens repuestos por segundo
+     * @param nowNanos        Instante actual según {@link System#nanoTime()}
+     */
+    TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("La capacidad y la tasa de reposición deben ser positivas");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = capacity * emissionIntervalNanos;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Intenta consumir un token.
+     *
+     * @param nowNanos Instante actual según {@link System#nanoTime()}
+     * @return 0 si se concedió el token; en caso contrario, los nanosegundos
+     *         que faltan para que haya uno disponible
+     */
+    long tryConsume(long nowNanos) {
+        for (;;) {
+            long tat = theoreticalArrivalNanos.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long allowAt = newTat - burstNanos;
+            if (allowAt > nowNanos) {
+                return allowAt - nowNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Devuelve un token consumido con {@link #tryConsume}.
+     */
+    void refund() {
+        theoreticalArrivalNanos.addAndGet(-emissionIntervalNanos);
+    }
+
+    /**
+     * Indica si el bucket está lleno desde hace más de {@code idleNanos}, es
+     * decir, si descartarlo es indistinguible de conservarlo.
+     */
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return theoreticalArrivalNanos.get() + idleNanos < nowNanos;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dajham.bankcore.infrastructure.timing;
+
+import java.util.Locale;
+
+/**
+ * Contexto de tiempos de una petición para la cabecera {@code Server-Timing}.
+ * Solo existe en las peticiones que lo piden; en el resto
+ * {@link #current()} devuelve {@code null} y quien mide no hace nada más que
+ * esa comprobación.
+ *
+ * <p>
+ * Las etapas se solapan: {@code service} incluye el {@code db} de las
+ * consultas que hace el servicio, y {@code total} abarca toda la petición.
+ */
+public final class ServerTiming {
+
+    /**
+     * Etapas medidas, con su nombre en la cabecera.
+     */
+    public enum Stage {
+        /** Verificación del token y carga del usuario. */
+        AUTH("auth"),
+        /** Conexiones, sentencias y commit contra la base de datos. */
+        DB("db"),
+        /** Ejecución del controlador, sin la serialización. */
+        SERVICE("service"),
+        /** Escritura del cuerpo de la respuesta. */
+        SERIALIZE("serialize");
+
+        private final String metric;
+
+        Stage(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+    private final long[] nanos = new long[Stage.values().length];
+    private int statements;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * @return El contexto de la petición en curso, o {@code null} si no pidió
+     *         tiempos
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Suma la duración de una etapa.
+     *
+     * @param stage      Etapa
+     * @param startNanos Inicio según {@link System#nanoTime()}
+     */
+    public void add(Stage stage, long startNanos) {
+        nanos[stage.ordinal()] += System.nanoTime() - startNanos;
+    }
+
+    void addStatement(long startNanos) {
+        add(Stage.DB, startNanos);
+        statements++;
+    }
+
+    long nanos(Stage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    /**
+     * Valor de la cabecera {@code Server-Timing}, en milisegundos.
+     */
+    String header() {
+        StringBuilder header = new StringBuilder(128);
+        for (Stage stage : Stage.values()) {
+            append(header, stage.metric, nanos[stage.ordinal()]);
+            if (stage == Stage.DB) {
+                header.append(";desc=\"").append(statements).append(" sentencias\"");
+            }
+            header.append(", ");
+        }
+        append(header, "total", System.nanoTime() - start);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String metric, long nanos) {
+        header.append(metric).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.dajham.bankcore.infrastructure.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Añade la cabecera {@code Server-Timing} a las peticiones que la piden con
+ * {@value #REQUEST_HEADER} y el token configurado.
+ *
+ * <p>
+ * El cuerpo de esas peticiones se retiene hasta el final para poder escribir
+ * la cabecera con la serialización ya medida; las demás solo pagan la
+ * lectura de {@value #REQUEST_HEADER}.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_HEADER = "X-Server-Timing";
+    public static final String RESPONSE_HEADER = "Server-Timing";
+
+    private final byte[] token;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.token = properties.token() != null && !properties.token().isEmpty()
+                ? properties.token().getBytes(StandardCharsets.UTF_8)
+                : null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String requested = request.getHeader(REQUEST_HEADER);
+        if (requested == null || !isAuthorized(requested)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ServerTiming timing = ServerTiming.begin();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            ServerTiming.end();
+        }
+        wrapper.setHeader(RESPONSE_HEADER, timing.header());
+        wrapper.copyBodyToResponse();
+    }
+
+    private boolean isAuthorized(String requested) {
+        return token != null && MessageDigest.isEqual(token, requested.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package com.dajham.bankcore.infrastructure.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Mide la etapa {@code service}: desde que se invoca el controlador hasta que
+ * termina la petición, descontando la serialización del cuerpo, que con
+ * {@code @ResponseBody} ocurre dentro de la invocación.
+ */
+class ServerTimingInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ServerTimingInterceptor.class.getName() + ".start";
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (ServerTiming.current() != null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, Exception ex) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            // Adelantar el inicio lo que duró la serialización la descuenta
+            timing.add(ServerTiming.Stage.SERVICE, start + timing.nanos(ServerTiming.Stage.SERIALIZE));
+        }
+    }
+}
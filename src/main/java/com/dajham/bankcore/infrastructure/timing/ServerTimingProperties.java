@@ -0,0 +1,18 @@
+package com.dajham.bankcore.infrastructure.timing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cabecera {@code Server-Timing} bajo demanda ({@code bankcore.server-timing}).
+ *
+ * @param enabled Instala las mediciones; cada petición debe además pedir los
+ *                tiempos con la cabecera {@code X-Server-Timing}
+ * @param token   Secreto que debe llevar {@code X-Server-Timing}; sin él no
+ *                se devuelven tiempos a nadie
+ */
+@ConfigurationProperties(prefix = "bankcore.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("false") boolean enabled,
+        String token) {
+}
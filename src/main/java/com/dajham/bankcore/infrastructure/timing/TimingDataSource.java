@@ -0,0 +1,122 @@
+package com.dajham.bankcore.infrastructure.timing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link DataSource} que suma a la etapa {@code db} de {@link ServerTiming}
+ * la espera por una conexión, la ejecución de cada sentencia y el commit o
+ * rollback. Fuera de una petición con tiempos cada llamada solo comprueba si
+ * hay contexto.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement",
+            "prepareCall");
+    private static final Set<String> COMPLETIONS = Set.of("commit", "rollback");
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public TimingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            return timingConnection(super.getConnection());
+        }
+        long start = System.nanoTime();
+        try {
+            return timingConnection(super.getConnection());
+        } finally {
+            timing.add(ServerTiming.Stage.DB, start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection timingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (STATEMENT_FACTORIES.contains(name)) {
+                Object statement = TimingDataSource.invoke(target, method, args);
+                return Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(),
+                        new Class<?>[] { method.getReturnType() }, new StatementHandler((Statement) statement));
+            }
+            ServerTiming timing = COMPLETIONS.contains(name) ? ServerTiming.current() : null;
+            if (timing == null) {
+                return TimingDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return TimingDataSource.invoke(target, method, args);
+            } finally {
+                timing.add(ServerTiming.Stage.DB, start);
+            }
+        }
+    }
+
+    /**
+     * Cada ejecución (o lote) cuenta como una sentencia en la descripción de
+     * la etapa.
+     */
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            ServerTiming timing = EXECUTIONS.contains(name) ? ServerTiming.current() : null;
+            if (timing == null) {
+                return TimingDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return TimingDataSource.invoke(target, method, args);
+            } finally {
+                timing.addStatement(start);
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.dajham.bankcore.web.advice;
 
+import com.dajham.bankcore.infrastructure.resilience.DatabaseOverloadedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -98,6 +101,29 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Maneja los rechazos del control de admisión de la base de datos.
+     * Retorna 503 Service Unavailable con Retry-After para que el cliente
+     * reintente en lugar de esperar a que se libere una conexión.
+     *
+     * @param ex Excepción de sobrecarga
+     * @return ProblemDetail con HTTP 503 (Service Unavailable)
+     */
+    @ExceptionHandler(DatabaseOverloadedException.class)
+    public ResponseEntity<ProblemDetail> handleDatabaseOverloaded(DatabaseOverloadedException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "El servicio está temporalmente saturado. Intente nuevamente en unos segundos.");
+
+        problemDetail.setTitle("Servicio Saturado");
+        problemDetail.setType(URI.create("https://bankcore.dajham.com/errors/overloaded"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problemDetail);
+    }
+
     /**
      * Maneja excepciones genéricas no capturadas por otros handlers.
      * Actúa como fallback para errores inesperados.
@@ -4,12 +4,11 @@ import com.dajham.bankcore.application.dto.CreateAccountRequest;
 import com.dajham.bankcore.application.dto.AccountResponse;
 import com.dajham.bankcore.application.service.AccountService;
 import com.dajham.bankcore.infrastructure.persistence.entity.UserEntity;
-import com.dajham.bankcore.infrastructure.persistence.repository.UserEntityRepository;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -19,21 +18,19 @@ import java.math.BigDecimal;
  * Expone endpoints HTTP para la gestión de cuentas.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/accounts")
 public class AccountController {
 
     private final AccountService accountService;
-    private final UserEntityRepository userRepository;
 
     /**
      * Constructor con inyección de dependencias.
      * 
      * @param accountService Servicio de aplicación para operaciones de cuentas
-     * @param userRepository Repositorio de usuarios
      */
-    public AccountController(AccountService accountService, UserEntityRepository userRepository) {
+    public AccountController(AccountService accountService) {
         this.accountService = accountService;
-        this.userRepository = userRepository;
     }
 
     /**
@@ -100,18 +97,13 @@ public class AccountController {
     }
 
     /**
-     * Extrae el userId del contexto de autenticación.
+     * Extrae el userId del principal cargado por CustomUserDetailsService en
+     * el filtro JWT, sin volver a consultar la tabla de usuarios.
      */
     private Long extractUserIdFromAuth(Authentication authentication) {
-        final String username;
-        if (authentication != null && authentication.getPrincipal() instanceof UserDetails) {
-            username = ((UserDetails) authentication.getPrincipal()).getUsername();
-        } else {
-            throw new IllegalArgumentException("Usuario no autenticado");
+        if (authentication != null && authentication.getPrincipal() instanceof UserEntity user) {
+            return user.getId();
         }
-
-        UserEntity user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado: " + username));
-        return user.getId();
+        throw new IllegalArgumentException("Usuario no autenticado");
     }
 }
@@ -7,6 +7,7 @@ import com.dajham.bankcore.infrastructure.persistence.entity.UserEntity;
 import com.dajham.bankcore.infrastructure.persistence.repository.UserEntityRepository;
 import com.dajham.bankcore.infrastructure.security.JwtService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
  * Endpoints públicos para gestionar el acceso de usuarios.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/auth")
 public class AuthController {
 
@@ -4,6 +4,7 @@ import com.dajham.bankcore.application.dto.TransferRequest;
 import com.dajham.bankcore.application.dto.TransferResponse;
 import com.dajham.bankcore.application.service.TransferService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
  * Controlador REST para operaciones de transferencia de fondos.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/transfers")
 public class TransferController {
 
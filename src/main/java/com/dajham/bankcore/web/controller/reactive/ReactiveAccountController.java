@@ -0,0 +1,75 @@
+package com.dajham.bankcore.web.controller.reactive;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+import com.dajham.bankcore.application.service.ReactiveAccountService;
+import com.dajham.bankcore.infrastructure.persistence.entity.UserEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador WebFlux de consulta de cuentas (perfil {@code reactive}).
+ * Expone los mismos GET que {@code AccountController}; las cuentas se crean
+ * en la pila servlet.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/accounts")
+public class ReactiveAccountController {
+
+    private final ReactiveAccountService accountService;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param accountService Servicio reactivo de cuentas
+     */
+    public ReactiveAccountController(ReactiveAccountService accountService) {
+        this.accountService = accountService;
+    }
+
+    /**
+     * Endpoint para obtener todas las cuentas del usuario autenticado.
+     *
+     * @param authentication El contexto de seguridad con el usuario autenticado
+     * @return Flujo con las cuentas del usuario
+     */
+    @GetMapping
+    public Flux<AccountResponse> getUserAccounts(Authentication authentication) {
+        return accountService.getAccountsByUserId(extractUserIdFromAuth(authentication));
+    }
+
+    /**
+     * Endpoint para obtener una cuenta por su número de cuenta.
+     *
+     * @param accountNumber El número de cuenta a buscar
+     * @return Los datos de la cuenta encontrada
+     */
+    @GetMapping("/search")
+    public Mono<AccountResponse> searchAccountByNumber(@RequestParam String accountNumber) {
+        return accountService.getAccountByNumber(accountNumber);
+    }
+
+    /**
+     * Endpoint para obtener una cuenta específica por ID.
+     *
+     * @param accountId El ID de la cuenta
+     * @return Los datos de la cuenta
+     */
+    @GetMapping("/{accountId}")
+    public Mono<AccountResponse> getAccountById(@PathVariable Long accountId) {
+        return accountService.getAccountById(accountId);
+    }
+
+    /**
+     * Extrae el userId del principal cargado por R2dbcUserDetailsService.
+     */
+    private Long extractUserIdFromAuth(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof UserEntity user) {
+            return user.getId();
+        }
+        throw new IllegalArgumentException("Usuario no autenticado");
+    }
+}
@@ -0,0 +1,69 @@
+-- Particiona por meses la tabla transactions (PostgreSQL).
+--
+-- V1 es el esquema que crea Hibernate (ddl-auto: update); la aplicación debe
+-- haber arrancado al menos una vez contra la base de datos. La tabla existente
+-- pasa a ser transactions_legacy y se adjunta como partición de todo lo
+-- anterior al mes siguiente a su último movimiento, de modo que no se copia
+-- ninguna fila. Una partición DEFAULT recoge cualquier fila sin mes creado; las
+-- particiones mensuales las crea TransactionPartitionManager
+-- (bankcore.partitioning.enabled).
+--
+-- El script debe ejecutarse en una sola transacción y con la aplicación
+-- parada: el primer ALTER TABLE bloquea la tabla hasta el final.
+--   mvn -Pdb-migrate flyway:migrate -Dflyway.url=... -Dflyway.user=... -Dflyway.password=...
+--   psql -1 -f V2__partition_transactions.sql
+--
+-- PostgreSQL exige la clave de partición en los índices únicos, así que la
+-- clave primaria pasa a ser (id, timestamp) e idx_reference_code deja de ser
+-- único. La unicidad global del código de referencia la mantiene
+-- transaction_references, que un trigger rellena con cada inserción.
+-- Conservar el nombre idx_reference_code hace que ddl-auto: update lo dé por
+-- creado y no intente un índice único que PostgreSQL rechazaría.
+
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transactions_legacy RENAME CONSTRAINT transactions_pkey TO transactions_legacy_pkey;
+ALTER INDEX IF EXISTS idx_reference_code RENAME TO idx_reference_code_legacy;
+ALTER INDEX IF EXISTS idx_source_account RENAME TO idx_source_account_legacy;
+ALTER INDEX IF EXISTS idx_target_account RENAME TO idx_target_account_legacy;
+
+-- La identidad de la tabla antigua se sustituye por una secuencia compartida
+-- que continúa la numeración
+ALTER TABLE transactions_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE transactions_id_seq;
+SELECT setval('transactions_id_seq', COALESCE((SELECT max(id) FROM transactions_legacy), 0) + 1, false);
+
+CREATE TABLE transactions (LIKE transactions_legacy INCLUDING DEFAULTS) PARTITION BY RANGE ("timestamp");
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transactions_id_seq');
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+ALTER TABLE transactions ADD PRIMARY KEY (id, "timestamp");
+CREATE INDEX idx_reference_code ON transactions (reference_code);
+CREATE INDEX idx_source_account ON transactions (source_account_id);
+CREATE INDEX idx_target_account ON transactions (target_account_id);
+
+-- El límite sale de los datos: "timestamp" no tiene zona y lo escribe la
+-- aplicación en la suya. Sin filas, el mes actual de la sesión
+DO $$
+DECLARE
+    legacy_end timestamp;
+BEGIN
+    SELECT date_trunc('month', max("timestamp")) + interval '1 month' INTO legacy_end FROM transactions_legacy;
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION transactions_legacy'
+            || ' FOR VALUES FROM (MINVALUE) TO (%L)',
+            COALESCE(legacy_end, date_trunc('month', localtimestamp)));
+END $$;
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- Unicidad global de reference_code, que ningún índice de la tabla
+-- particionada puede dar
+CREATE TABLE transaction_references (reference_code uuid PRIMARY KEY);
+INSERT INTO transaction_references SELECT reference_code FROM transactions_legacy;
+
+CREATE FUNCTION transactions_reserve_reference() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO transaction_references (reference_code) VALUES (NEW.reference_code);
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER transactions_reference_code_unique
+    AFTER INSERT ON transactions FOR EACH ROW EXECUTE FUNCTION transactions_reserve_reference();
@@ -0,0 +1,84 @@
+package com.dajham.bankcore.application.service;
+
+import com.dajham.bankcore.application.dto.AccountResponse;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.ReactiveAccountRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ReactiveAccountService.
+ * Verifican que las consultas no bloqueantes responden igual que las de
+ * AccountService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAccountService - Application Service Tests")
+class ReactiveAccountServiceTest {
+
+    @Mock
+    private ReactiveAccountRepositoryPort accountRepositoryPort;
+
+    @InjectMocks
+    private ReactiveAccountService accountService;
+
+    @Test
+    @DisplayName("getAccountByNumber() debe normalizar el número antes de buscarlo")
+    void getAccountByNumber_ShouldNormalizeNumber() {
+        // Arrange
+        Account account = new Account(1L, "ACC-READ-001", Money.of("250.00"), 100L);
+        when(accountRepositoryPort.findByAccountNumber("ACC-READ-001")).thenReturn(Mono.just(account));
+
+        // Act
+        AccountResponse response = accountService.getAccountByNumber("  acc-read-001 ").block();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(1L, response.id());
+        assertEquals(0, new BigDecimal("250.00").compareTo(response.balance()));
+        assertEquals(100L, response.userId());
+    }
+
+    @Test
+    @DisplayName("getAccountById() debe fallar con IllegalArgumentException si la cuenta no existe")
+    void getAccountById_ShouldFail_WhenAccountDoesNotExist() {
+        // Arrange
+        when(accountRepositoryPort.findById(99L)).thenReturn(Mono.empty());
+
+        // Act
+        Mono<AccountResponse> result = accountService.getAccountById(99L);
+
+        // Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result::block);
+        assertTrue(exception.getMessage().contains("Cuenta no encontrada"));
+    }
+
+    @Test
+    @DisplayName("getAccountsByUserId() debe devolver todas las cuentas del usuario")
+    void getAccountsByUserId_ShouldReturnAllAccounts() {
+        // Arrange
+        when(accountRepositoryPort.findByUserId(100L)).thenReturn(Flux.just(
+                new Account(1L, "ACC-READ-001", Money.of("10.00"), 100L),
+                new Account(2L, "ACC-READ-002", Money.of("20.00"), 100L)));
+
+        // Act
+        List<AccountResponse> responses = accountService.getAccountsByUserId(100L).collectList().block();
+
+        // Assert
+        assertNotNull(responses);
+        assertEquals(List.of("ACC-READ-001", "ACC-READ-002"),
+                responses.stream().map(AccountResponse::accountNumber).toList());
+    }
+}
@@ -0,0 +1,67 @@
+package com.dajham.bankcore.application.service;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para TransferEvent.
+ * Verifica que el evento se registra al terminar la transacción y refleja un
+ * commit fallido.
+ */
+@DisplayName("TransferEvent - Evento JFR de transferencia")
+class TransferEventTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    @Test
+    @DisplayName("debe registrar el evento al completarse la transacción con el resultado del commit")
+    void completeAfterTransaction_ShouldRecordCommitOutcome() throws Exception {
+        // Arrange
+        Path dump = dumpDirectory.resolve("transfer.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("bankcore.Transfer").withThreshold(Duration.ZERO);
+            recording.start();
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                TransferEvent committed = TransferEvent.start(1L, 2L, new BigDecimal("10.00"));
+                TransferEvent rolledBack = TransferEvent.start(1L, 2L, new BigDecimal("20.00"));
+
+                // Act
+                committed.completeAfterTransaction("SUCCESS", "REF-1");
+                rolledBack.completeAfterTransaction("SUCCESS", "REF-2");
+                List<TransactionSynchronization> synchronizations =
+                        TransactionSynchronizationManager.getSynchronizations();
+                synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals("bankcore.Transfer"))
+                .toList();
+        assertEquals(2, events.size());
+        assertEquals("SUCCESS", events.get(0).getString("outcome"));
+        assertEquals("REF-1", events.get(0).getString("referenceCode"));
+        assertEquals("ROLLED_BACK", events.get(1).getString("outcome"));
+        assertNull(events.get(1).getString("referenceCode"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.dajham.bankcore.application.service;
+
+import com.dajham.bankcore.application.dto.TransferRequest;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryAccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.outbox.OutboxMessage;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryJournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryOutboxAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionManager;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de concurrencia de TransferService sobre los adaptadores en memoria.
+ * Ejecuta la lógica real de la transferencia dentro de transacciones, con
+ * varios hilos compitiendo por las mismas cuentas.
+ */
+@DisplayName("TransferService - Concurrencia sobre adaptadores en memoria")
+class TransferServiceConcurrencyTest {
+
+    private static final int ACCOUNTS = 8;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 1_000;
+    private static final Money INITIAL_BALANCE = Money.of("1000.00");
+
+    private InMemoryAccountRepositoryAdapter accountRepository;
+    private InMemoryTransactionRepositoryAdapter transactionRepository;
+    private InMemoryJournalRepositoryAdapter journalRepository;
+    private InMemoryOutboxAdapter outbox;
+    private TransferService transferService;
+    private TransactionTemplate transactionTemplate;
+    private final List<Long> accountIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepositoryAdapter(16);
+        transactionRepository = new InMemoryTransactionRepositoryAdapter(16);
+        journalRepository = new InMemoryJournalRepositoryAdapter();
+        outbox = new InMemoryOutboxAdapter();
+        transferService = new TransferService(accountRepository, transactionRepository, journalRepository,
+                Optional.of(outbox), Optional.empty(), Optional.empty(), Optional.empty());
+        transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = accountRepository.save(new Account("ACC-" + i, INITIAL_BALANCE, 1L));
+            accountIds.add(account.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("transfer() concurrente debe conservar el saldo total y cuadrar con el diario")
+    void transfer_ShouldConserveTotalBalance_WhenRunConcurrently() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<int[]>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(this::runTransfers);
+        }
+
+        // Act
+        int committed = 0;
+        try {
+            for (Future<int[]> result : executor.invokeAll(workers)) {
+                committed += result.get()[0];
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        Money total = accountIds.stream()
+                .map(id -> accountRepository.findById(id).orElseThrow().getBalance())
+                .reduce(Money.ZERO, Money::plus);
+        assertEquals(Money.ofMinor(INITIAL_BALANCE.minorUnits() * ACCOUNTS), total);
+        assertEquals(committed, transactionRepository.count());
+        assertEquals(THREADS * TRANSFERS_PER_THREAD, committed);
+        assertEquals(2L * committed, journalRepository.lastPostingId());
+        for (Long id : accountIds) {
+            Money delta = journalRepository.balanceOf(id);
+            assertEquals(accountRepository.findById(id).orElseThrow().getBalance(), INITIAL_BALANCE.plus(delta));
+        }
+
+        // Los eventos de cada cuenta deben salir en el orden de confirmación:
+        // sus IDs de transacción son crecientes
+        List<OutboxMessage> events = outbox.fetchBatch(Integer.MAX_VALUE);
+        assertEquals(committed, events.size());
+        Map<Long, Long> lastTransactionByAccount = new HashMap<>();
+        for (OutboxMessage message : events) {
+            for (Long accountId : List.of(message.event().sourceAccountId(), message.event().targetAccountId())) {
+                Long previous = lastTransactionByAccount.put(accountId, message.event().transactionId());
+                assertTrue(previous == null || previous < message.event().transactionId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("transfer() revertida no debe dejar cambios visibles")
+    void transfer_ShouldLeaveNoTrace_WhenTransactionRollsBack() {
+        // Arrange
+        TransferRequest request = new TransferRequest(accountIds.get(0), accountIds.get(1), new BigDecimal("10.00"));
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            transferService.transfer(request);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(INITIAL_BALANCE, accountRepository.findById(accountIds.get(0)).orElseThrow().getBalance());
+        assertEquals(INITIAL_BALANCE, accountRepository.findById(accountIds.get(1)).orElseThrow().getBalance());
+        assertEquals(0, transactionRepository.count());
+        assertEquals(0L, journalRepository.lastPostingId());
+        assertEquals(0, outbox.size());
+    }
+
+    /**
+     * Ejecuta transferencias aleatorias de importe fijo, reintentando las que
+     * pierden la carrera de versiones.
+     *
+     * @return confirmadas y conflictos
+     */
+    private int[] runTransfers() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int committed = 0;
+        int conflicts = 0;
+        for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+            int source = random.nextInt(ACCOUNTS);
+            int target = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+            TransferRequest request = new TransferRequest(accountIds.get(source), accountIds.get(target),
+                    BigDecimal.ONE);
+            while (true) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> transferService.transfer(request));
+                    committed++;
+                    break;
+                } catch (OptimisticLockingFailureException ex) {
+                    conflicts++;
+                }
+            }
+        }
+        return new int[] { committed, conflicts };
+    }
+}
@@ -3,22 +3,35 @@ package com.dajham.bankcore.application.service;
 import com.dajham.bankcore.application.dto.TransferRequest;
 import com.dajham.bankcore.application.dto.TransferResponse;
 import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
 import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.model.TransferCompleted;
+import com.dajham.bankcore.domain.port.AccountContentionPort;
 import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.OutboxPort;
 import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import com.dajham.bankcore.domain.port.TransferAuditPort;
+import com.dajham.bankcore.domain.port.TransferMetricsPort;
+import com.dajham.bankcore.domain.port.TransferMetricsPort.Phase;
+import com.dajham.bankcore.domain.port.TransferMetricsPort.Rejection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -36,7 +49,12 @@ class TransferServiceTest {
     @Mock
     private TransactionRepositoryPort transactionRepositoryPort;
 
-    @InjectMocks
+    @Mock
+    private JournalRepositoryPort journalRepositoryPort;
+
+    @Mock
+    private OutboxPort outboxPort;
+
     private TransferService transferService;
 
     private Account sourceAccount;
@@ -45,17 +63,21 @@ class TransferServiceTest {
 
     @BeforeEach
     void setUp() {
+        transferService = new TransferService(accountRepositoryPort, transactionRepositoryPort,
+                journalRepositoryPort,
+                Optional.of(outboxPort), Optional.empty(), Optional.empty(), Optional.empty());
+
         // Arrange: Configurar cuentas de prueba
         sourceAccount = new Account(
                 1L,
                 "ACC-SOURCE-123",
-                new BigDecimal("1000.00"),
+                Money.of("1000.00"),
                 100L);
 
         targetAccount = new Account(
                 2L,
                 "ACC-TARGET-456",
-                new BigDecimal("500.00"),
+                Money.of("500.00"),
                 200L);
 
         // Request para transferir 300.00 de cuenta 1 a cuenta 2
@@ -76,7 +98,7 @@ class TransferServiceTest {
         Transaction mockTransaction = new Transaction(
                 1L, // sourceAccountId
                 2L, // targetAccountId
-                new BigDecimal("300.00") // amount
+                Money.of("300.00") // amount
         );
         mockTransaction.setId(999L);
 
@@ -92,9 +114,9 @@ class TransferServiceTest {
         assertNotNull(response.referenceCode(), "Debe tener un código de referencia");
 
         // Verificar que los balances se actualizaron correctamente
-        assertEquals(new BigDecimal("700.00"), sourceAccount.getBalance(),
+        assertEquals(Money.of("700.00"), sourceAccount.getBalance(),
                 "El balance de la cuenta origen debe ser 700.00 (1000 - 300)");
-        assertEquals(new BigDecimal("800.00"), targetAccount.getBalance(),
+        assertEquals(Money.of("800.00"), targetAccount.getBalance(),
                 "El balance de la cuenta destino debe ser 800.00 (500 + 300)");
 
         // Verificar que se guardaron ambas cuentas
@@ -104,6 +126,17 @@ class TransferServiceTest {
 
         // Verificar que se guardó la transacción
         verify(transactionRepositoryPort, times(1)).save(any(Transaction.class));
+
+        // Verificar que se asentó el cargo y el abono en el diario
+        verify(journalRepositoryPort).append(argThat((JournalEntry entry) -> entry.getPostings().size() == 2
+                && entry.getPostings().get(0).accountId() == 1L
+                && entry.getPostings().get(0).amount().equals(Money.of("-300.00"))
+                && entry.getPostings().get(1).accountId() == 2L
+                && entry.getPostings().get(1).amount().equals(Money.of("300.00"))));
+
+        // Verificar que se publicó el evento de la transacción guardada
+        verify(outboxPort).publish(argThat((TransferCompleted event) -> event.transactionId().equals(999L)
+                && event.amount().equals(Money.of("300.00"))));
     }
 
     @Test
@@ -134,7 +167,7 @@ class TransferServiceTest {
         Account poorAccount = new Account(
                 1L,
                 "ACC-POOR-123",
-                new BigDecimal("100.00"), // Solo 100, pero se intenta transferir 300
+                Money.of("100.00"), // Solo 100, pero se intenta transferir 300
                 100L);
 
         when(accountRepositoryPort.findById(1L)).thenReturn(Optional.of(poorAccount));
@@ -210,7 +243,7 @@ class TransferServiceTest {
         Transaction mockTransaction = new Transaction(
                 1L,
                 2L,
-                new BigDecimal("300.00"));
+                Money.of("300.00"));
         mockTransaction.setId(888L);
 
         when(transactionRepositoryPort.save(any(Transaction.class))).thenReturn(mockTransaction);
@@ -221,6 +254,132 @@ class TransferServiceTest {
         // Assert: Verificar que se guardó una transacción con los datos correctos
         verify(transactionRepositoryPort).save(argThat(transaction -> transaction.getSourceAccountId().equals(1L) &&
                 transaction.getTargetAccountId().equals(2L) &&
-                transaction.getAmount().compareTo(new BigDecimal("300.00")) == 0));
+                transaction.getAmount().compareTo(Money.of("300.00")) == 0));
+    }
+
+    @Test
+    @DisplayName("transfer() debe medir cada fase y registrar el importe")
+    void transfer_ShouldRecordPhases_WhenMetricsArePresent() {
+        // Arrange
+        TransferMetricsPort metrics = mock(TransferMetricsPort.class);
+        TransferService service = new TransferService(accountRepositoryPort, transactionRepositoryPort,
+                journalRepositoryPort,
+                Optional.empty(), Optional.of(metrics), Optional.empty(), Optional.empty());
+        when(accountRepositoryPort.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        when(accountRepositoryPort.findById(2L)).thenReturn(Optional.of(targetAccount));
+        when(transactionRepositoryPort.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        service.transfer(transferRequest);
+
+        // Assert
+        verify(metrics).recordPhase(eq(Phase.SOURCE_LOAD), anyLong());
+        verify(metrics).recordPhase(eq(Phase.TARGET_LOAD), anyLong());
+        verify(metrics).recordPhase(eq(Phase.SOURCE_SAVE), anyLong());
+        verify(metrics).recordPhase(eq(Phase.TARGET_SAVE), anyLong());
+        verify(metrics).recordPhase(eq(Phase.ACCOUNTS_FLUSH), anyLong());
+        verify(metrics).recordPhase(eq(Phase.TRANSACTION_INSERT), anyLong());
+        verify(metrics).recordAmount(Money.of("300.00"));
+        verify(metrics, never()).recordRejection(any());
+    }
+
+    @Test
+    @DisplayName("transfer() debe registrar el motivo de rechazo y los conflictos de versión")
+    void transfer_ShouldRecordRejectionsAndConflicts_WhenMetricsArePresent() {
+        // Arrange
+        TransferMetricsPort metrics = mock(TransferMetricsPort.class);
+        TransferService service = new TransferService(accountRepositoryPort, transactionRepositoryPort,
+                journalRepositoryPort,
+                Optional.empty(), Optional.of(metrics), Optional.empty(), Optional.empty());
+        when(accountRepositoryPort.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        when(accountRepositoryPort.findById(2L)).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(targetAccount));
+        when(accountRepositoryPort.save(sourceAccount)).thenThrow(new OptimisticLockingFailureException("stale"));
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> service.transfer(new TransferRequest(1L, 1L, new BigDecimal("1.00"))));
+        assertThrows(IllegalArgumentException.class, () -> service.transfer(transferRequest));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.transfer(new TransferRequest(1L, 2L, new BigDecimal("5000.00"))));
+        assertThrows(OptimisticLockingFailureException.class, () -> service.transfer(transferRequest));
+
+        // Assert
+        verify(metrics).recordRejection(Rejection.SAME_ACCOUNT);
+        verify(metrics).recordRejection(Rejection.MISSING_ACCOUNT);
+        verify(metrics).recordRejection(Rejection.INSUFFICIENT_FUNDS);
+        verify(metrics).recordConflict();
+        verify(metrics, never()).recordAmount(any());
+    }
+
+    @Test
+    @DisplayName("transfer() debe enviar las cuentas guardadas y contar el conflicto que detecte el envío")
+    void transfer_ShouldRecordConflict_WhenFlushDetectsStaleAccount() {
+        // Arrange
+        TransferMetricsPort metrics = mock(TransferMetricsPort.class);
+        TransferService service = new TransferService(accountRepositoryPort, transactionRepositoryPort,
+                journalRepositoryPort,
+                Optional.empty(), Optional.of(metrics), Optional.empty(), Optional.empty());
+        when(accountRepositoryPort.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        when(accountRepositoryPort.findById(2L)).thenReturn(Optional.of(targetAccount));
+        doThrow(new OptimisticLockingFailureException("stale")).when(accountRepositoryPort).flush();
+
+        // Act
+        assertThrows(OptimisticLockingFailureException.class, () -> service.transfer(transferRequest));
+
+        // Assert
+        InOrder inOrder = inOrder(accountRepositoryPort);
+        inOrder.verify(accountRepositoryPort).save(sourceAccount);
+        inOrder.verify(accountRepositoryPort).save(targetAccount);
+        inOrder.verify(accountRepositoryPort).flush();
+        verify(metrics).recordConflict();
+        verify(transactionRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("transfer() debe auditar la transacción guardada")
+    void transfer_ShouldAuditSavedTransaction_WhenAuditIsPresent() {
+        // Arrange
+        TransferAuditPort audit = mock(TransferAuditPort.class);
+        TransferService service = new TransferService(accountRepositoryPort, transactionRepositoryPort,
+                journalRepositoryPort,
+                Optional.empty(), Optional.empty(), Optional.of(audit), Optional.empty());
+        when(accountRepositoryPort.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        when(accountRepositoryPort.findById(2L)).thenReturn(Optional.of(targetAccount));
+        when(transactionRepositoryPort.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        TransferResponse response = service.transfer(transferRequest);
+        assertThrows(IllegalArgumentException.class,
+                () -> service.transfer(new TransferRequest(1L, 2L, new BigDecimal("5000.00"))));
+
+        // Assert: solo la transferencia aplicada
+        verify(audit).recordTransfer(argThat(transaction ->
+                response.referenceCode().equals(transaction.getReferenceCode())
+                        && Money.of("300.00").equals(transaction.getAmount())), anyLong());
+        verifyNoMoreInteractions(audit);
+    }
+
+    @Test
+    @DisplayName("transfer() debe registrar las cuentas y sus conflictos para detectar cuentas calientes")
+    void transfer_ShouldRecordContention_WhenTrackerIsPresent() {
+        // Arrange
+        AccountContentionPort contention = mock(AccountContentionPort.class);
+        TransferService service = new TransferService(accountRepositoryPort, transactionRepositoryPort,
+                journalRepositoryPort,
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(contention));
+        when(accountRepositoryPort.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        when(accountRepositoryPort.findById(2L)).thenReturn(Optional.of(targetAccount));
+        when(accountRepositoryPort.save(sourceAccount)).thenThrow(new OptimisticLockingFailureException("stale"));
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> service.transfer(new TransferRequest(1L, 1L, new BigDecimal("1.00"))));
+        assertThrows(OptimisticLockingFailureException.class, () -> service.transfer(transferRequest));
+
+        // Assert: la transferencia a la misma cuenta no llega a contarse
+        verify(contention).recordTransfer(1L, 2L);
+        verify(contention).recordConflict(1L, 2L);
+        verifyNoMoreInteractions(contention);
     }
 }
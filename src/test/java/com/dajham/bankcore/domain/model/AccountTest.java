@@ -4,8 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -23,7 +21,7 @@ class AccountTest {
         account = new Account(
                 1L,
                 "ACC-1234567890",
-                new BigDecimal("1000.00"),
+                Money.of("1000.00"),
                 100L);
     }
 
@@ -31,9 +29,9 @@ class AccountTest {
     @DisplayName("deposit() debe incrementar el balance cuando el monto es positivo")
     void deposit_ShouldIncreaseBalance_WhenAmountIsPositive() {
         // Arrange
-        BigDecimal initialBalance = account.getBalance();
-        BigDecimal depositAmount = new BigDecimal("500.00");
-        BigDecimal expectedBalance = initialBalance.add(depositAmount);
+        Money initialBalance = account.getBalance();
+        Money depositAmount = Money.of("500.00");
+        Money expectedBalance = initialBalance.plus(depositAmount);
 
         // Act
         account.deposit(depositAmount);
@@ -41,7 +39,7 @@ class AccountTest {
         // Assert
         assertEquals(expectedBalance, account.getBalance(),
                 "El balance debe incrementarse en el monto depositado");
-        assertEquals(new BigDecimal("1500.00"), account.getBalance(),
+        assertEquals(Money.of("1500.00"), account.getBalance(),
                 "El balance final debe ser 1500.00");
     }
 
@@ -49,9 +47,9 @@ class AccountTest {
     @DisplayName("withdraw() debe decrementar el balance cuando hay fondos suficientes")
     void withdraw_ShouldDecreaseBalance_WhenFundsAreSufficient() {
         // Arrange
-        BigDecimal initialBalance = account.getBalance();
-        BigDecimal withdrawAmount = new BigDecimal("300.00");
-        BigDecimal expectedBalance = initialBalance.subtract(withdrawAmount);
+        Money initialBalance = account.getBalance();
+        Money withdrawAmount = Money.of("300.00");
+        Money expectedBalance = initialBalance.minus(withdrawAmount);
 
         // Act
         account.withdraw(withdrawAmount);
@@ -59,7 +57,7 @@ class AccountTest {
         // Assert
         assertEquals(expectedBalance, account.getBalance(),
                 "El balance debe decrementarse en el monto retirado");
-        assertEquals(new BigDecimal("700.00"), account.getBalance(),
+        assertEquals(Money.of("700.00"), account.getBalance(),
                 "El balance final debe ser 700.00");
     }
 
@@ -67,7 +65,7 @@ class AccountTest {
     @DisplayName("withdraw() debe lanzar excepción cuando el balance es insuficiente")
     void withdraw_ShouldThrowException_WhenBalanceIsInsufficient() {
         // Arrange
-        BigDecimal withdrawAmount = new BigDecimal("2000.00"); // Mayor al balance de 1000
+        Money withdrawAmount = Money.of("2000.00"); // Mayor al balance de 1000
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -79,7 +77,7 @@ class AccountTest {
                 "El mensaje de error debe indicar saldo insuficiente");
 
         // Verificar que el balance no cambió
-        assertEquals(new BigDecimal("1000.00"), account.getBalance(),
+        assertEquals(Money.of("1000.00"), account.getBalance(),
                 "El balance no debe cambiar cuando falla el retiro");
     }
 
@@ -87,7 +85,7 @@ class AccountTest {
     @DisplayName("withdraw() debe lanzar excepción cuando el monto es negativo")
     void withdraw_ShouldThrowException_WhenAmountIsNegative() {
         // Arrange
-        BigDecimal negativeAmount = new BigDecimal("-50.00");
+        Money negativeAmount = Money.of("-50.00");
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -99,7 +97,7 @@ class AccountTest {
                 "El mensaje debe indicar que el monto debe ser positivo");
 
         // Verificar que el balance no cambió
-        assertEquals(new BigDecimal("1000.00"), account.getBalance(),
+        assertEquals(Money.of("1000.00"), account.getBalance(),
                 "El balance no debe cambiar cuando el monto es inválido");
     }
 
@@ -107,7 +105,7 @@ class AccountTest {
     @DisplayName("withdraw() debe lanzar excepción cuando el monto es cero")
     void withdraw_ShouldThrowException_WhenAmountIsZero() {
         // Arrange
-        BigDecimal zeroAmount = BigDecimal.ZERO;
+        Money zeroAmount = Money.ZERO;
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -122,7 +120,7 @@ class AccountTest {
     @DisplayName("deposit() debe lanzar excepción cuando el monto es negativo")
     void deposit_ShouldThrowException_WhenAmountIsNegative() {
         // Arrange
-        BigDecimal negativeAmount = new BigDecimal("-100.00");
+        Money negativeAmount = Money.of("-100.00");
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -133,14 +131,14 @@ class AccountTest {
         assertEquals("El monto a depositar debe ser mayor a cero", exception.getMessage());
 
         // Verificar que el balance no cambió
-        assertEquals(new BigDecimal("1000.00"), account.getBalance());
+        assertEquals(Money.of("1000.00"), account.getBalance());
     }
 
     @Test
     @DisplayName("deposit() debe lanzar excepción cuando el monto es cero")
     void deposit_ShouldThrowException_WhenAmountIsZero() {
         // Arrange
-        BigDecimal zeroAmount = BigDecimal.ZERO;
+        Money zeroAmount = Money.ZERO;
 
         // Act & Assert
         assertThrows(
@@ -153,7 +151,7 @@ class AccountTest {
     @DisplayName("hasSufficientBalance() debe retornar true cuando hay fondos suficientes")
     void hasSufficientBalance_ShouldReturnTrue_WhenBalanceIsSufficient() {
         // Arrange
-        BigDecimal amount = new BigDecimal("500.00");
+        Money amount = Money.of("500.00");
 
         // Act
         boolean result = account.hasSufficientBalance(amount);
@@ -166,7 +164,7 @@ class AccountTest {
     @DisplayName("hasSufficientBalance() debe retornar false cuando hay fondos insuficientes")
     void hasSufficientBalance_ShouldReturnFalse_WhenBalanceIsInsufficient() {
         // Arrange
-        BigDecimal amount = new BigDecimal("2000.00");
+        Money amount = Money.of("2000.00");
 
         // Act
         boolean result = account.hasSufficientBalance(amount);
@@ -0,0 +1,42 @@
+package com.dajham.bankcore.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para el asiento del diario contable.
+ */
+@DisplayName("JournalEntry - Domain Model Tests")
+class JournalEntryTest {
+
+    @Test
+    @DisplayName("transfer() debe cargar el origen y abonar el destino por el mismo importe")
+    void transfer_ShouldDebitSourceAndCreditTarget() {
+        // Arrange
+        Transaction transaction = new Transaction(1L, 2L, Money.of("45.10"));
+
+        // Act
+        JournalEntry entry = JournalEntry.transfer(transaction);
+
+        // Assert
+        assertEquals(transaction.getReferenceCode(), entry.getReference());
+        assertEquals(List.of(new Posting(1L, Money.of("-45.10")), new Posting(2L, Money.of("45.10"))),
+                entry.getPostings());
+    }
+
+    @Test
+    @DisplayName("El constructor debe rechazar un asiento que no suma cero")
+    void constructor_ShouldReject_WhenPostingsDoNotBalance() {
+        // Arrange
+        List<Posting> postings = List.of(new Posting(1L, Money.of("-10.00")), new Posting(2L, Money.of("9.99")));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournalEntry("REF", LocalDateTime.now(), postings));
+    }
+}
@@ -0,0 +1,55 @@
+package com.dajham.bankcore.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para el valor Money.
+ */
+@DisplayName("Money - Domain Value Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("of() debe convertir a unidades mínimas y volver sin pérdida")
+    void of_ShouldRoundTripBigDecimal() {
+        // Act
+        Money money = Money.of(new BigDecimal("1234.5"));
+
+        // Assert
+        assertEquals(123_450L, money.minorUnits());
+        assertEquals(new BigDecimal("1234.50"), money.toBigDecimal());
+        assertEquals(Money.of("1234.50"), money);
+    }
+
+    @Test
+    @DisplayName("of() debe rechazar importes con más de dos decimales")
+    void of_ShouldReject_WhenScaleExceedsTwo() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Money.of("10.005"));
+    }
+
+    @Test
+    @DisplayName("plus() debe lanzar excepción en vez de desbordar")
+    void plus_ShouldThrow_WhenOverflowing() {
+        // Arrange
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        // Act & Assert
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+    }
+
+    @Test
+    @DisplayName("deposit() debe lanzar excepción si el saldo desborda")
+    void deposit_ShouldThrow_WhenBalanceOverflows() {
+        // Arrange
+        Account account = new Account(1L, "ACC-MAX", Money.ofMinor(Long.MAX_VALUE), 1L);
+
+        // Act & Assert
+        assertThrows(ArithmeticException.class, () -> account.deposit(Money.of("0.01")));
+        assertEquals(Money.ofMinor(Long.MAX_VALUE), account.getBalance());
+    }
+}
@@ -0,0 +1,85 @@
+package com.dajham.bankcore.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ReferenceCodes.
+ */
+@DisplayName("ReferenceCodes - Códigos de referencia UUID v7")
+class ReferenceCodesTest {
+
+    @Test
+    @DisplayName("nextUuid() debe generar UUID versión 7 con el instante actual")
+    void nextUuid_ShouldEncodeVersionAndTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID code = ReferenceCodes.nextUuid();
+
+        // Assert
+        assertEquals(7, code.version());
+        assertEquals(2, code.variant());
+        assertTrue(ReferenceCodes.timestampOf(code) >= before);
+        assertTrue(ReferenceCodes.timestampOf(code) <= System.currentTimeMillis() + 1_000);
+        assertEquals(code, UUID.fromString(code.toString()));
+    }
+
+    @Test
+    @DisplayName("next() debe generar códigos estrictamente crecientes en su forma textual")
+    void next_ShouldBeStrictlyIncreasing() {
+        // Arrange
+        List<String> codes = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            codes.add(ReferenceCodes.next());
+        }
+
+        // Assert
+        for (int i = 1; i < codes.size(); i++) {
+            assertTrue(codes.get(i - 1).compareTo(codes.get(i)) < 0,
+                    "Código fuera de orden: " + codes.get(i - 1) + " >= " + codes.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("next() concurrente no debe repetir códigos")
+    void next_ShouldBeUnique_WhenCalledConcurrently() throws Exception {
+        // Arrange
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        codes.add(ReferenceCodes.next());
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(160_000, codes.size());
+    }
+}
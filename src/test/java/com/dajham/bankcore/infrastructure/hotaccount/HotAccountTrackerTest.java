@@ -0,0 +1,132 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import com.dajham.bankcore.application.service.TransferService;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.commit.CommitFailureConfig;
+import com.dajham.bankcore.infrastructure.persistence.entity.AccountEntity;
+import com.dajham.bankcore.infrastructure.persistence.mapper.AccountMapper;
+import com.dajham.bankcore.infrastructure.persistence.repository.AccountRepositoryAdapter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de HotAccountTracker sobre el gestor de transacciones de JPA.
+ * Verifica que solo un commit que falla por la versión suma conflictos a las
+ * cuentas de la transferencia.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CommitFailureConfig.class, AccountRepositoryAdapter.class, AccountMapper.class,
+        HotAccountTrackerTest.Tracker.class })
+@DisplayName("HotAccountTracker - Conflictos en el commit")
+class HotAccountTrackerTest {
+
+    @TestConfiguration
+    static class Tracker {
+
+        @Bean
+        HotAccountTracker hotAccountTracker() {
+            return new HotAccountTracker(new HotAccountProperties(true, Duration.ofMinutes(1), 6, 4, 2048, 64, 10));
+        }
+    }
+
+    @Autowired
+    private HotAccountTracker tracker;
+
+    @Autowired
+    private AccountRepositoryPort accountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transfer;
+    private TransactionTemplate other;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: transacción con el nombre que le da el proxy de TransferService
+        transfer = new TransactionTemplate(transactionManager);
+        transfer.setName(TransferService.class.getName() + ".transfer");
+        other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("debe contar un conflicto para ambas cuentas cuando el commit falla por la versión")
+    void commit_ShouldCountConflict_WhenVersionIsStale() {
+        // Arrange
+        Long source = createAccount("ACC-H001");
+        Long target = createAccount("ACC-H002");
+
+        // Act: otra transacción modifica la cuenta origen antes del commit
+        assertThrows(OptimisticLockingFailureException.class, () -> transfer.executeWithoutResult(status -> {
+            tracker.recordTransfer(source, target);
+            Account account = accountRepository.findById(source).orElseThrow();
+            account.withdraw(Money.of("1.00"));
+            accountRepository.save(account);
+            other.executeWithoutResult(inner ->
+                    jdbcTemplate.update("UPDATE accounts SET version = version + 1 WHERE id = ?", source));
+        }));
+
+        // Assert
+        assertEquals(1, tracker.estimate(source)[1]);
+        assertEquals(1, tracker.estimate(target)[1]);
+    }
+
+    @Test
+    @DisplayName("no debe contar un conflicto cuando el commit falla por otra causa")
+    void commit_ShouldNotCountConflict_WhenConstraintFails() {
+        // Arrange
+        createAccount("ACC-H003");
+        Long source = createAccount("ACC-H004");
+        Long target = createAccount("ACC-H005");
+
+        // Act: el UPDATE del flush viola la unicidad del número de cuenta
+        assertThrows(DataIntegrityViolationException.class, () -> transfer.executeWithoutResult(status -> {
+            tracker.recordTransfer(source, target);
+            entityManager.find(AccountEntity.class, source).setAccountNumber("ACC-H003");
+        }));
+
+        // Assert
+        assertEquals(0, tracker.estimate(source)[1]);
+        assertEquals(0, tracker.estimate(target)[1]);
+    }
+
+    private Long createAccount(String accountNumber) {
+        return other.execute(status ->
+                accountRepository.save(new Account(accountNumber, Money.of("100.00"), 1L)).getId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.dajham.bankcore.infrastructure.hotaccount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para SlidingHeavyHitters.
+ * Verifica el ranking de cuentas calientes entre ruido y la expiración de la
+ * ventana.
+ */
+@DisplayName("SlidingHeavyHitters - Hot Account Tests")
+class SlidingHeavyHittersTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("debe encontrar las cuentas calientes entre muchas cuentas frías")
+    void top_ShouldFindHeavyHitters_AmongManyColdAccounts() {
+        // Arrange: 3 cuentas calientes y 100.000 frías, más cuentas que
+        // contadores en el sketch. Space-Saving solo garantiza las que superan
+        // total / capacity (~235.000 / 128), y la más fría de las tres tiene 5.000
+        SlidingHeavyHitters hitters = new SlidingHeavyHitters(Duration.ofMinutes(1), 6, 4, 1024, 128);
+        SplittableRandom random = new SplittableRandom(42);
+        long now = 0;
+        for (int i = 0; i < 200_000; i++) {
+            hitters.add(1_000_000L + random.nextInt(100_000), now);
+            if (i % 10 == 0) {
+                hitters.add(7L, now);
+            }
+            if (i % 20 == 0) {
+                hitters.add(8L, now);
+            }
+            if (i % 40 == 0) {
+                hitters.add(9L, now);
+            }
+        }
+
+        // Act
+        List<SlidingHeavyHitters.HeavyHitter> top = hitters.top(3, now);
+
+        // Assert
+        assertEquals(List.of(7L, 8L, 9L), top.stream().map(SlidingHeavyHitters.HeavyHitter::accountId).toList());
+        assertTrue(top.get(0).estimate() >= 20_000, "La estimación nunca se queda corta");
+        long total = hitters.total(now);
+        assertTrue(top.get(0).estimate() <= 20_000 + Math.E / 1024 * total,
+                "El exceso debe quedar dentro de la cota del count-min");
+    }
+
+    @Test
+    @DisplayName("debe olvidar las apariciones que salen de la ventana")
+    void shouldForget_WhenWindowSlidesPast() {
+        // Arrange: ventana de 60 s en 6 tramos de 10 s
+        SlidingHeavyHitters hitters = new SlidingHeavyHitters(Duration.ofSeconds(60), 6, 4, 256, 8);
+        for (int i = 0; i < 100; i++) {
+            hitters.add(1L, 5 * SECOND);
+        }
+        hitters.add(2L, 30 * SECOND);
+
+        // Act
+        long inWindow = hitters.estimate(1L, 55 * SECOND);
+        long expired = hitters.estimate(1L, 65 * SECOND);
+        List<SlidingHeavyHitters.HeavyHitter> topAfter = hitters.top(5, 65 * SECOND);
+        hitters.add(3L, 65 * SECOND);
+
+        // Assert
+        assertEquals(100, inWindow);
+        assertEquals(0, expired);
+        assertEquals(List.of(new SlidingHeavyHitters.HeavyHitter(2L, 1)), topAfter);
+        assertEquals(0, hitters.estimate(1L, 65 * SECOND), "El tramo reutilizado debe empezar vacío");
+        assertEquals(2, hitters.total(65 * SECOND));
+    }
+}
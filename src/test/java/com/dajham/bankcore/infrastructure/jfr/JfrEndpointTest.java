@@ -0,0 +1,84 @@
+package com.dajham.bankcore.infrastructure.jfr;
+
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para JfrEndpoint.
+ * Verifica el ciclo de una grabación y los eventos de los puertos de
+ * persistencia.
+ */
+@DisplayName("JfrEndpoint - Flight Recorder Tests")
+class JfrEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private JfrEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrEndpoint(new JfrProperties(true, dumpDirectory, "default"));
+    }
+
+    @Test
+    @DisplayName("debe grabar las llamadas a los puertos y volcarlas al detener la grabación")
+    void stop_ShouldDumpRecordedRepositoryCalls() throws Exception {
+        // Arrange
+        TransactionRepositoryPort delegate = mock(TransactionRepositoryPort.class);
+        when(delegate.existsByReferenceCode("REF-1")).thenReturn(true);
+        TransactionRepositoryPort repository = new FlightRecordedTransactionRepository(delegate);
+        endpoint.start("test-stop", null, null, null, null);
+
+        // Act
+        boolean exists = repository.existsByReferenceCode("REF-1");
+        WebEndpointResponse<JfrEndpoint.RecordingDescriptor> response = endpoint.stop("test-stop");
+
+        // Assert
+        assertTrue(exists);
+        assertEquals(200, response.getStatus());
+        assertEquals(RecordingState.CLOSED, response.getBody().state());
+        List<RecordedEvent> calls = RecordingFile.readAllEvents(Path.of(response.getBody().destination()))
+                .stream()
+                .filter(event -> event.getEventType().getName().equals("bankcore.RepositoryCall"))
+                .toList();
+        assertEquals(1, calls.size());
+        assertEquals("TransactionRepositoryPort", calls.get(0).getString("port"));
+        assertEquals("existsByReferenceCode", calls.get(0).getString("method"));
+        assertTrue(endpoint.recordings().stream().noneMatch(recording -> recording.name().equals("test-stop")),
+                "La grabación detenida debe quedar cerrada");
+    }
+
+    @Test
+    @DisplayName("debe rechazar nombres repetidos y responder 404 a grabaciones desconocidas")
+    void start_ShouldRejectDuplicateNames() {
+        // Arrange
+        endpoint.start("test-duplicate", null, null, null, null);
+
+        // Act & Assert
+        try {
+            assertThrows(IllegalArgumentException.class,
+                    () -> endpoint.start("test-duplicate", null, null, null, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> endpoint.start("test-settings", "inexistente", null, null, null));
+            assertEquals(404, endpoint.dump("desconocida").getStatus());
+            assertEquals(404, endpoint.stop("desconocida").getStatus());
+        } finally {
+            endpoint.stop("test-duplicate");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dajham.bankcore.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests unitarios para SamplingTurboFilter.
+ * Verifica el muestreo de los loggers configurados y que el resto no se toca.
+ */
+@DisplayName("SamplingTurboFilter - Logging Tests")
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: una de cada 4 sentencias de org.hibernate.SQL
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.addLogger("org.hibernate.SQL");
+        filter.setRate(4);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("debe dejar pasar uno de cada rate eventos de depuración del logger configurado")
+    void shouldKeepOneInRate_ForConfiguredLogger() {
+        // Arrange
+        Logger sql = context.getLogger("org.hibernate.SQL");
+
+        // Act
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(null, sql, Level.DEBUG, "select 1", null, null) == FilterReply.NEUTRAL) {
+                accepted++;
+            }
+        }
+
+        // Assert
+        assertEquals(25, accepted);
+    }
+
+    @Test
+    @DisplayName("no debe muestrear las comprobaciones de nivel, los avisos ni otros loggers")
+    void shouldStayNeutral_ForLevelChecksWarningsAndOtherLoggers() {
+        // Arrange
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger other = context.getLogger("org.hibernate.SQLQuery");
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, sql, Level.DEBUG, null, null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, sql, Level.WARN, "lento", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, other, Level.DEBUG, "select 1", null, null));
+        }
+    }
+}
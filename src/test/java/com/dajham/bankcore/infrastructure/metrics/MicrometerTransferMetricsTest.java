@@ -0,0 +1,132 @@
+package com.dajham.bankcore.infrastructure.metrics;
+
+import com.dajham.bankcore.application.service.TransferService;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.commit.CommitFailureConfig;
+import com.dajham.bankcore.infrastructure.persistence.entity.AccountEntity;
+import com.dajham.bankcore.infrastructure.persistence.mapper.AccountMapper;
+import com.dajham.bankcore.infrastructure.persistence.repository.AccountRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de MicrometerTransferMetrics sobre el gestor de transacciones de JPA.
+ * Provoca fallos reales en el flush del commit para verificar que solo los
+ * conflictos de versión cuentan como {@code stage=commit}. El slice de JPA no
+ * registra los oyentes del gestor; lo hace la autoconfiguración importada.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CommitFailureConfig.class, TransferMetricsConfig.class, AccountRepositoryAdapter.class,
+        AccountMapper.class, MicrometerTransferMetricsTest.Metrics.class })
+@DisplayName("MicrometerTransferMetrics - Conflictos en el commit")
+class MicrometerTransferMetricsTest {
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private AccountRepositoryPort accountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transfer;
+    private TransactionTemplate other;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: transacción con el nombre que le da el proxy de TransferService
+        transfer = new TransactionTemplate(transactionManager);
+        transfer.setName(TransferService.class.getName() + ".transfer");
+        other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("debe contar como conflicto un commit que falla por la versión")
+    void commit_ShouldCountConflict_WhenVersionIsStale() {
+        // Arrange
+        Long id = createAccount("ACC-M001");
+        double before = commitConflicts();
+
+        // Act: otra transacción modifica la cuenta antes del commit
+        assertThrows(OptimisticLockingFailureException.class, () -> transfer.executeWithoutResult(status -> {
+            Account account = accountRepository.findById(id).orElseThrow();
+            account.deposit(Money.of("1.00"));
+            accountRepository.save(account);
+            other.executeWithoutResult(inner ->
+                    jdbcTemplate.update("UPDATE accounts SET version = version + 1 WHERE id = ?", id));
+        }));
+
+        // Assert
+        assertEquals(before + 1, commitConflicts());
+    }
+
+    @Test
+    @DisplayName("no debe contar como conflicto un commit que falla por otra causa")
+    void commit_ShouldNotCountConflict_WhenConstraintFails() {
+        // Arrange
+        createAccount("ACC-M002");
+        Long id = createAccount("ACC-M003");
+        double before = commitConflicts();
+
+        // Act: el UPDATE del flush viola la unicidad del número de cuenta
+        assertThrows(DataIntegrityViolationException.class, () -> transfer.executeWithoutResult(status ->
+                entityManager.find(AccountEntity.class, id).setAccountNumber("ACC-M002")));
+
+        // Assert
+        assertEquals(before, commitConflicts());
+    }
+
+    private Long createAccount(String accountNumber) {
+        return other.execute(status ->
+                accountRepository.save(new Account(accountNumber, Money.of("100.00"), 1L)).getId());
+    }
+
+    private double commitConflicts() {
+        return meterRegistry.get("bankcore.transfer.conflicts").tag("stage", "commit").counter().count();
+    }
+}
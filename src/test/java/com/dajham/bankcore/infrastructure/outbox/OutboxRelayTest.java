@@ -0,0 +1,83 @@
+package com.dajham.bankcore.infrastructure.outbox;
+
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.TransferCompleted;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryOutboxAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para OutboxRelay.
+ * Verifica la entrega por lotes en orden y el reintento tras un fallo.
+ */
+@DisplayName("OutboxRelay - Outbox Tests")
+class OutboxRelayTest {
+
+    private InMemoryOutboxAdapter store;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<Long> delivered = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryOutboxAdapter();
+        meterRegistry = new SimpleMeterRegistry();
+        for (long i = 1; i <= 5; i++) {
+            store.publish(new TransferCompleted(i, "REF-" + i, 1L, 2L, Money.of("1.00"), LocalDateTime.now()));
+        }
+    }
+
+    private OutboxRelay newRelay(OutboxSink sink) {
+        return new OutboxRelay(store, sink, 2, new InMemoryTransactionManager(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("drain() debe entregar todos los eventos en orden y vaciar el outbox")
+    void drain_ShouldDeliverInOrder_AndEmptyTheOutbox() {
+        // Arrange
+        OutboxRelay relay = newRelay(batch -> batch.forEach(message -> delivered.add(message.event().transactionId())));
+
+        // Act
+        int sent = relay.drain();
+
+        // Assert
+        assertEquals(5, sent);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), delivered);
+        assertEquals(0, store.size());
+        assertEquals(5.0, meterRegistry.get("bankcore.outbox.dispatched").counter().count());
+    }
+
+    @Test
+    @DisplayName("drain() debe conservar el lote rechazado y reenviarlo en la siguiente pasada")
+    void drain_ShouldKeepBatch_WhenSinkFails() {
+        // Arrange
+        boolean[] failNext = { false };
+        OutboxRelay relay = newRelay(batch -> {
+            if (failNext[0]) {
+                failNext[0] = false;
+                throw new IOException("destino caído");
+            }
+            batch.forEach(message -> delivered.add(message.event().transactionId()));
+            failNext[0] = delivered.size() == 2;
+        });
+
+        // Act
+        int firstPass = relay.drain();
+        int secondPass = relay.drain();
+
+        // Assert
+        assertEquals(2, firstPass);
+        assertEquals(3, secondPass);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), delivered);
+        assertEquals(1.0, meterRegistry.get("bankcore.outbox.failures").counter().count());
+    }
+}
@@ -0,0 +1,26 @@
+package com.dajham.bankcore.infrastructure.persistence;
+
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryAccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryJournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryPersistenceProperties;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Contrato de persistencia ejecutado contra los adaptadores en memoria.
+ */
+@Import({ InMemoryAccountRepositoryAdapter.class, InMemoryTransactionRepositoryAdapter.class,
+        InMemoryJournalRepositoryAdapter.class })
+@EnableConfigurationProperties(InMemoryPersistenceProperties.class)
+@TestPropertySource(properties = "bankcore.persistence.adapter=memory")
+@DisplayName("Adaptadores en memoria - Contrato de persistencia")
+class InMemoryPersistenceAdapterTest extends PersistenceAdapterContractTest {
+
+    @Override
+    protected void flush() {
+        // Las escrituras son visibles de inmediato dentro de la transacción
+    }
+}
@@ -0,0 +1,77 @@
+package com.dajham.bankcore.infrastructure.persistence;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.infrastructure.persistence.jdbc.JdbcAccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.jdbc.JdbcJournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.jdbc.JdbcTransactionRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contrato de persistencia ejecutado contra los adaptadores JDBC.
+ */
+@Import({ JdbcAccountRepositoryAdapter.class, JdbcTransactionRepositoryAdapter.class,
+        JdbcJournalRepositoryAdapter.class })
+@TestPropertySource(properties = "bankcore.persistence.adapter=jdbc")
+@DisplayName("Adaptadores JDBC - Contrato de persistencia")
+class JdbcPersistenceAdapterTest extends PersistenceAdapterContractTest {
+
+    @Autowired
+    private JdbcAccountRepositoryAdapter jdbcAccountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected void flush() {
+        jdbcAccountRepository.flush();
+    }
+
+    @Test
+    @DisplayName("save() repetido de la misma cuenta debe enviar un solo UPDATE con el último estado")
+    void save_ShouldMergePendingUpdate_WhenSameAccountIsSavedAgain() {
+        // Arrange
+        Account account = accountRepository.save(new Account("ACC-J001", Money.of("100.00"), 7L));
+
+        // Act
+        account.withdraw(Money.of("10.00"));
+        accountRepository.save(account);
+        account.withdraw(Money.of("5.00"));
+        Account saved = accountRepository.save(account);
+        flush();
+
+        // Assert: una versión más, no dos
+        assertEquals(1L, account.getVersion());
+        assertEquals(1L, saved.getVersion());
+        Account found = accountRepository.findById(account.getId()).orElseThrow();
+        assertEquals(Money.of("85.00"), found.getBalance());
+        assertEquals(1L, found.getVersion());
+    }
+
+    @Test
+    @DisplayName("save() de la misma cuenta tras enviar su UPDATE debe partir de la nueva versión")
+    void save_ShouldUseNewVersion_WhenPreviousUpdateWasFlushed() {
+        // Arrange
+        Account account = accountRepository.save(new Account("ACC-J002", Money.of("100.00"), 7L));
+        account.withdraw(Money.of("10.00"));
+        accountRepository.save(account);
+        flush();
+
+        // Act
+        account.withdraw(Money.of("5.00"));
+        accountRepository.save(account);
+        flush();
+
+        // Assert
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT version FROM accounts WHERE id = ?", Long.class,
+                account.getId()));
+        assertEquals(Money.of("85.00"), accountRepository.findById(account.getId()).orElseThrow().getBalance());
+    }
+}
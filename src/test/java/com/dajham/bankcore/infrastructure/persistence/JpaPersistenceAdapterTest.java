@@ -0,0 +1,28 @@
+package com.dajham.bankcore.infrastructure.persistence;
+
+import com.dajham.bankcore.infrastructure.persistence.mapper.AccountMapper;
+import com.dajham.bankcore.infrastructure.persistence.mapper.TransactionMapper;
+import com.dajham.bankcore.infrastructure.persistence.repository.AccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.repository.JournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.repository.TransactionRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Contrato de persistencia ejecutado contra los adaptadores Spring Data JPA.
+ */
+@Import({ AccountRepositoryAdapter.class, TransactionRepositoryAdapter.class, JournalRepositoryAdapter.class,
+        AccountMapper.class, TransactionMapper.class })
+@DisplayName("Adaptadores JPA - Contrato de persistencia")
+class JpaPersistenceAdapterTest extends PersistenceAdapterContractTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Override
+    protected void flush() {
+        entityManager.flush();
+    }
+}
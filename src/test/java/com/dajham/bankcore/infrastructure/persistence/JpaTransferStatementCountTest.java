@@ -0,0 +1,113 @@
+package com.dajham.bankcore.infrastructure.persistence;
+
+import com.dajham.bankcore.application.dto.TransferRequest;
+import com.dajham.bankcore.application.service.TransferService;
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.mapper.AccountMapper;
+import com.dajham.bankcore.infrastructure.persistence.mapper.TransactionMapper;
+import com.dajham.bankcore.infrastructure.persistence.repository.AccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.repository.JournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.repository.TransactionRepositoryAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cuenta las sentencias SQL que ejecuta una transferencia sobre los
+ * adaptadores JPA: dos lecturas de cuenta, la inserción de la transacción, un
+ * lote con sus dos apuntes y otro con las dos actualizaciones, que el servicio
+ * envía antes de terminar.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ AccountRepositoryAdapter.class, TransactionRepositoryAdapter.class, JournalRepositoryAdapter.class,
+        AccountMapper.class, TransactionMapper.class })
+@DisplayName("Adaptadores JPA - Sentencias por transferencia")
+class JpaTransferStatementCountTest {
+
+    @Autowired
+    private AccountRepositoryPort accountRepository;
+
+    @Autowired
+    private TransactionRepositoryPort transactionRepository;
+
+    @Autowired
+    private JournalRepositoryPort journalRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Una transferencia debe ejecutar solo las lecturas y escrituras imprescindibles")
+    void transfer_ShouldExecuteMinimalStatements() {
+        // Arrange
+        TransferService transferService = new TransferService(accountRepository, transactionRepository,
+                journalRepository);
+        Long source = accountRepository.save(new Account("ACC-0001", Money.of("100.00"), 1L)).getId();
+        Long target = accountRepository.save(new Account("ACC-0002", Money.of("50.00"), 1L)).getId();
+        entityManager.flush();
+        // La primera transferencia reserva el bloque de IDs de los apuntes
+        transferService.transfer(new TransferRequest(source, target, new BigDecimal("25.00")));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        transferService.transfer(new TransferRequest(source, target, new BigDecimal("25.00")));
+        long updatesInService = statistics.getEntityUpdateCount();
+        entityManager.flush();
+
+        // Assert
+        assertEquals(2, updatesInService, "Los UPDATE deben salir en el servicio, no en el commit");
+        assertEquals(2, statistics.getEntityLoadCount());
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(Money.of("50.00"), accountRepository.findById(source).orElseThrow().getBalance());
+        assertEquals(Money.of("100.00"), accountRepository.findById(target).orElseThrow().getBalance());
+    }
+
+    @Test
+    @DisplayName("save() de una cuenta ya cargada no debe volver a leerla")
+    void save_ShouldNotReloadAccount_WhenLoadedInTransaction() {
+        // Arrange
+        Long id = accountRepository.save(new Account("ACC-0003", Money.of("10.00"), 1L)).getId();
+        entityManager.flush();
+        entityManager.clear();
+        Account account = accountRepository.findById(id).orElseThrow();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        account.deposit(Money.of("5.00"));
+        accountRepository.save(account);
+        accountRepository.save(account);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,216 @@
+package com.dajham.bankcore.infrastructure.persistence;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.JournalRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contrato común de los adaptadores de persistencia.
+ * Cada implementación de {@link AccountRepositoryPort},
+ * {@link TransactionRepositoryPort} y {@link JournalRepositoryPort} lo hereda y se ejecuta contra H2 con el
+ * esquema generado desde las entidades JPA.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+abstract class PersistenceAdapterContractTest {
+
+    @Autowired
+    protected AccountRepositoryPort accountRepository;
+
+    @Autowired
+    protected TransactionRepositoryPort transactionRepository;
+
+    @Autowired
+    protected JournalRepositoryPort journalRepository;
+
+    /**
+     * Envía a la base de datos las escrituras pendientes del adaptador.
+     */
+    protected abstract void flush();
+
+    @Test
+    @DisplayName("save() debe asignar ID y versión inicial a una cuenta nueva")
+    void save_ShouldAssignIdAndVersion_WhenAccountIsNew() {
+        // Act
+        Account saved = accountRepository.save(new Account("ACC-0001", Money.of("150.00"), 7L));
+
+        // Assert
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        Account found = accountRepository.findById(saved.getId()).orElseThrow();
+        assertEquals("ACC-0001", found.getAccountNumber());
+        assertEquals(Money.of("150.00"), found.getBalance());
+        assertEquals(7L, found.getUserId());
+    }
+
+    @Test
+    @DisplayName("save() debe persistir el nuevo saldo e incrementar la versión")
+    void save_ShouldPersistBalanceAndIncrementVersion_WhenAccountExists() {
+        // Arrange
+        Account account = accountRepository.save(new Account("ACC-0002", Money.of("100.00"), 7L));
+        account.withdraw(Money.of("40.00"));
+
+        // Act
+        accountRepository.save(account);
+        flush();
+
+        // Assert
+        Account found = accountRepository.findById(account.getId()).orElseThrow();
+        assertEquals(Money.of("60.00"), found.getBalance());
+        assertEquals(1L, found.getVersion());
+    }
+
+    @Test
+    @DisplayName("save() debe fallar con una versión obsoleta")
+    void save_ShouldFail_WhenVersionIsStale() {
+        // Arrange
+        Account account = accountRepository.save(new Account("ACC-0003", Money.of("100.00"), 7L));
+        Account stale = accountRepository.findById(account.getId()).orElseThrow();
+        account.deposit(Money.of("10"));
+        accountRepository.save(account);
+        flush();
+        stale.deposit(Money.of("1"));
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> {
+            accountRepository.save(stale);
+            flush();
+        });
+    }
+
+    @Test
+    @DisplayName("findByAccountNumber() no debe distinguir mayúsculas")
+    void findByAccountNumber_ShouldIgnoreCase() {
+        // Arrange
+        accountRepository.save(new Account("ACC-ABC1", Money.of("1"), 7L));
+
+        // Act & Assert
+        assertTrue(accountRepository.findByAccountNumber("acc-abc1").isPresent());
+        assertTrue(accountRepository.findByAccountNumber("ACC-NOPE").isEmpty());
+    }
+
+    @Test
+    @DisplayName("existsByAccountNumber() y findByUserId() deben reflejar las cuentas guardadas")
+    void existsAndFindByUserId_ShouldReflectSavedAccounts() {
+        // Arrange
+        accountRepository.save(new Account("ACC-U1-A", Money.of("1"), 11L));
+        accountRepository.save(new Account("ACC-U1-B", Money.of("1"), 11L));
+        accountRepository.save(new Account("ACC-U2-A", Money.of("1"), 12L));
+
+        // Act
+        List<Account> accounts = accountRepository.findByUserId(11L);
+
+        // Assert
+        assertTrue(accountRepository.existsByAccountNumber("ACC-U1-A"));
+        assertFalse(accountRepository.existsByAccountNumber("ACC-U9-Z"));
+        assertEquals(2, accounts.size());
+        assertTrue(accounts.stream().allMatch(a -> a.getUserId().equals(11L)));
+    }
+
+    @Test
+    @DisplayName("deleteById() debe eliminar la cuenta")
+    void deleteById_ShouldRemoveAccount() {
+        // Arrange
+        Account account = accountRepository.save(new Account("ACC-DEL1", Money.of("1"), 7L));
+
+        // Act
+        accountRepository.deleteById(account.getId());
+        flush();
+
+        // Assert
+        assertTrue(accountRepository.findById(account.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("forEachAccountKey() debe recorrer el ID y el número de cada cuenta")
+    void forEachAccountKey_ShouldVisitEveryAccount() {
+        // Arrange
+        Account first = accountRepository.save(new Account("ACC-0201", Money.of("1.00"), 9L));
+        Account second = accountRepository.save(new Account("ACC-0202", Money.of("2.00"), 9L));
+        flush();
+
+        // Act
+        Map<Long, String> keys = new HashMap<>();
+        accountRepository.forEachAccountKey(keys::put);
+
+        // Assert
+        assertEquals("ACC-0201", keys.get(first.getId()));
+        assertEquals("ACC-0202", keys.get(second.getId()));
+    }
+
+    @Test
+    @DisplayName("save() de transacción debe asignar ID y conservar la referencia")
+    void saveTransaction_ShouldAssignIdAndKeepReference() {
+        // Arrange
+        Transaction transaction = new Transaction(1L, 2L, Money.of("25.00"));
+
+        // Act
+        Transaction saved = transactionRepository.save(transaction);
+
+        // Assert
+        assertNotNull(saved.getId());
+        assertEquals(transaction.getReferenceCode(), saved.getReferenceCode());
+        assertEquals(Money.of("25.00"), saved.getAmount());
+    }
+
+    @Test
+    @DisplayName("append() debe acumular los apuntes en el saldo de cada cuenta")
+    void append_ShouldAccumulatePostingsPerAccount() {
+        // Arrange
+        long before = journalRepository.lastPostingId();
+        Transaction first = transactionRepository.save(new Transaction(101L, 102L, Money.of("30.00")));
+        Transaction second = transactionRepository.save(new Transaction(102L, 103L, Money.of("12.50")));
+
+        // Act
+        journalRepository.append(JournalEntry.transfer(first));
+        journalRepository.append(JournalEntry.transfer(second));
+        flush();
+
+        // Assert: los IDs crecen, aunque una secuencia puede dejar huecos
+        assertTrue(journalRepository.lastPostingId() >= before + 4);
+        assertEquals(Money.of("-30.00"), journalRepository.balanceOf(101L));
+        assertEquals(Money.of("17.50"), journalRepository.balanceOf(102L));
+        assertEquals(Money.of("12.50"), journalRepository.balanceOf(103L));
+        assertEquals(Money.ZERO, journalRepository.balanceOf(104L));
+    }
+
+    @Test
+    @DisplayName("sumByAccount() por rangos disjuntos debe coincidir con el diario completo")
+    void sumByAccount_ShouldMatchBalance_WhenRangesAreCombined() {
+        // Arrange
+        long before = journalRepository.lastPostingId();
+        for (int i = 0; i < 5; i++) {
+            journalRepository.append(JournalEntry.transfer(new Transaction(201L, 202L + i % 2, Money.of("1.25"))));
+        }
+        flush();
+        long last = journalRepository.lastPostingId();
+
+        // Act
+        Map<Long, Money> totals = new HashMap<>();
+        long middle = before + (last - before) / 2;
+        journalRepository.sumByAccount(before, middle).forEach((id, sum) -> totals.merge(id, sum, Money::plus));
+        journalRepository.sumByAccount(middle, last).forEach((id, sum) -> totals.merge(id, sum, Money::plus));
+
+        // Assert
+        assertEquals(Money.of("-6.25"), totals.get(201L));
+        assertEquals(Money.of("3.75"), totals.get(202L));
+        assertEquals(Money.of("2.50"), totals.get(203L));
+    }
+}
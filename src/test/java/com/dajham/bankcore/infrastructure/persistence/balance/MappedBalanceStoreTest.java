@@ -0,0 +1,113 @@
+package com.dajham.bankcore.infrastructure.persistence.balance;
+
+import com.dajham.bankcore.domain.model.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MappedBalanceStore.
+ */
+@DisplayName("MappedBalanceStore - Almacén de saldos mapeado")
+class MappedBalanceStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("update() debe guardar el saldo e ignorar versiones anteriores")
+    void update_ShouldKeepNewestVersion() {
+        // Arrange
+        try (MappedBalanceStore store = new MappedBalanceStore(dir.resolve("balances.dat"), 64)) {
+            store.update(7L, Money.of("150.25"), 3);
+
+            // Act
+            store.update(7L, Money.of("999.00"), 2);
+
+            // Assert
+            assertEquals(Money.of("150.25"), store.findBalance(7L).orElseThrow());
+            assertTrue(store.findBalance(8L).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("remove() debe ocultar el saldo aunque lleguen versiones anteriores")
+    void remove_ShouldHideBalance() {
+        // Arrange
+        try (MappedBalanceStore store = new MappedBalanceStore(dir.resolve("balances.dat"), 64)) {
+            store.update(7L, Money.of("10"), 0);
+
+            // Act
+            store.remove(7L);
+            store.update(7L, Money.of("1"), 1);
+
+            // Assert
+            assertTrue(store.findBalance(7L).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Los saldos deben sobrevivir a reabrir el fichero")
+    void balances_ShouldSurviveReopen() {
+        // Arrange
+        Path file = dir.resolve("balances.dat");
+        try (MappedBalanceStore store = new MappedBalanceStore(file, 1024)) {
+            for (long id = 1; id <= 500; id++) {
+                store.update(id, Money.ofMinor(id), 0);
+            }
+        }
+
+        // Act
+        try (MappedBalanceStore reopened = new MappedBalanceStore(file, 1024)) {
+            // Assert
+            for (long id = 1; id <= 500; id++) {
+                assertEquals(Money.ofMinor(id), reopened.findBalance(id).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Abrir con otra capacidad debe fallar")
+    void open_ShouldFail_WhenCapacityDiffers() {
+        // Arrange
+        Path file = dir.resolve("balances.dat");
+        new MappedBalanceStore(file, 64).close();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new MappedBalanceStore(file, 128));
+    }
+
+    @Test
+    @DisplayName("update() concurrente debe dejar la versión más alta de cada cuenta")
+    void update_ShouldKeepHighestVersion_WhenConcurrent() throws InterruptedException {
+        // Arrange
+        try (MappedBalanceStore store = new MappedBalanceStore(dir.resolve("balances.dat"), 256)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (long version = 0; version < 5_000; version++) {
+                        for (long id = 1; id <= 100; id++) {
+                            store.update(id, Money.ofMinor(version), version);
+                        }
+                    }
+                }));
+            }
+
+            // Act
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Assert
+            for (long id = 1; id <= 100; id++) {
+                assertEquals(Money.ofMinor(4_999), store.findBalance(id).orElseThrow());
+            }
+        }
+    }
+}
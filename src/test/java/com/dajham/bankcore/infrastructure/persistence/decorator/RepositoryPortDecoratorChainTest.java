@@ -0,0 +1,104 @@
+package com.dajham.bankcore.infrastructure.persistence.decorator;
+
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.domain.port.TransactionRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.repository.AccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.repository.TransactionRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.support.PersistenceExceptionTranslationInterceptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fija la cadena de decoradores de los puertos de persistencia con todas las
+ * funcionalidades que los envuelven activadas, y comprueba que el adaptador
+ * conserva el proxy de traducción de excepciones de {@code @Repository}.
+ */
+@SpringBootTest(properties = {
+        "bankcore.db-limiter.enabled=true",
+        "bankcore.balance-store.enabled=true",
+        "bankcore.balance-store.path=${java.io.tmpdir}/bankcore-decorator-chain-balances.dat",
+        "bankcore.account-filter.enabled=true",
+        "bankcore.rate-limit.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:decorators;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("Decoradores de persistencia - Orden de la cadena")
+class RepositoryPortDecoratorChainTest {
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Test
+    @DisplayName("el puerto de cuentas debe envolver al adaptador en el orden declarado")
+    void accountPort_ShouldWrapAdapterInDeclaredOrder() {
+        // Act
+        List<Object> chain = chainOf(accountRepositoryPort);
+
+        // Assert
+        assertEquals(List.of(
+                "ExistenceFilteredAccountRepository",
+                "FlightRecordedAccountRepository",
+                "BalanceTrackingAccountRepository",
+                "AdmissionControlledAccountRepository"),
+                decoratorNames(chain));
+        assertTranslatingProxyOf(AccountRepositoryAdapter.class, chain.get(chain.size() - 1));
+    }
+
+    @Test
+    @DisplayName("el puerto de transacciones debe envolver al adaptador en el orden declarado")
+    void transactionPort_ShouldWrapAdapterInDeclaredOrder() {
+        // Act
+        List<Object> chain = chainOf(transactionRepositoryPort);
+
+        // Assert
+        assertEquals(List.of(
+                "FlightRecordedTransactionRepository",
+                "AdmissionControlledTransactionRepository"),
+                decoratorNames(chain));
+        assertTranslatingProxyOf(TransactionRepositoryAdapter.class, chain.get(chain.size() - 1));
+    }
+
+    private static List<Object> chainOf(Object port) {
+        List<Object> chain = new ArrayList<>();
+        Object current = port;
+        while (!AopUtils.isAopProxy(current)) {
+            chain.add(current);
+            current = ReflectionTestUtils.getField(current, "delegate");
+            assertNotNull(current, "Cada decorador debe tener un delegado");
+        }
+        chain.add(current);
+        return chain;
+    }
+
+    private static List<String> decoratorNames(List<Object> chain) {
+        return chain.subList(0, chain.size() - 1).stream()
+                .map(decorator -> decorator.getClass().getSimpleName())
+                .toList();
+    }
+
+    private static void assertTranslatingProxyOf(Class<?> adapterClass, Object proxy) {
+        assertEquals(adapterClass, AopUtils.getTargetClass(proxy));
+        assertTrue(Arrays.stream(((Advised) proxy).getAdvisors())
+                .anyMatch(advisor -> advisor.getAdvice() instanceof PersistenceExceptionTranslationInterceptor),
+                "El adaptador debe conservar la traducción de excepciones");
+    }
+}
@@ -0,0 +1,145 @@
+package com.dajham.bankcore.infrastructure.persistence.existence;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para el filtro de existencia de cuentas.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExistenceFilteredAccountRepository - Filtro de existencia de cuentas")
+class ExistenceFilteredAccountRepositoryTest {
+
+    @Mock
+    private AccountRepositoryPort delegate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountExistenceFilter filter;
+    private ExistenceFilteredAccountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AccountExistenceFilter(new AccountFilterProperties(true, 10_000, 0.01), meterRegistry);
+        repository = new ExistenceFilteredAccountRepository(delegate, filter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(long... ids) {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            BiConsumer<Long, String> consumer = invocation.getArgument(0);
+            for (long id : ids) {
+                consumer.accept(id, "acc-" + id);
+            }
+            return null;
+        }).when(delegate).forEachAccountKey(any(BiConsumer.class));
+        filter.load(delegate, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Antes de cargarse, todas las búsquedas deben llegar al repositorio")
+    void findById_ShouldDelegate_WhenFilterNotLoaded() {
+        // Arrange
+        when(delegate.findById(42L)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Account> result = repository.findById(42L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(delegate).findById(42L);
+        assertEquals(0.0, meterRegistry.counter("bankcore.account.filter.false.positives", "key", "id").count());
+    }
+
+    @Test
+    @DisplayName("Una vez cargado, debe descartar sin consultar los IDs y números inexistentes")
+    void find_ShouldSkipRepository_WhenKeyIsUnknown() {
+        // Arrange
+        load(1L, 2L, 3L);
+
+        // Act
+        Optional<Account> byId = repository.findById(999_999L);
+        Optional<Account> byNumber = repository.findByAccountNumber("ACC-999999");
+        boolean exists = repository.existsByAccountNumber("ACC-999999");
+
+        // Assert
+        assertTrue(byId.isEmpty());
+        assertTrue(byNumber.isEmpty());
+        assertFalse(exists);
+        verify(delegate, never()).findById(any());
+        verify(delegate, never()).findByAccountNumber(any());
+        verify(delegate, never()).existsByAccountNumber(any());
+        assertEquals(1.0, meterRegistry.counter("bankcore.account.filter.rejected", "key", "id").count());
+        assertEquals(2.0, meterRegistry.counter("bankcore.account.filter.rejected", "key", "number").count());
+    }
+
+    @Test
+    @DisplayName("Las cuentas cargadas o guardadas deben llegar siempre al repositorio")
+    void find_ShouldDelegate_WhenAccountIsKnown() {
+        // Arrange
+        load(1L);
+        Account created = new Account(7L, "ACC-7", Money.of("10.00"), 1L);
+        when(delegate.save(any())).thenReturn(created);
+        repository.save(new Account("ACC-7", Money.of("10.00"), 1L));
+        when(delegate.findById(1L)).thenReturn(Optional.of(new Account(1L, "ACC-1", Money.ZERO, 1L)));
+        when(delegate.findByAccountNumber("acc-7")).thenReturn(Optional.of(created));
+
+        // Act
+        Optional<Account> loaded = repository.findById(1L);
+        Optional<Account> saved = repository.findByAccountNumber("acc-7");
+
+        // Assert
+        assertTrue(loaded.isPresent());
+        assertTrue(saved.isPresent());
+        assertEquals(0.0, meterRegistry.counter("bankcore.account.filter.rejected", "key", "id").count());
+    }
+
+    @Test
+    @DisplayName("El filtro de Bloom no debe dar falsos negativos y debe respetar la tasa configurada")
+    void bloomFilter_ShouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        // Arrange
+        BloomFilter bloom = new BloomFilter(100_000, 0.01);
+        for (long id = 0; id < 100_000; id++) {
+            bloom.put(id);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (long id = 100_000; id < 200_000; id++) {
+            if (bloom.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        for (long id = 0; id < 100_000; id++) {
+            assertTrue(bloom.mightContain(id));
+        }
+        assertTrue(falsePositives < 2_000, "Falsos positivos: " + falsePositives);
+        assertTrue(bloom.expectedFalsePositiveRate() < 0.02);
+    }
+}
@@ -0,0 +1,130 @@
+package com.dajham.bankcore.infrastructure.persistence.journal;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.JournalEntry;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.Transaction;
+import com.dajham.bankcore.domain.port.AccountRepositoryPort;
+import com.dajham.bankcore.infrastructure.persistence.journal.JournalReplayService.BalanceDiscrepancy;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryAccountRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryJournalRepositoryAdapter;
+import com.dajham.bankcore.infrastructure.persistence.memory.InMemoryTransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests de JournalReplayService sobre los adaptadores en memoria.
+ */
+@DisplayName("JournalReplayService - Verificación de saldos")
+class JournalReplayServiceTest {
+
+    private AccountRepositoryPort accountRepository;
+    private InMemoryJournalRepositoryAdapter journalRepository;
+    private JournalReplayService replayService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = spy(new InMemoryAccountRepositoryAdapter(16));
+        journalRepository = new InMemoryJournalRepositoryAdapter();
+        InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+        replayService = new JournalReplayService(journalRepository, accountRepository,
+                transactionManager, new JournalProperties(2, "-"));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("verify() debe leer los saldos en una sola consulta cuando todo cuadra")
+    void verify_ShouldReadBalancesOnce_WhenJournalMatches() {
+        // Arrange
+        Account source = open("ACC-R001", "100.00");
+        Account target = open("ACC-R002", "0.00");
+        journalRepository.append(JournalEntry.transfer(
+                new Transaction(source.getId(), target.getId(), Money.of("40.00"))));
+        source.withdraw(Money.of("40.00"));
+        target.deposit(Money.of("40.00"));
+        accountRepository.save(source);
+        accountRepository.save(target);
+
+        // Act
+        List<BalanceDiscrepancy> discrepancies = replayService.verify();
+
+        // Assert
+        assertTrue(discrepancies.isEmpty());
+        verify(accountRepository, times(1)).forEachAccountBalance(any());
+        verify(accountRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("verify() debe devolver la cuenta cuyo saldo no coincide con el diario")
+    void verify_ShouldReturnDiscrepancy_WhenBalanceDiffers() {
+        // Arrange
+        Account account = open("ACC-R003", "100.00");
+        account.deposit(Money.of("5.00"));
+        accountRepository.save(account);
+
+        // Act
+        List<BalanceDiscrepancy> discrepancies = replayService.verify();
+
+        // Assert
+        assertEquals(List.of(new BalanceDiscrepancy(account.getId(), Money.of("105.00"), Money.of("100.00"))),
+                discrepancies);
+    }
+
+    @Test
+    @DisplayName("recheck() no debe ver como diferencia una transferencia confirmada entre sus dos lecturas")
+    void recheck_ShouldIgnoreTransfer_CommittedBetweenReads() throws Exception {
+        // Arrange: tras leer la cuenta, otra transacción intenta confirmar una
+        // transferencia antes de que se lea el diario
+        Account source = open("ACC-R004", "100.00");
+        Account target = open("ACC-R005", "0.00");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?>[] transfer = new Future<?>[1];
+        doAnswer(invocation -> {
+            Object read = invocation.callRealMethod();
+            transfer[0] = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                journalRepository.append(JournalEntry.transfer(
+                        new Transaction(source.getId(), target.getId(), Money.of("40.00"))));
+                source.withdraw(Money.of("40.00"));
+                target.deposit(Money.of("40.00"));
+                accountRepository.save(source);
+                accountRepository.save(target);
+            }));
+            assertThrows(TimeoutException.class, () -> transfer[0].get(200, TimeUnit.MILLISECONDS));
+            return read;
+        }).when(accountRepository).findById(source.getId());
+
+        try {
+            // Act
+            BalanceDiscrepancy discrepancy = replayService.recheck(source.getId());
+
+            // Assert: el commit esperó a la comprobación y luego se aplicó entero
+            assertNull(discrepancy);
+            transfer[0].get(5, TimeUnit.SECONDS);
+            assertEquals(Money.of("60.00"), journalRepository.balanceOf(source.getId()));
+            assertEquals(Money.of("40.00"), journalRepository.balanceOf(target.getId()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Account open(String accountNumber, String balance) {
+        Account account = accountRepository.save(new Account(accountNumber, Money.of(balance), 1L));
+        if (account.getBalance().isPositive()) {
+            journalRepository.append(JournalEntry.opening(accountNumber, account));
+        }
+        return account;
+    }
+}
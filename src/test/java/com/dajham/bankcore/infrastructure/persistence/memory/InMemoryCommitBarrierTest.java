@@ -0,0 +1,78 @@
+package com.dajham.bankcore.infrastructure.persistence.memory;
+
+import com.dajham.bankcore.domain.model.Account;
+import com.dajham.bankcore.domain.model.Money;
+import com.dajham.bankcore.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de InMemoryCommitBarrier sobre los adaptadores en memoria.
+ * Verifica que un commit que escribe en varios adaptadores espera mientras se
+ * toma una instantánea, y que la instantánea ve el commit completo o nada.
+ */
+@DisplayName("InMemoryCommitBarrier - Commits frente a instantáneas")
+class InMemoryCommitBarrierTest {
+
+    private InMemoryAccountRepositoryAdapter accountRepository;
+    private InMemoryTransactionRepositoryAdapter transactionRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepositoryAdapter(16);
+        transactionRepository = new InMemoryTransactionRepositoryAdapter(16);
+        transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+    }
+
+    @Test
+    @DisplayName("exclusive() debe retener el commit hasta terminar y no verlo a medias")
+    void exclusive_ShouldHoldCommit_UntilActionEnds() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Act: un commit de cuenta y transacción empieza durante la copia
+            int[] seen = InMemoryCommitBarrier.exclusive(() -> {
+                Future<?> commit = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    accountRepository.save(new Account("ACC-B001", Money.of("10.00"), 1L));
+                    transactionRepository.save(new Transaction(1L, 2L, Money.of("1.00")));
+                }));
+                assertThrows(TimeoutException.class, () -> commit.get(200, TimeUnit.MILLISECONDS));
+                return new int[] { accountRepository.snapshot().size(), transactionRepository.count() };
+            });
+
+            // Assert
+            assertArrayEquals(new int[] { 0, 0 }, seen);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(1, accountRepository.snapshot().size());
+            assertEquals(1, transactionRepository.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("exclusive() no debe esperar a una transacción que aún no ha llegado al commit")
+    void exclusive_ShouldNotWait_ForTransactionBeforeCommit() {
+        // Arrange & Act: la instantánea se toma dentro de la transacción abierta
+        int seen = transactionTemplate.execute(status -> {
+            accountRepository.save(new Account("ACC-B002", Money.of("10.00"), 1L));
+            return InMemoryCommitBarrier.exclusive(() -> accountRepository.snapshot().size());
+        });
+
+        // Assert
+        assertEquals(0, seen);
+        assertEquals(1, accountRepository.snapshot().size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.dajham.bankcore.infrastructure.persistence.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MonthlyPartitions.
+ */
+@DisplayName("MonthlyPartitions - Particiones mensuales de transacciones")
+class MonthlyPartitionsTest {
+
+    @Test
+    @DisplayName("El nombre de la partición debe poder volver a leerse como su mes")
+    void nameAndParse_ShouldRoundTrip() {
+        // Arrange
+        YearMonth month = YearMonth.of(2025, 3);
+
+        // Act
+        String name = MonthlyPartitions.name(month);
+
+        // Assert
+        assertEquals("transactions_p202503", name);
+        assertEquals(Optional.of(month), MonthlyPartitions.parse(name));
+        assertTrue(MonthlyPartitions.parse("transactions_legacy").isEmpty());
+        assertTrue(MonthlyPartitions.parse("transactions_default").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe leer el límite superior de la expresión de PostgreSQL")
+    void upperBound_ShouldParsePartitionExpression() {
+        // Arrange
+        String bound = "FOR VALUES FROM (MINVALUE) TO ('2025-02-01 00:00:00')";
+
+        // Act & Assert
+        assertEquals(Optional.of(YearMonth.of(2025, 2)), MonthlyPartitions.upperBound(bound));
+        assertTrue(MonthlyPartitions.upperBound("DEFAULT").isEmpty());
+        assertEquals("'2025-02-01 00:00:00'", MonthlyPartitions.lowerBound(YearMonth.of(2025, 2)));
+    }
+
+    @Test
+    @DisplayName("Debe crear desde el primer mes sin cubrir hasta los meses por adelantado")
+    void monthsToCreate_ShouldStartAfterLegacyRange() {
+        // Arrange
+        YearMonth current = YearMonth.of(2025, 11);
+
+        // Act
+        List<YearMonth> afterLegacy = MonthlyPartitions.monthsToCreate(current, YearMonth.of(2025, 12), 3);
+        List<YearMonth> fromCurrent = MonthlyPartitions.monthsToCreate(current, YearMonth.of(2024, 1), 2);
+
+        // Assert
+        assertEquals(List.of(YearMonth.of(2025, 12), YearMonth.of(2026, 1), YearMonth.of(2026, 2)), afterLegacy);
+        assertEquals(List.of(YearMonth.of(2025, 11), YearMonth.of(2025, 12), YearMonth.of(2026, 1)), fromCurrent);
+    }
+
+    @Test
+    @DisplayName("Solo deben caducar los meses anteriores al periodo de retención")
+    void isExpired_ShouldKeepRetentionWindow() {
+        // Arrange
+        YearMonth current = YearMonth.of(2025, 1);
+
+        // Act & Assert
+        assertFalse(MonthlyPartitions.isExpired(YearMonth.of(2025, 1), current, 24));
+        assertFalse(MonthlyPartitions.isExpired(YearMonth.of(2023, 1), current, 24));
+        assertTrue(MonthlyPartitions.isExpired(YearMonth.of(2022, 12), current, 24));
+    }
+}
@@ -0,0 +1,133 @@
+package com.dajham.bankcore.infrastructure.persistence.partition;
+
+import com.dajham.bankcore.BankCoreApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test de integración del particionado sobre PostgreSQL real. Arranca la
+ * aplicación sobre una base de datos nueva, aplica la migración V2 como lo
+ * haría Flyway (un solo script en una transacción) y vuelve a arrancar con la
+ * tabla particionada, que es el caso en que {@code ddl-auto: update} debe
+ * aceptar el esquema. Los errores de DDL de Hibernate detienen el arranque.
+ * Sin Docker se omite en local; en CI (variable {@code CI}) falla.
+ */
+@DisplayName("TransactionPartitionManager - PostgreSQL")
+class TransactionPartitionManagerPostgresTest {
+
+    private static final String MIGRATION = "db/migration/postgresql/V2__partition_transactions.sql";
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @BeforeAll
+    static void startPostgres() {
+        assumeTrue(System.getenv("CI") != null || DockerClientFactory.instance().isDockerAvailable(),
+                "Docker no disponible");
+        POSTGRES.start();
+    }
+
+    @AfterAll
+    static void stopPostgres() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("La migración debe particionar la tabla y mantener el código de referencia único")
+    void migration_ShouldPartitionTable_AndKeepReferenceCodeUnique() throws IOException {
+        // Arrange: tabla sin particionar con un movimiento de hace un año; el
+        // arranque con el particionado activo no debe tocar el esquema
+        UUID legacyCode = UUID.randomUUID();
+        try (ConfigurableApplicationContext context = start()) {
+            insert(context, legacyCode, LocalDateTime.now().minusYears(1));
+            assertFalse(isPartitioned(new JdbcTemplate(context.getBean(DataSource.class))));
+        }
+
+        // Act
+        migrate();
+
+        // Assert: el mantenimiento del arranque crea el mes actual en la zona
+        // de la aplicación y Hibernate acepta la tabla particionada
+        try (ConfigurableApplicationContext context = start()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+            assertTrue(isPartitioned(jdbcTemplate));
+
+            UUID code = UUID.randomUUID();
+            insert(context, code, LocalDateTime.now());
+            assertEquals(MonthlyPartitions.name(YearMonth.now()), jdbcTemplate.queryForObject(
+                    "SELECT tableoid::regclass::text FROM transactions WHERE reference_code = ?", String.class, code));
+            assertEquals("transactions_legacy", jdbcTemplate.queryForObject(
+                    "SELECT tableoid::regclass::text FROM transactions WHERE reference_code = ?", String.class,
+                    legacyCode));
+            assertThrows(DuplicateKeyException.class, () -> insert(context, code, LocalDateTime.now().plusMonths(1)),
+                    "Mismo código en otra partición");
+            assertThrows(DuplicateKeyException.class, () -> insert(context, legacyCode, LocalDateTime.now()),
+                    "Código ya presente en transactions_legacy");
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BankCoreApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.properties.hibernate.hbm2ddl.halt_on_error=true",
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--bankcore.partitioning.enabled=true",
+                "--bankcore.partitioning.archive-directory=" + archiveDirectory);
+    }
+
+    private static void migrate() throws IOException {
+        String script = new ClassPathResource(MIGRATION).getContentAsString(StandardCharsets.UTF_8);
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status ->
+                new JdbcTemplate(dataSource).execute(script));
+    }
+
+    private static boolean isPartitioned(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid"
+                        + " WHERE c.relname = 'transactions'", Integer.class) == 1;
+    }
+
+    private static void insert(ConfigurableApplicationContext context, UUID referenceCode, LocalDateTime timestamp) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO transactions"
+                                + " (source_account_id, target_account_id, amount, \"timestamp\", reference_code, created_at)"
+                                + " VALUES (1, 2, 10.00, ?, ?, now())",
+                        Timestamp.valueOf(timestamp), referenceCode));
+    }
+}
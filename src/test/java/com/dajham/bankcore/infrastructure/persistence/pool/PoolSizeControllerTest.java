@@ -0,0 +1,121 @@
+package com.dajham.bankcore.infrastructure.persistence.pool;
+
+import com.dajham.bankcore.infrastructure.persistence.pool.PoolSizingDecision.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PoolSizeController.
+ * Verifica el crecimiento con espera, el bloqueo cuando la base de datos se
+ * degrada y la reducción con histéresis.
+ */
+@DisplayName("PoolSizeController - Pool Sizing Tests")
+class PoolSizeControllerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-31T23:00:00Z");
+
+    private PoolSizeController controller;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: pool entre 4 y 20, crece tras 2 evaluaciones y se reduce tras 3
+        controller = new PoolSizeController(new PoolSizingProperties(true, 4, 20, Duration.ofSeconds(15),
+                Duration.ofMillis(5), 1.5, 1.25, 4, 2, 3, 0.5, 20, 10));
+    }
+
+    /**
+     * Periodo de 15 s con el número de entregas indicado y un tiempo de uso
+     * de 10 ms salvo que se indique otro.
+     */
+    private static PoolSample sample(long acquisitions, double waitMillis, double usageMillis, int pending) {
+        return new PoolSample(15, acquisitions, waitMillis, usageMillis, 0, 0, pending, 0, 0);
+    }
+
+    @Test
+    @DisplayName("debe crecer hacia la demanda tras varias evaluaciones con espera")
+    void evaluate_ShouldGrow_AfterConsecutiveWaits() {
+        // Arrange: 1.000 entregas/s x 10 ms = 10 conexiones, objetivo 13
+        PoolSample waiting = sample(15_000, 20, 10, 3);
+
+        // Act
+        PoolSizingDecision first = controller.evaluate(waiting, 10, NOW);
+        PoolSizingDecision second = controller.evaluate(waiting, 10, NOW);
+
+        // Assert
+        assertEquals(Action.HOLD, first.action(), "Una sola evaluación con espera no basta");
+        assertEquals(Action.GROW, second.action());
+        assertEquals(13, second.targetSize());
+        assertEquals(13, second.newSize());
+    }
+
+    @Test
+    @DisplayName("debe crecer cuando los hilos esperan en la compuerta aunque Hikari no registre espera")
+    void evaluate_ShouldGrow_WhenCallersQueueAtTheGate() {
+        // Arrange: la compuerta tiene tantos permisos como conexiones, así que
+        // Hikari entrega sin espera mientras los hilos hacen cola antes
+        PoolSample gated = new PoolSample(15, 15_000, 0, 10, 10, 0, 0, 40, 25);
+
+        // Act
+        controller.evaluate(gated, 10, NOW);
+        PoolSizingDecision decision = controller.evaluate(gated, 10, NOW);
+
+        // Assert
+        assertEquals(Action.GROW, decision.action());
+        assertEquals(13, decision.newSize());
+        assertTrue(decision.reason().contains("25 hilos esperando"), decision.reason());
+    }
+
+    @Test
+    @DisplayName("no debe crecer si la base de datos responde más lento que su referencia")
+    void evaluate_ShouldHold_WhenDatabaseIsDegraded() {
+        // Arrange: referencia de 10 ms sin espera
+        controller.evaluate(sample(15_000, 0, 10, 0), 13, NOW);
+
+        // Act: hay espera, pero cada conexión tarda el triple
+        PoolSizingDecision first = controller.evaluate(sample(5_000, 50, 30, 8), 13, NOW);
+        PoolSizingDecision second = controller.evaluate(sample(5_000, 50, 30, 8), 13, NOW);
+
+        // Assert
+        assertEquals(Action.HOLD, first.action());
+        assertEquals(Action.HOLD, second.action());
+        assertEquals(13, second.newSize());
+        assertTrue(second.reason().contains("referencia"), second.reason());
+    }
+
+    @Test
+    @DisplayName("debe reducirse por pasos tras varias evaluaciones con holgura y sin bajar del mínimo")
+    void evaluate_ShouldShrinkStepwise_DownToMinSize() {
+        // Arrange: 100 entregas/s x 10 ms = 1 conexión; el objetivo queda en el mínimo
+        PoolSample quiet = sample(1_500, 0.1, 10, 0);
+
+        // Act
+        controller.evaluate(quiet, 20, NOW);
+        PoolSizingDecision held = controller.evaluate(quiet, 20, NOW);
+        PoolSizingDecision shrunk = controller.evaluate(quiet, 20, NOW);
+        PoolSizingDecision afterShrink = controller.evaluate(quiet, 16, NOW);
+        controller.evaluate(quiet, 6, NOW);
+        PoolSizingDecision atMinimum = controller.evaluate(quiet, 6, NOW);
+
+        // Assert
+        assertEquals(Action.HOLD, held.action());
+        assertEquals(Action.SHRINK, shrunk.action());
+        assertEquals(16, shrunk.newSize(), "Como mucho step conexiones por decisión");
+        assertEquals(Action.HOLD, afterShrink.action(), "La racha empieza de cero tras un cambio");
+        assertEquals(Action.SHRINK, atMinimum.action());
+        assertEquals(4, atMinimum.newSize());
+    }
+
+    @Test
+    @DisplayName("debe rechazar límites inválidos")
+    void constructor_ShouldRejectInvalidBounds() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new PoolSizeController(new PoolSizingProperties(
+                true, 10, 5, Duration.ofSeconds(15), Duration.ofMillis(5), 1.5, 1.25, 4, 2, 3, 0.5, 20, 10)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para AdaptiveConcurrencyLimiter.
+ * Verifica el rechazo inmediato y la adaptación del límite a la latencia.
+ */
+@DisplayName("AdaptiveConcurrencyLimiter - Resilience Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private AdaptiveConcurrencyLimiter newLimiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(true, initial, min, max, 0.5, 1.5, 100));
+    }
+
+    @Test
+    @DisplayName("tryAcquire() debe rechazar sin esperar cuando se alcanza el límite")
+    void tryAcquire_ShouldReject_WhenLimitIsReached() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = newLimiter(2, 1, 10);
+
+        // Act
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third, "La tercera operación debe rechazarse");
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("el límite debe bajar cuando la latencia crece bajo carga")
+    void limit_ShouldDecrease_WhenLatencyGrows() {
+        // Arrange: establecer una latencia de referencia de 5 ms con carga plena
+        AdaptiveConcurrencyLimiter limiter = newLimiter(10, 2, 20);
+        runAtFullLoad(limiter, 5 * MILLIS, 20);
+        int stableLimit = limiter.getLimit();
+
+        // Act: la latencia se multiplica por 10 (cola en el pool)
+        runAtFullLoad(limiter, 50 * MILLIS, 2);
+
+        // Assert
+        assertTrue(limiter.getLimit() < stableLimit,
+                "El límite debe reducirse: antes=" + stableLimit + ", después=" + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 2, "El límite no debe bajar del mínimo");
+    }
+
+    @Test
+    @DisplayName("el límite debe crecer hasta el máximo cuando la latencia es estable")
+    void limit_ShouldGrow_WhenLatencyIsStable() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = newLimiter(4, 2, 12);
+
+        // Act
+        runAtFullLoad(limiter, 5 * MILLIS, 200);
+
+        // Assert
+        assertEquals(12, limiter.getLimit());
+    }
+
+    /**
+     * Ocupa todo el límite y libera las operaciones con la latencia indicada.
+     */
+    private void runAtFullLoad(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dajham.bankcore.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DatabaseGate.
+ * Verifica la contabilidad de la espera que usa el dimensionado del pool.
+ */
+@DisplayName("DatabaseGate - Resilience Tests")
+class DatabaseGateTest {
+
+    @Test
+    @DisplayName("acquire() no debe contar espera cuando hay permisos libres")
+    void acquire_ShouldNotRecordWait_WhenPermitIsFree() {
+        // Arrange
+        DatabaseGate gate = new DatabaseGate(new DatabaseGateProperties(true, 2, Duration.ofSeconds(1)));
+
+        // Act
+        gate.acquire();
+        gate.acquire();
+
+        // Assert
+        assertEquals(2, gate.getAcquireCount());
+        assertEquals(0, gate.getTotalWaitNanos());
+    }
+
+    @Test
+    @DisplayName("acquire() debe contar la espera también cuando agota el tiempo")
+    void acquire_ShouldRecordWait_WhenItTimesOut() {
+        // Arrange
+        DatabaseGate gate = new DatabaseGate(new DatabaseGateProperties(true, 1, Duration.ofMillis(50)));
+        gate.acquire();
+
+        // Act
+        assertThrows(DatabaseOverloadedException.class, gate::acquire);
+
+        // Assert
+        assertEquals(2, gate.getAcquireCount());
+        assertTrue(gate.getTotalWaitNanos() >= Duration.ofMillis(50).toNanos(),
+                "Espera registrada: " + gate.getTotalWaitNanos() + " ns");
+    }
+}
@@ -0,0 +1,184 @@
+package com.dajham.bankcore.infrastructure.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RateLimitingFilter.
+ * Verifica los límites por IP y por usuario y la respuesta 429. Cada petición
+ * pasa por las dos fases del filtro; entre ambas se simula la autenticación
+ * que hace {@code JwtAuthenticationFilter}.
+ */
+@DisplayName("RateLimitingFilter - Security Filter Tests")
+class RateLimitingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: transferencias con ráfaga de 2 por usuario y 3 por IP, reposición
+        // muy lenta
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties properties = new RateLimitProperties(
+                true,
+                Duration.ofMinutes(10),
+                1000,
+                List.of(new RateLimitProperties.Group(
+                        "transfers",
+                        "/api/v1/transfers/**",
+                        "POST",
+                        new RateLimitProperties.Limit(3, 0.01),
+                        new RateLimitProperties.Limit(2, 0.01))));
+        filter = new RateLimitingFilter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("debe rechazar con 429 y Retry-After cuando el usuario agota su cuota")
+    void shouldReject_WhenUserQuotaIsExhausted() throws Exception {
+        // Act
+        MockHttpServletResponse first = execute("10.0.0.1", "alice");
+        MockHttpServletResponse second = execute("10.0.0.1", "alice");
+        MockHttpServletResponse third = execute("10.0.0.1", "alice");
+
+        // Assert
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus(), "La tercera petición debe superar la ráfaga del usuario");
+        assertNotNull(third.getHeader("Retry-After"), "Debe indicar cuándo reintentar");
+        assertTrue(Long.parseLong(third.getHeader("Retry-After")) >= 1);
+        assertEquals(1.0, meterRegistry.get("bankcore.ratelimit.rejected")
+                .tag("scope", "user").counter().count());
+    }
+
+    @Test
+    @DisplayName("debe aplicar el límite por IP aunque cada petición sea de un usuario distinto")
+    void shouldApplyIpLimit_AcrossDifferentUsers() throws Exception {
+        // Act
+        execute("10.0.0.2", "user-1");
+        execute("10.0.0.2", "user-2");
+        execute("10.0.0.2", "user-3");
+        MockHttpServletResponse fourth = execute("10.0.0.2", "user-4");
+
+        // Assert
+        assertEquals(429, fourth.getStatus(), "La IP debe quedar limitada tras 3 peticiones");
+        assertEquals(1.0, meterRegistry.get("bankcore.ratelimit.rejected")
+                .tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("no debe gastar el token de la IP cuando rechaza la petición por el usuario")
+    void shouldKeepIpToken_WhenUserQuotaRejects() throws Exception {
+        // Arrange: el usuario agota su ráfaga y la tercera petición se rechaza
+        execute("10.0.0.3", "carol");
+        execute("10.0.0.3", "carol");
+        MockHttpServletResponse rejected = execute("10.0.0.3", "carol");
+
+        // Act
+        MockHttpServletResponse other = execute("10.0.0.3", "dave");
+        MockHttpServletResponse overIp = execute("10.0.0.3", "erin");
+
+        // Assert
+        assertEquals(429, rejected.getStatus());
+        assertEquals(200, other.getStatus(), "La IP aún debe tener su tercer token");
+        assertEquals(429, overIp.getStatus(), "La IP debe quedar limitada tras 3 peticiones aceptadas");
+        assertEquals(1.0, meterRegistry.get("bankcore.ratelimit.rejected")
+                .tag("scope", "user").counter().count());
+        assertEquals(1.0, meterRegistry.get("bankcore.ratelimit.rejected")
+                .tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("debe limitar al usuario verificado aunque envíe un token distinto en cada petición")
+    void shouldLimitVerifiedUser_WhenTokenChanges() throws Exception {
+        // Act
+        MockHttpServletResponse first = execute("10.0.0.4", "frank", "Bearer token-1");
+        MockHttpServletResponse second = execute("10.0.0.5", "frank", "Bearer token-2");
+        MockHttpServletResponse third = execute("10.0.0.6", "frank", "Bearer token-3");
+
+        // Assert
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus(), "El bucket es del usuario, no del token");
+    }
+
+    @Test
+    @DisplayName("debe rechazar las claves nuevas cuando no quedan buckets libres")
+    void shouldRejectNewKeys_WhenBucketsAreFull() throws Exception {
+        // Arrange: un solo bucket por ámbito
+        filter = new RateLimitingFilter(new RateLimitProperties(
+                true,
+                Duration.ofMinutes(10),
+                1,
+                List.of(new RateLimitProperties.Group(
+                        "transfers",
+                        "/api/v1/transfers/**",
+                        "POST",
+                        new RateLimitProperties.Limit(3, 0.01),
+                        null))), meterRegistry);
+        execute("10.0.0.7", "grace");
+
+        // Act
+        MockHttpServletResponse newIp = execute("10.0.0.8", "grace");
+        MockHttpServletResponse knownIp = execute("10.0.0.7", "grace");
+
+        // Assert
+        assertEquals(429, newIp.getStatus(), "Con el mapa lleno no debe dejar pasar sin límite");
+        assertEquals(200, knownIp.getStatus());
+    }
+
+    @Test
+    @DisplayName("no debe limitar las rutas que no pertenecen a ningún grupo")
+    void shouldNotLimit_WhenPathDoesNotMatchAnyGroup() throws Exception {
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse execute(String ip, String username) throws Exception {
+        return execute(ip, username, "Bearer token-" + username);
+    }
+
+    private MockHttpServletResponse execute(String ip, String username, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/transfers");
+        request.setRemoteAddr(ip);
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Filter authenticate = (req, res, chain) -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(username, null, List.of()));
+            chain.doFilter(req, res);
+        };
+        try {
+            new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse res) {
+                    // Petición aceptada: 200 por defecto
+                }
+            }, filter, authenticate, filter.userLimitFilter()).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
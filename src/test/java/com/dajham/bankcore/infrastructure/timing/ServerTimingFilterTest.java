@@ -0,0 +1,89 @@
+package com.dajham.bankcore.infrastructure.timing;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ServerTimingFilter.
+ * Verifica que solo las peticiones con el token reciben la cabecera y que el
+ * contexto no sobrevive a la petición.
+ */
+@DisplayName("ServerTimingFilter - Timing Tests")
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, "s3cret"));
+
+    @Test
+    @DisplayName("debe devolver las etapas medidas cuando la petición trae el token")
+    void shouldAddServerTiming_WhenTokenMatches() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("s3cret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                ServerTiming timing = ServerTiming.current();
+                timing.add(ServerTiming.Stage.AUTH, System.nanoTime());
+                timing.addStatement(System.nanoTime());
+                res.getWriter().write("{}");
+            }
+        });
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        String header = response.getHeader(ServerTimingFilter.RESPONSE_HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("auth;dur="), header);
+        assertTrue(header.contains("db;dur=") && header.contains("desc=\"1 sentencias\""), header);
+        assertTrue(header.contains("service;dur=") && header.contains("serialize;dur="), header);
+        assertTrue(header.contains("total;dur="), header);
+        assertEquals("{}", response.getContentAsString(), "El cuerpo retenido debe llegar a la respuesta");
+        assertNull(ServerTiming.current(), "El contexto no debe quedar en el hilo");
+    }
+
+    @Test
+    @DisplayName("no debe medir nada sin el token correcto")
+    void shouldNotTime_WhenTokenIsMissingOrWrong() throws Exception {
+        // Arrange
+        AtomicReference<ServerTiming> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                seen.set(ServerTiming.current());
+            }
+        });
+        MockHttpServletResponse wrongToken = new MockHttpServletResponse();
+        MockHttpServletResponse noToken = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("otro"), wrongToken, chain);
+        chain.reset();
+        filter.doFilter(request(null), noToken, chain);
+
+        // Assert
+        assertNull(seen.get());
+        assertNull(wrongToken.getHeader(ServerTimingFilter.RESPONSE_HEADER));
+        assertNull(noToken.getHeader(ServerTimingFilter.RESPONSE_HEADER));
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/transfers");
+        if (token != null) {
+            request.addHeader(ServerTimingFilter.REQUEST_HEADER, token);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,118 @@
+package com.dajham.bankcore.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que los endpoints de diagnóstico de actuator solo los usan los
+ * operadores: cualquiera puede registrarse por la API, así que basta un token
+ * válido para que un cliente lea datos de otros o llene el disco.
+ */
+@SpringBootTest(properties = {
+        "bankcore.operators.usernames=ops",
+        "bankcore.rate-limit.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:actuator;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Actuator - Endpoints de operador")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private String userToken;
+    private String operatorToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userToken = registerAndLogin("customer");
+        operatorToken = registerAndLogin("ops");
+    }
+
+    @Test
+    @DisplayName("Un usuario registrado por la API no debe acceder a las grabaciones JFR")
+    void jfr_ShouldBeForbidden_ForRegularUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/jfr").header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/jfr")
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"intruder"}
+                                """))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/jfr/intruder").header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Un usuario registrado por la API no debe ver las cuentas más disputadas")
+    void hotAccounts_ShouldBeForbidden_ForRegularUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/hotaccounts").header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/hotaccounts/1").header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/hotaccounts").header("Authorization", operatorToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Un usuario registrado por la API no debe ver las decisiones del pool")
+    void dbPool_ShouldBeForbidden_ForRegularUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/dbpool").header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/dbpool").header("Authorization", operatorToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Un operador debe poder listar las grabaciones JFR")
+    void jfr_ShouldBeAllowed_ForOperator() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/jfr").header("Authorization", operatorToken))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * El contexto se comparte entre tests: a partir del segundo el registro
+     * falla porque el usuario ya existe y solo cuenta el login.
+     */
+    private String registerAndLogin(String username) throws Exception {
+        mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username":"%s","password":"secret123","email":"%s@test.local"}
+                        """.formatted(username, username)));
+        MvcResult login = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username":"%s","password":"secret123"}
+                                """.formatted(username)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return "Bearer " + json.readTree(login.getResponse().getContentAsString()).get("token").asText();
+    }
+}
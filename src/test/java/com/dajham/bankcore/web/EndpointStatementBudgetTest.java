@@ -0,0 +1,174 @@
+package com.dajham.bankcore.web;
+
+import com.dajham.bankcore.infrastructure.persistence.statement.SqlBudgetFilter;
+import com.dajham.bankcore.infrastructure.persistence.statement.SqlBudgetProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fija el número de sentencias SQL de cada endpoint de la API. Si un cambio
+ * añade consultas a un endpoint este test falla: o se corrige el cambio o se
+ * actualizan a la vez el valor esperado y el presupuesto de
+ * {@code bankcore.sql-budget.endpoints}.
+ */
+@SpringBootTest(properties = {
+        "bankcore.sql-budget.enabled=true",
+        "bankcore.rate-limit.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:budget;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Endpoints - Presupuesto de sentencias SQL")
+class EndpointStatementBudgetTest {
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetProperties budgets;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private String username;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        username = "budget-" + USERS.incrementAndGet();
+        perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username":"%s","password":"secret123","email":"%s@test.local"}
+                        """.formatted(username, username)), 201);
+        MvcResult login = perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username":"%s","password":"secret123"}
+                        """.formatted(username)), 200);
+        token = "Bearer " + json.readTree(login.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("El registro y el login deben ejecutar solo sus consultas de usuario")
+    void auth_ShouldStayWithinBudget() throws Exception {
+        // Arrange
+        String other = username + "-b";
+
+        // Act
+        MvcResult register = perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username":"%s","password":"secret123","email":"%s@test.local"}
+                        """.formatted(other, other)), 201);
+        MvcResult login = perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username":"%s","password":"secret123"}
+                        """.formatted(other)), 200);
+
+        // Assert: dos comprobaciones de unicidad y la inserción; la carga del usuario
+        assertStatements(register, 3);
+        assertStatements(login, 1);
+    }
+
+    @Test
+    @DisplayName("Los endpoints de cuentas deben cargar el usuario una sola vez")
+    void accounts_ShouldLoadUserOnce() throws Exception {
+        // Arrange
+        JsonNode account = createAccount("100.00");
+
+        // Act
+        MvcResult create = perform(authenticated(post("/api/v1/accounts").param("initialBalance", "10.00")), 201);
+        MvcResult list = perform(authenticated(get("/api/v1/accounts")), 200);
+        MvcResult byId = perform(authenticated(get("/api/v1/accounts/" + account.get("id").asLong())), 200);
+        MvcResult search = perform(authenticated(get("/api/v1/accounts/search")
+                .param("accountNumber", account.get("accountNumber").asText())), 200);
+
+        // Assert: usuario del token y la consulta propia del endpoint; el alta
+        // comprueba el número, inserta la cuenta y asienta el saldo inicial en
+        // un lote (la cuenta del Arrange ya reservó los IDs de los apuntes)
+        assertStatements(create, 4);
+        assertStatements(list, 2);
+        assertStatements(byId, 2);
+        assertStatements(search, 2);
+    }
+
+    @Test
+    @DisplayName("Una transferencia debe ejecutar solo las lecturas y escrituras imprescindibles")
+    void transfer_ShouldStayWithinBudget() throws Exception {
+        // Arrange
+        long source = createAccount("100.00").get("id").asLong();
+        long target = createAccount("0.00").get("id").asLong();
+
+        // Act
+        MvcResult transfer = perform(authenticated(post("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"sourceAccountId":%d,"targetAccountId":%d,"amount":25.00}
+                        """.formatted(source, target))), 201);
+
+        // Assert: usuario, dos cuentas, transacción, el lote de los dos apuntes
+        // y el de las actualizaciones de las cuentas
+        assertStatements(transfer, 6);
+    }
+
+    private JsonNode createAccount(String initialBalance) throws Exception {
+        MvcResult result = perform(authenticated(post("/api/v1/accounts").param("initialBalance", initialBalance)),
+                201);
+        return json.readTree(result.getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", token);
+    }
+
+    private MvcResult perform(RequestBuilder request, int expectedStatus) throws Exception {
+        return mockMvc.perform(request).andExpect(status().is(expectedStatus)).andReturn();
+    }
+
+    private void assertStatements(MvcResult result, long expected) {
+        long statements = (Long) result.getRequest().getAttribute(SqlBudgetFilter.STATEMENTS_ATTRIBUTE);
+        String method = result.getRequest().getMethod();
+        String path = result.getRequest().getServletPath();
+        assertEquals(expected, statements, method + " " + path);
+        assertTrue(statements <= budgetFor(method, path),
+                method + " " + path + " supera su presupuesto de sentencias");
+    }
+
+    private int budgetFor(String method, String path) {
+        return budgets.endpoints().stream()
+                .filter(endpoint -> endpoint.method() == null || endpoint.method().equalsIgnoreCase(method))
+                .filter(endpoint -> pathMatcher.match(endpoint.pattern(), path))
+                .mapToInt(SqlBudgetProperties.Endpoint::maxStatements)
+                .findFirst()
+                .orElse(budgets.defaultBudget());
+    }
+}